@@ -0,0 +1,87 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.benchmark;
+
+import com.syncleus.ferma.DelegatingFramedGraph;
+import com.syncleus.ferma.VertexFrame;
+import com.syncleus.ferma.annotations.FatherEdge;
+import com.syncleus.ferma.annotations.God;
+import com.syncleus.ferma.annotations.GodExtended;
+import com.syncleus.ferma.annotations.GodGraphLoader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures an annotated adjacency getter. The rebuilt benchmark builds the traversal and applies its strategies on
+ * every call, as the getter used to, the template benchmark calls the getter, which copies a traversal template
+ * compiled once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdjacencyTemplateBenchmark {
+    private DelegatingFramedGraph<TinkerGraph> framedGraph;
+    private God saturn;
+
+    @Setup
+    public void setUp() {
+        final TinkerGraph graph = TinkerGraph.open();
+        GodGraphLoader.load(graph);
+        this.framedGraph = new DelegatingFramedGraph<>(graph, Arrays.asList(God.class, FatherEdge.class, GodExtended.class));
+        this.saturn = this.framedGraph.traverse(input -> input.V().has("name", "saturn")).next(God.class);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        this.framedGraph.close();
+    }
+
+    @Benchmark
+    public List<? extends VertexFrame> rebuilt() {
+        return this.saturn.traverse(input -> input.in("father")).toList(VertexFrame.class);
+    }
+
+    @Benchmark
+    public List<? extends God> template() {
+        return this.saturn.getSonsList();
+    }
+
+    @Benchmark
+    public long rebuiltCount() {
+        return this.saturn.getRawTraversal().in("father").count().next();
+    }
+
+    @Benchmark
+    public long templateCount() {
+        return this.saturn.countSons();
+    }
+}
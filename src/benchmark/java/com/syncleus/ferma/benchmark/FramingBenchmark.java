@@ -0,0 +1,94 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.benchmark;
+
+import com.syncleus.ferma.DelegatingFramedGraph;
+import com.syncleus.ferma.Person;
+import com.syncleus.ferma.annotations.God;
+import com.syncleus.ferma.framefactories.ConstructorCache;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of instantiating frames. The newInstance benchmark is how frames used to be created, direct is the
+ * lower bound, and the framing benchmarks go through the complete DelegatingFramedGraph code path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FramingBenchmark {
+
+    private DelegatingFramedGraph<TinkerGraph> untypedGraph;
+    private DelegatingFramedGraph<TinkerGraph> annotatedGraph;
+    private Vertex vertex;
+    private Supplier<Person> cachedConstructor;
+
+    @Setup
+    public void setUp() {
+        final TinkerGraph graph = TinkerGraph.open();
+        this.untypedGraph = new DelegatingFramedGraph<>(graph);
+        this.annotatedGraph = new DelegatingFramedGraph<>(graph, true, Arrays.asList(Person.class, God.class));
+        this.vertex = graph.addVertex();
+        this.cachedConstructor = new ConstructorCache().getConstructor(Person.class);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        this.untypedGraph.close();
+    }
+
+    @Benchmark
+    public Person direct() {
+        return new Person();
+    }
+
+    @Benchmark
+    public Person newInstance() throws ReflectiveOperationException {
+        return Person.class.newInstance();
+    }
+
+    @Benchmark
+    public Person cachedConstructor() {
+        return this.cachedConstructor.get();
+    }
+
+    @Benchmark
+    public Person frameElement() {
+        return this.untypedGraph.frameElementExplicit(this.vertex, Person.class);
+    }
+
+    @Benchmark
+    public God frameAnnotatedElement() {
+        return this.annotatedGraph.frameElementExplicit(this.vertex, God.class);
+    }
+}
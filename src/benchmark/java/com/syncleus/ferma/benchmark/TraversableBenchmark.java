@@ -0,0 +1,91 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.benchmark;
+
+import com.google.common.collect.Lists;
+import com.syncleus.ferma.DelegatingFramedGraph;
+import com.syncleus.ferma.Person;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures reading the results of a traversal as a list, each element read the given number of times. The view
+ * benchmark is how toList used to work, framing an element again on every read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TraversableBenchmark {
+    private static final int VERTEX_COUNT = 1000;
+
+    @Param({"1", "3"})
+    public int reads;
+
+    private DelegatingFramedGraph<TinkerGraph> framedGraph;
+
+    @Setup
+    public void setUp() {
+        this.framedGraph = new DelegatingFramedGraph<>(TinkerGraph.open(), true, Arrays.asList(Person.class));
+        for (int index = 0; index < VERTEX_COUNT; index++)
+            this.framedGraph.addFramedVertex(Person.class);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        this.framedGraph.close();
+    }
+
+    @Benchmark
+    public void view(final Blackhole blackhole) {
+        final List<Element> elements = (List) this.framedGraph.getRawTraversal().V().toList();
+        this.read(Lists.transform(elements, element -> this.framedGraph.frameElement(element, Person.class)), blackhole);
+    }
+
+    @Benchmark
+    public void eager(final Blackhole blackhole) {
+        this.read(this.framedGraph.traverse(input -> input.V()).toList(Person.class), blackhole);
+    }
+
+    @Benchmark
+    public void lazy(final Blackhole blackhole) {
+        this.read(this.framedGraph.traverse(input -> input.V()).toLazyList(Person.class), blackhole);
+    }
+
+    private void read(final List<? extends Person> frames, final Blackhole blackhole) {
+        for (int read = 0; read < this.reads; read++)
+            for (int index = 0; index < frames.size(); index++)
+                blackhole.consume(frames.get(index));
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.benchmark;
+
+import com.syncleus.ferma.DelegatingFramedGraph;
+import com.syncleus.ferma.TVertex;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Transaction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of starting a traversal at a frame. The lookup benchmark starts from the id of the element, which is
+ * how frame traversals used to start, the anchored benchmark starts from the element the frame already holds. The
+ * remote graph charges a fixed amount of work for every element looked up by id, standing in for the round trip to the
+ * backend of a remote or disk based provider.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TraversalStartBenchmark {
+    private static final int LOOKUP_TOKENS = 2000;
+
+    @Param({"tinker", "remote"})
+    public String graphType;
+
+    private DelegatingFramedGraph<Graph> framedGraph;
+    private TVertex frame;
+
+    @Setup
+    public void setUp() {
+        final Graph graph = "remote".equals(this.graphType) ? new RemoteGraph(TinkerGraph.open()) : TinkerGraph.open();
+        this.framedGraph = new DelegatingFramedGraph<>(graph);
+        this.frame = this.framedGraph.addFramedVertex();
+        for (int index = 0; index < 10; index++)
+            this.frame.addFramedEdge("knows", this.framedGraph.addFramedVertex());
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        this.framedGraph.close();
+    }
+
+    @Benchmark
+    public List<Edge> lookup() {
+        return this.framedGraph.getRawTraversal().V(this.frame.getElement().id()).outE("knows").toList();
+    }
+
+    @Benchmark
+    public List<? extends Edge> anchored() {
+        return this.frame.getRawTraversal().outE("knows").toList();
+    }
+
+    /**
+     * A graph which does the work of a round trip whenever elements are looked up.
+     */
+    private static final class RemoteGraph implements Graph {
+        private final Graph delegate;
+
+        private RemoteGraph(final Graph delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Vertex addVertex(final Object... keyValues) {
+            return this.delegate.addVertex(keyValues);
+        }
+
+        @Override
+        public <C extends GraphComputer> C compute(final Class<C> graphComputerClass) {
+            return this.delegate.compute(graphComputerClass);
+        }
+
+        @Override
+        public GraphComputer compute() {
+            return this.delegate.compute();
+        }
+
+        @Override
+        public Iterator<Vertex> vertices(final Object... vertexIds) {
+            Blackhole.consumeCPU(LOOKUP_TOKENS);
+            return this.delegate.vertices(vertexIds);
+        }
+
+        @Override
+        public Iterator<Edge> edges(final Object... edgeIds) {
+            Blackhole.consumeCPU(LOOKUP_TOKENS);
+            return this.delegate.edges(edgeIds);
+        }
+
+        @Override
+        public Transaction tx() {
+            return this.delegate.tx();
+        }
+
+        @Override
+        public void close() throws Exception {
+            this.delegate.close();
+        }
+
+        @Override
+        public Variables variables() {
+            return this.delegate.variables();
+        }
+
+        @Override
+        public Configuration configuration() {
+            return this.delegate.configuration();
+        }
+
+        @Override
+        public Features features() {
+            return this.delegate.features();
+        }
+    }
+}
@@ -86,13 +86,33 @@ public abstract class AbstractEdgeFrame extends AbstractElementFrame implements
         return getGraph().frameElementExplicit(getElement(), kind);
     }
 
+    @Override
+    public <T> T getInVertex(final Class<T> kind) {
+        return getGraph().frameElement(getElement().inVertex(), kind);
+    }
+
+    @Override
+    public <T> T getInVertexExplicit(final Class<T> kind) {
+        return getGraph().frameElementExplicit(getElement().inVertex(), kind);
+    }
+
+    @Override
+    public <T> T getOutVertex(final Class<T> kind) {
+        return getGraph().frameElement(getElement().outVertex(), kind);
+    }
+
+    @Override
+    public <T> T getOutVertexExplicit(final Class<T> kind) {
+        return getGraph().frameElementExplicit(getElement().outVertex(), kind);
+    }
+
     @Override
     public <T extends Traversable<?, ?>> T traverse(final Function<GraphTraversal<Edge, Edge>, GraphTraversal<?, ?>> traverser) {
-        return this.getGraph().traverse(input -> traverser.apply(input.E(getElement().id())));
+        return this.getGraph().traverse(input -> traverser.apply(Traversals.startFrom(input, getElement())));
     }
 
     @Override
     public GraphTraversal<? extends Edge, ? extends Edge> getRawTraversal() {
-        return this.getGraph().getRawTraversal().E(getElement().id());
+        return Traversals.startFrom(this.getGraph().getRawTraversal(), getElement());
     }
 }
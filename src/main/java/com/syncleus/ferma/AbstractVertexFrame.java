@@ -305,11 +305,11 @@ public abstract class AbstractVertexFrame extends AbstractElementFrame implement
 
     @Override
     public <T extends Traversable<?, ?>> T traverse(final Function<GraphTraversal<Vertex, Vertex>, GraphTraversal<?, ?>> traverser) {
-        return this.getGraph().traverse(input -> traverser.apply(input.V(getElement().id())));
+        return this.getGraph().traverse(input -> traverser.apply(Traversals.startFrom(input, getElement())));
     }
 
     @Override
     public GraphTraversal<? extends Vertex, ? extends Vertex> getRawTraversal() {
-        return this.getGraph().getRawTraversal().V(getElement().id());
+        return Traversals.startFrom(this.getGraph().getRawTraversal(), getElement());
     }
 }
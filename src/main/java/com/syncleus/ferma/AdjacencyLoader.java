@@ -0,0 +1,287 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import com.google.common.collect.Maps;
+import com.syncleus.ferma.annotations.Adjacency;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Loads the adjacent vertices of many frames with a single traversal, rather than one traversal per frame. The
+ * adjacent vertices of every frame are grouped by the frame they are adjacent to.
+ *
+ * A loader also remembers what it loaded. While a loader is open on a thread, adjacency getters of annotated frames
+ * which take no type argument answer from the loader for the frames it loaded instead of traversing the graph, so
+ * a list of frames can be rendered with one traversal per adjacency. Adding, setting or removing adjacent vertices
+ * through an annotated frame forgets what the open loader holds for that label, changes made to the graph in any
+ * other way are not seen until the loader is closed. A loader is meant to be used by one thread for the length of a
+ * request.
+ *
+ * <pre>
+ * try (final AdjacencyLoader loader = new AdjacencyLoader(graph).open()) {
+ *     loader.load(people, Person.class.getMethod("getKnowsPeople"), Person.class);
+ *     for (final Person person : people)
+ *         render(person.getKnowsPeople());
+ * }
+ * </pre>
+ *
+ * @since 3.3.1
+ */
+public class AdjacencyLoader implements AutoCloseable {
+    private static final ThreadLocal<AdjacencyLoader> OPEN = new ThreadLocal<>();
+
+    private final FramedGraph graph;
+    private final Map<String, Map<Object, List<Vertex>>> adjacencies = new HashMap<>();
+    private AdjacencyLoader enclosing;
+    private boolean open;
+
+    /**
+     * @param graph The graph the frames being loaded belong to.
+     */
+    public AdjacencyLoader(final FramedGraph graph) {
+        if (graph == null)
+            throw new IllegalArgumentException("graph can not be null");
+
+        this.graph = graph;
+    }
+
+    public FramedGraph getGraph() {
+        return this.graph;
+    }
+
+    /**
+     * @return The loader open on the current thread, null if there is none.
+     */
+    public static AdjacencyLoader current() {
+        return OPEN.get();
+    }
+
+    /**
+     * Forgets what the loader open on the current thread holds for a label, if a loader is open.
+     *
+     * @param label The label of the edges which changed.
+     */
+    public static void invalidate(final String label) {
+        final AdjacencyLoader loader = OPEN.get();
+        if (loader != null)
+            for (final Direction direction : Direction.values())
+                loader.adjacencies.remove(key(label, direction));
+    }
+
+    /**
+     * Opens the loader on the current thread, annotated adjacency getters answer from it until it is closed. A loader
+     * opened while another is open replaces it until it is closed.
+     *
+     * @return This loader.
+     */
+    public AdjacencyLoader open() {
+        if (this.open)
+            throw new IllegalStateException("loader is already open");
+
+        this.enclosing = OPEN.get();
+        OPEN.set(this);
+        this.open = true;
+        return this;
+    }
+
+    /**
+     * Closes the loader on the current thread, restoring the loader it replaced, and forgets everything it loaded.
+     */
+    @Override
+    public void close() {
+        if (this.open) {
+            if (OPEN.get() != this)
+                throw new IllegalStateException("loader must be closed on the thread it was opened on, after the loaders opened within it");
+
+            if (this.enclosing == null)
+                OPEN.remove();
+            else
+                OPEN.set(this.enclosing);
+            this.enclosing = null;
+            this.open = false;
+        }
+        this.adjacencies.clear();
+    }
+
+    /**
+     * Loads the vertices adjacent to each frame along edges of a label, framed with the type resolver.
+     *
+     * @param <F> The type of the frames being loaded.
+     * @param <N> The type of the adjacent frames.
+     * @param frames The frames to load the adjacent vertices of.
+     * @param label The label of the edges.
+     * @param direction The direction of the edges, relative to the frames.
+     * @param kind The kind of frame the adjacent vertices are framed as.
+     * @return The adjacent frames of each frame, in the order the frames were given.
+     */
+    public <F extends VertexFrame, N> Map<F, List<? extends N>> load(final Collection<? extends F> frames, final String label, final Direction direction, final Class<N> kind) {
+        return this.load(frames, label, direction, element -> this.graph.frameElement(element, kind));
+    }
+
+    /**
+     * Loads the vertices adjacent to each frame along edges of a label, framed explicitly as the kind requested.
+     *
+     * @param <F> The type of the frames being loaded.
+     * @param <N> The type of the adjacent frames.
+     * @param frames The frames to load the adjacent vertices of.
+     * @param label The label of the edges.
+     * @param direction The direction of the edges, relative to the frames.
+     * @param kind The kind of frame the adjacent vertices are framed as.
+     * @return The adjacent frames of each frame, in the order the frames were given.
+     */
+    public <F extends VertexFrame, N> Map<F, List<? extends N>> loadExplicit(final Collection<? extends F> frames, final String label, final Direction direction, final Class<N> kind) {
+        return this.load(frames, label, direction, element -> this.graph.frameElementExplicit(element, kind));
+    }
+
+    /**
+     * Loads the vertices adjacent to each frame along the adjacency of an annotated method, framed with the type
+     * resolver.
+     *
+     * @param <F> The type of the frames being loaded.
+     * @param <N> The type of the adjacent frames.
+     * @param frames The frames to load the adjacent vertices of.
+     * @param adjacency A method annotated with {@link Adjacency}.
+     * @param kind The kind of frame the adjacent vertices are framed as.
+     * @return The adjacent frames of each frame, in the order the frames were given.
+     */
+    public <F extends VertexFrame, N> Map<F, List<? extends N>> load(final Collection<? extends F> frames, final Method adjacency, final Class<N> kind) {
+        final Adjacency annotation = annotationOf(adjacency);
+        return this.load(frames, annotation.label(), annotation.direction(), kind);
+    }
+
+    /**
+     * Loads the vertices adjacent to each frame along the adjacency of an annotated method, framed explicitly as the
+     * kind requested.
+     *
+     * @param <F> The type of the frames being loaded.
+     * @param <N> The type of the adjacent frames.
+     * @param frames The frames to load the adjacent vertices of.
+     * @param adjacency A method annotated with {@link Adjacency}.
+     * @param kind The kind of frame the adjacent vertices are framed as.
+     * @return The adjacent frames of each frame, in the order the frames were given.
+     */
+    public <F extends VertexFrame, N> Map<F, List<? extends N>> loadExplicit(final Collection<? extends F> frames, final Method adjacency, final Class<N> kind) {
+        final Adjacency annotation = annotationOf(adjacency);
+        return this.loadExplicit(frames, annotation.label(), annotation.direction(), kind);
+    }
+
+    /**
+     * The frames adjacent to a frame this loader has loaded, framed with the type resolver.
+     *
+     * @param <N> The type of the adjacent frames.
+     * @param frame The frame.
+     * @param label The label of the edges.
+     * @param direction The direction of the edges, relative to the frame.
+     * @param kind The kind of frame the adjacent vertices are framed as.
+     * @return The adjacent frames, null if the loader has not loaded them.
+     */
+    public <N> List<? extends N> getLoaded(final VertexFrame frame, final String label, final Direction direction, final Class<N> kind) {
+        if (frame.getGraph() != this.graph)
+            return null;
+
+        final Map<Object, List<Vertex>> adjacency = this.adjacencies.get(key(label, direction));
+        final List<Vertex> adjacent = adjacency == null ? null : adjacency.get(frame.getElement().id());
+        if (adjacent == null)
+            return null;
+
+        final List<N> frames = new ArrayList<>(adjacent.size());
+        for (final Vertex vertex : adjacent)
+            frames.add(this.graph.frameElement(vertex, kind));
+        return frames;
+    }
+
+    private <F extends VertexFrame, N> Map<F, List<? extends N>> load(final Collection<? extends F> frames, final String label, final Direction direction, final Function<Vertex, N> framer) {
+        if (frames == null)
+            throw new IllegalArgumentException("frames can not be null");
+        if (label == null)
+            throw new IllegalArgumentException("label can not be null");
+        if (direction == null)
+            throw new IllegalArgumentException("direction can not be null");
+
+        final Map<Object, List<Vertex>> adjacency = this.fetch(frames, label, direction);
+
+        // a vertex adjacent to several frames is framed once and shared between them
+        final Map<Object, N> framed = new HashMap<>();
+        final Map<F, List<? extends N>> loaded = Maps.newLinkedHashMapWithExpectedSize(frames.size());
+        for (final F frame : frames) {
+            final List<Vertex> adjacent = adjacency.get(frame.getElement().id());
+            final List<N> adjacentFrames = new ArrayList<>(adjacent.size());
+            for (final Vertex vertex : adjacent)
+                adjacentFrames.add(framed.computeIfAbsent(vertex.id(), id -> framer.apply(vertex)));
+            loaded.put(frame, adjacentFrames);
+        }
+        return loaded;
+    }
+
+    /**
+     * The adjacent vertices of each frame by the id of its vertex, traversing the graph once for the frames which were
+     * not loaded before.
+     */
+    private Map<Object, List<Vertex>> fetch(final Collection<? extends VertexFrame> frames, final String label, final Direction direction) {
+        final Map<Object, List<Vertex>> adjacency = this.adjacencies.computeIfAbsent(key(label, direction), key -> new HashMap<>());
+
+        final Map<Object, Vertex> missing = new LinkedHashMap<>();
+        for (final VertexFrame frame : frames) {
+            final Vertex vertex = frame.getElement();
+            if (!adjacency.containsKey(vertex.id()))
+                missing.put(vertex.id(), vertex);
+        }
+
+        if (!missing.isEmpty())
+            adjacency.putAll(this.graph.getRawTraversal().inject(missing.values().toArray(new Vertex[missing.size()])).<Object, List<Vertex>>group().by(T.id).by(adjacent(label, direction).fold()).next());
+        return adjacency;
+    }
+
+    private static GraphTraversal<Vertex, Vertex> adjacent(final String label, final Direction direction) {
+        switch (direction) {
+            case IN:
+                return __.in(label);
+            case OUT:
+                return __.out(label);
+            case BOTH:
+                return __.both(label);
+            default:
+                throw new IllegalStateException("Direction not recognized.");
+        }
+    }
+
+    private static Adjacency annotationOf(final Method adjacency) {
+        if (adjacency == null)
+            throw new IllegalArgumentException("adjacency can not be null");
+
+        final Adjacency annotation = adjacency.getAnnotation(Adjacency.class);
+        if (annotation == null)
+            throw new IllegalArgumentException(adjacency.getName() + " is not annotated with @Adjacency");
+        return annotation;
+    }
+
+    private static String key(final String label, final Direction direction) {
+        return direction.name() + ':' + label;
+    }
+}
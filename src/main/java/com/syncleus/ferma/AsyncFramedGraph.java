@@ -0,0 +1,164 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Runs the operations of a framed graph on an executor, returning a future of each result instead of blocking the
+ * calling thread. Any executor can be used, including one starting a virtual thread per task on Java versions which
+ * have them.
+ *
+ * Graph transactions are bound to the thread they are opened on. When the graph supports transactions each operation
+ * therefore runs in a transaction of its own, opened and committed on the thread executing the operation, and rolled
+ * back if the operation fails, so no transaction is left open on a pooled thread. Frames returned by an operation
+ * belong to that committed transaction, work which must be atomic belongs in a single {@link #submit(Function)}.
+ *
+ * At most a fixed number of operations are in flight at once. Further operations are not queued, their futures fail
+ * straight away with a {@link RejectedExecutionException} so callers can shed load rather than block.
+ *
+ * @since 3.3.1
+ */
+public class AsyncFramedGraph {
+    private final WrappedFramedGraph<?> graph;
+    private final Executor executor;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+
+    /**
+     * @param graph The graph the operations are run against.
+     * @param executor The executor the operations are run on.
+     * @param maxInFlight The largest number of operations submitted but not yet completed.
+     */
+    public AsyncFramedGraph(final WrappedFramedGraph<?> graph, final Executor executor, final int maxInFlight) {
+        if (graph == null)
+            throw new IllegalArgumentException("graph can not be null");
+        if (executor == null)
+            throw new IllegalArgumentException("executor can not be null");
+        if (maxInFlight < 1)
+            throw new IllegalArgumentException("maxInFlight must be at least 1");
+
+        this.graph = graph;
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    public WrappedFramedGraph<?> getGraph() {
+        return this.graph;
+    }
+
+    /**
+     * @return The number of operations submitted but not yet completed.
+     */
+    public int getInFlightCount() {
+        return this.maxInFlight - this.inFlight.availablePermits();
+    }
+
+    /**
+     * Runs an operation against the graph on the executor, in a transaction of its own if the graph supports them.
+     *
+     * @param <R> The type of the result.
+     * @param operation The operation.
+     * @return A future of the result of the operation.
+     */
+    public <R> CompletableFuture<R> submit(final Function<? super WrappedFramedGraph<?>, R> operation) {
+        if (operation == null)
+            throw new IllegalArgumentException("operation can not be null");
+
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        if (!this.inFlight.tryAcquire()) {
+            result.completeExceptionally(new RejectedExecutionException(this.maxInFlight + " operations are already in flight"));
+            return result;
+        }
+
+        try {
+            this.executor.execute(() -> {
+                // the operation is no longer in flight once its future completes
+                final R value;
+                try {
+                    value = this.run(operation);
+                }
+                catch (final Throwable caught) {
+                    this.inFlight.release();
+                    result.completeExceptionally(caught);
+                    return;
+                }
+                this.inFlight.release();
+                result.complete(value);
+            });
+        }
+        catch (final RejectedExecutionException caught) {
+            this.inFlight.release();
+            result.completeExceptionally(caught);
+        }
+        return result;
+    }
+
+    private <R> R run(final Function<? super WrappedFramedGraph<?>, R> operation) {
+        if (!this.graph.getBaseGraph().features().graph().supportsTransactions())
+            return operation.apply(this.graph);
+
+        final WrappedTransaction transaction = this.graph.tx();
+        transaction.readWrite();
+        final R result;
+        try {
+            result = operation.apply(this.graph);
+        }
+        catch (final RuntimeException | Error caught) {
+            transaction.rollback();
+            throw caught;
+        }
+        transaction.commit();
+        return result;
+    }
+
+    public <T> CompletableFuture<T> addFramedVertex(final Class<T> kind) {
+        return this.submit(framedGraph -> framedGraph.addFramedVertex(kind));
+    }
+
+    public <T> CompletableFuture<T> addFramedVertex(final ClassInitializer<T> initializer, final Object... keyValues) {
+        return this.submit(framedGraph -> framedGraph.addFramedVertex(initializer, keyValues));
+    }
+
+    public <T> CompletableFuture<T> addFramedEdge(final VertexFrame source, final VertexFrame destination, final String label, final Class<T> kind) {
+        return this.submit(framedGraph -> framedGraph.addFramedEdge(source, destination, label, kind));
+    }
+
+    public <T> CompletableFuture<T> getFramedVertex(final Class<T> kind, final Object id) {
+        return this.submit(framedGraph -> framedGraph.getFramedVertex(kind, id));
+    }
+
+    /**
+     * Runs a traversal on the executor and frames all of its results there.
+     *
+     * @param <T> The type used to frame the results.
+     * @param traverser The traversal to run.
+     * @param kind The kind of frame.
+     * @return A future of the framed results.
+     */
+    public <T> CompletableFuture<List<? extends T>> traverse(final Function<GraphTraversalSource, GraphTraversal<?, ?>> traverser, final Class<T> kind) {
+        return this.submit(framedGraph -> framedGraph.traverse(traverser).toList(kind));
+    }
+}
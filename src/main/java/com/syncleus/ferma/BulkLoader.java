@@ -0,0 +1,302 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Loads large numbers of framed vertices and edges, committing every fixed number of elements rather than once per
+ * element or once for the whole load. Elements are created through {@link FramedGraph#addFramedVertex(ClassInitializer,
+ * Object...)} and {@link FramedGraph#addFramedEdge(VertexFrame, VertexFrame, String, ClassInitializer, Object...)},
+ * so they carry the same type properties as elements added one at a time.
+ *
+ * Vertices are identified by an external key, a property of their initializer. The ids of the vertices loaded are
+ * kept in a bounded cache so edges can be resolved to their endpoints by key, endpoints which are no longer cached are
+ * looked up by their key property, which should be indexed.
+ *
+ * When the graph supports transactions a batch which fails is rolled back and the batches before it stay committed.
+ * A loader is meant to be used by one thread.
+ *
+ * <pre>
+ * final BulkLoader loader = new BulkLoader(graph, 10000, 1000000);
+ * loader.setProgressListener(progress -&gt; log.info(progress.getElementsPerSecond() + " elements/s"));
+ * loader.loadVertices(people.map(Person::initializer), "uid");
+ * loader.loadEdges(friendships.map(f -&gt; new BulkLoader.EdgeSpec("knows", f.from(), f.to(), Knows.DEFAULT_INITIALIZER)), "uid");
+ * </pre>
+ *
+ * @since 3.3.1
+ */
+public class BulkLoader {
+    public static final int DEFAULT_BATCH_SIZE = 10000;
+    public static final int DEFAULT_CACHE_SIZE = 1000000;
+
+    private final WrappedFramedGraph<?> graph;
+    private final int batchSize;
+    private final Cache<Object, Object> ids;
+    private final boolean transactional;
+    private Consumer<? super Progress> progressListener;
+    private long elapsed;
+    private long loadStarted;
+    private long loaded;
+    private long batches;
+    private int pending;
+
+    public BulkLoader(final WrappedFramedGraph<?> graph) {
+        this(graph, DEFAULT_BATCH_SIZE, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param graph The graph the elements are loaded into.
+     * @param batchSize The number of elements committed together.
+     * @param cacheSize The largest number of vertex ids kept to resolve edge endpoints by key.
+     */
+    public BulkLoader(final WrappedFramedGraph<?> graph, final int batchSize, final int cacheSize) {
+        if (graph == null)
+            throw new IllegalArgumentException("graph can not be null");
+        if (batchSize < 1)
+            throw new IllegalArgumentException("batchSize must be at least 1");
+        if (cacheSize < 0)
+            throw new IllegalArgumentException("cacheSize can not be negative");
+
+        this.graph = graph;
+        this.batchSize = batchSize;
+        this.ids = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+        this.transactional = graph.getBaseGraph().features().graph().supportsTransactions();
+    }
+
+    public WrappedFramedGraph<?> getGraph() {
+        return this.graph;
+    }
+
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    /**
+     * @param progressListener Called after every batch is committed, null to stop reporting progress.
+     */
+    public void setProgressListener(final Consumer<? super Progress> progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * @return The elements committed by this loader so far, and the time spent loading them.
+     */
+    public Progress getProgress() {
+        return new Progress(this.loaded, this.batches, this.elapsed + (this.loadStarted == 0 ? 0 : System.nanoTime() - this.loadStarted));
+    }
+
+    /**
+     * Adds a vertex for each initializer, committing every batch.
+     *
+     * @param initializers The initializers of the vertices.
+     * @param keyProperty The initial property identifying each vertex to the edges loaded later, null if edges will
+     *                    not be resolved through this loader.
+     * @return The number of vertices added.
+     */
+    public long loadVertices(final Iterator<? extends ClassInitializer<?>> initializers, final String keyProperty) {
+        if (initializers == null)
+            throw new IllegalArgumentException("initializers can not be null");
+
+        return this.load(initializers, initializer -> {
+            final VertexFrame vertex = (VertexFrame) this.graph.addFramedVertex(initializer);
+            if (keyProperty != null) {
+                final Object key = initializer.getInitialProperties().get(keyProperty);
+                if (key != null)
+                    this.ids.put(key, vertex.getId());
+            }
+        });
+    }
+
+    public long loadVertices(final Stream<? extends ClassInitializer<?>> initializers, final String keyProperty) {
+        if (initializers == null)
+            throw new IllegalArgumentException("initializers can not be null");
+
+        return this.loadVertices(initializers.iterator(), keyProperty);
+    }
+
+    /**
+     * Adds an edge for each spec between the vertices with the keys it names, committing every batch.
+     *
+     * @param edges The edges.
+     * @param keyProperty The property identifying the endpoints of the edges.
+     * @return The number of edges added.
+     */
+    public long loadEdges(final Iterator<? extends EdgeSpec> edges, final String keyProperty) {
+        if (edges == null)
+            throw new IllegalArgumentException("edges can not be null");
+        if (keyProperty == null)
+            throw new IllegalArgumentException("keyProperty can not be null");
+
+        return this.load(edges, edge -> {
+            final VertexFrame source = this.endpoint(keyProperty, edge.getSourceKey());
+            final VertexFrame destination = this.endpoint(keyProperty, edge.getDestinationKey());
+            this.graph.addFramedEdge(source, destination, edge.getLabel(), edge.getInitializer());
+        });
+    }
+
+    public long loadEdges(final Stream<? extends EdgeSpec> edges, final String keyProperty) {
+        if (edges == null)
+            throw new IllegalArgumentException("edges can not be null");
+
+        return this.loadEdges(edges.iterator(), keyProperty);
+    }
+
+    private <E> long load(final Iterator<? extends E> elements, final Consumer<? super E> add) {
+        this.loadStarted = System.nanoTime();
+        long count = 0;
+        try {
+            while (elements.hasNext()) {
+                add.accept(elements.next());
+                count++;
+                if (++this.pending >= this.batchSize)
+                    this.commit();
+            }
+            this.commit();
+        }
+        catch (final RuntimeException | Error caught) {
+            this.rollback();
+            throw caught;
+        }
+        finally {
+            this.elapsed += System.nanoTime() - this.loadStarted;
+            this.loadStarted = 0;
+        }
+        return count;
+    }
+
+    private void commit() {
+        if (this.pending == 0)
+            return;
+
+        if (this.transactional)
+            this.graph.tx().commit();
+        this.loaded += this.pending;
+        this.batches++;
+        this.pending = 0;
+
+        final Consumer<? super Progress> listener = this.progressListener;
+        if (listener != null)
+            listener.accept(this.getProgress());
+    }
+
+    private void rollback() {
+        if (this.transactional)
+            this.graph.tx().rollback();
+        // the cache may hold ids of vertices which were rolled back
+        if (this.pending > 0)
+            this.ids.invalidateAll();
+        this.pending = 0;
+    }
+
+    private VertexFrame endpoint(final String keyProperty, final Object key) {
+        final Object id = this.ids.getIfPresent(key);
+        if (id != null) {
+            final Iterator<Vertex> cached = this.graph.getBaseGraph().vertices(id);
+            if (cached.hasNext())
+                return this.graph.frameElementExplicit(cached.next(), TVertex.class);
+        }
+
+        final GraphTraversal<Vertex, Vertex> found = this.graph.getRawTraversal().V().has(keyProperty, key);
+        if (!found.hasNext())
+            throw new IllegalStateException("no vertex has " + keyProperty + " " + key);
+
+        final Vertex vertex = found.next();
+        this.ids.put(key, vertex.id());
+        return this.graph.frameElementExplicit(vertex, TVertex.class);
+    }
+
+    /**
+     * An edge to load, between the vertices with two keys.
+     */
+    public static final class EdgeSpec {
+        private final String label;
+        private final Object sourceKey;
+        private final Object destinationKey;
+        private final ClassInitializer<?> initializer;
+
+        public EdgeSpec(final String label, final Object sourceKey, final Object destinationKey, final ClassInitializer<?> initializer) {
+            if (label == null)
+                throw new IllegalArgumentException("label can not be null");
+            if (sourceKey == null)
+                throw new IllegalArgumentException("sourceKey can not be null");
+            if (destinationKey == null)
+                throw new IllegalArgumentException("destinationKey can not be null");
+            if (initializer == null)
+                throw new IllegalArgumentException("initializer can not be null");
+
+            this.label = label;
+            this.sourceKey = sourceKey;
+            this.destinationKey = destinationKey;
+            this.initializer = initializer;
+        }
+
+        public String getLabel() {
+            return this.label;
+        }
+
+        public Object getSourceKey() {
+            return this.sourceKey;
+        }
+
+        public Object getDestinationKey() {
+            return this.destinationKey;
+        }
+
+        public ClassInitializer<?> getInitializer() {
+            return this.initializer;
+        }
+    }
+
+    /**
+     * The elements a loader has committed and the time it has spent loading them.
+     */
+    public static final class Progress {
+        private final long elements;
+        private final long batches;
+        private final long elapsedNanos;
+
+        Progress(final long elements, final long batches, final long elapsedNanos) {
+            this.elements = elements;
+            this.batches = batches;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public long getElements() {
+            return this.elements;
+        }
+
+        public long getBatches() {
+            return this.batches;
+        }
+
+        public long getElapsed(final TimeUnit unit) {
+            return unit.convert(this.elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+
+        public double getElementsPerSecond() {
+            return this.elapsedNanos == 0 ? 0 : this.elements * (double) TimeUnit.SECONDS.toNanos(1) / this.elapsedNanos;
+        }
+    }
+}
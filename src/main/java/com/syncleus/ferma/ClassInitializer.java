@@ -15,7 +15,32 @@
  */
 package com.syncleus.ferma;
 
+import java.util.Collections;
+import java.util.Map;
+
 public interface ClassInitializer<C> {
     Class<C> getInitializationType();
     void initalize(C frame);
+
+    /**
+     * The properties new elements are created with, written in the same call which creates the element rather than
+     * one at a time afterwards. The new frame is then passed to {@link #initalizeCreated(Object)}.
+     *
+     * @return The properties by key, empty if the initializer only sets them in {@link #initalize(Object)}.
+     * @since 3.3.1
+     */
+    default Map<String, Object> getInitialProperties() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Initializes the frame of an element which was created with the {@link #getInitialProperties() initial
+     * properties}, so only what {@link #initalize(Object)} does besides setting them is left to do.
+     *
+     * @param frame The frame of the new element.
+     * @since 3.3.1
+     */
+    default void initalizeCreated(final C frame) {
+        this.initalize(frame);
+    }
 }
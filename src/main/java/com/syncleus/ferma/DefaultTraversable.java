@@ -16,14 +16,25 @@
 package com.syncleus.ferma;
 
 import java.util.function.Function;
-import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.FilterStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.T;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class DefaultTraversable<PE, E> implements Traversable<PE, E>{
     final private GraphTraversal<PE, E> baseTraversal;
@@ -75,72 +86,52 @@ public class DefaultTraversable<PE, E> implements Traversable<PE, E>{
 
     @Override
     public VertexFrame nextOrAdd() {
-        try {
+        if (baseTraversal.hasNext())
             return this.parentGraph.frameElement((Element) baseTraversal.next(), VertexFrame.class);
-        }
-        catch (final NoSuchElementException e) {
+        else
             return this.parentGraph.addFramedVertex(TVertex.DEFAULT_INITIALIZER, null);
-        }
     }
 
     @Override
     public <N> N nextOrAddExplicit(final ClassInitializer<N> initializer) {
-        try {
+        if (baseTraversal.hasNext())
             return this.parentGraph.frameElementExplicit((Element) baseTraversal.next(), initializer.getInitializationType());
-        }
-        catch (final NoSuchElementException e) {
+        else
             return this.parentGraph.addFramedVertexExplicit(initializer);
-        }
     }
 
     @Override
     public <N> N nextOrAddExplicit(final Class<N> kind) {
-        try {
+        if (baseTraversal.hasNext())
             return this.parentGraph.frameElementExplicit((Element) baseTraversal.next(), kind);
-        }
-        catch (final NoSuchElementException e) {
+        else
             return this.parentGraph.addFramedVertexExplicit(kind);
-        }
     }
 
     @Override
     public <N> N nextOrAdd(final ClassInitializer<N> initializer) {
-        try {
+        if (baseTraversal.hasNext())
             return this.parentGraph.frameElement((Element) baseTraversal.next(), initializer.getInitializationType());
-        }
-        catch (final NoSuchElementException e) {
+        else
             return this.parentGraph.addFramedVertex(initializer);
-        }
     }
 
     @Override
     public <N> N nextOrAdd(final Class<N> kind) {
-        try {
+        if (baseTraversal.hasNext())
             return this.parentGraph.frameElement((Element) baseTraversal.next(), kind);
-        }
-        catch (final NoSuchElementException e) {
+        else
             return this.parentGraph.addFramedVertex(kind);
-        }
     }
 
     @Override
     public <N> List<? extends N> next(final int amount, final Class<N> kind) {
-        return Lists.transform((List<Element>) this.baseTraversal.next(amount), new com.google.common.base.Function<Element, N>() {
-            @Override
-            public N apply(final Element input) {
-                return parentGraph.frameElement(input, kind);
-            }
-        });
+        return frameAll((List<Element>) this.baseTraversal.next(amount), input -> parentGraph.frameElement(input, kind));
     }
 
     @Override
     public <N> List<? extends N> nextExplicit(final int amount, final Class<N> kind) {
-        return Lists.transform((List<Element>) this.baseTraversal.next(amount), new com.google.common.base.Function<Element, N>() {
-            @Override
-            public N apply(final Element input) {
-                return parentGraph.frameElementExplicit(input, kind);
-            }
-        });
+        return frameAll((List<Element>) this.baseTraversal.next(amount), input -> parentGraph.frameElementExplicit(input, kind));
     }
 
     @Override
@@ -175,31 +166,138 @@ public class DefaultTraversable<PE, E> implements Traversable<PE, E>{
 
     @Override
     public <N> List<? extends N> toList(final Class<N> kind) {
-        return Lists.transform((List<Element>) this.baseTraversal.toList(), new com.google.common.base.Function<Element, N>() {
-            @Override
-            public N apply(final Element input) {
-                return parentGraph.frameElement(input, kind);
-            }
-        });
+        return frameAll((List<Element>) this.baseTraversal.toList(), input -> parentGraph.frameElement(input, kind));
     }
 
     @Override
     public <N> List<? extends N> toListExplicit(final Class<N> kind) {
-        return Lists.transform((List<Element>) this.baseTraversal.toList(), new com.google.common.base.Function<Element, N>() {
-            @Override
-            public N apply(final Element input) {
-                return parentGraph.frameElementExplicit(input, kind);
-            }
-        });
+        return frameAll((List<Element>) this.baseTraversal.toList(), input -> parentGraph.frameElementExplicit(input, kind));
+    }
+
+    @Override
+    public <N> List<? extends N> toLazyList(final Class<N> kind) {
+        return new MemoizingFrameList<>((List<Element>) this.baseTraversal.toList(), input -> parentGraph.frameElement(input, kind));
+    }
+
+    @Override
+    public <N> List<? extends N> toLazyListExplicit(final Class<N> kind) {
+        return new MemoizingFrameList<>((List<Element>) this.baseTraversal.toList(), input -> parentGraph.frameElementExplicit(input, kind));
     }
 
     @Override
     public <N> Set<? extends N> toSet(final Class<N> kind) {
-        return Sets.newHashSet(toList(kind));
+        return frameAllUnique((List<Element>) this.baseTraversal.toList(), input -> parentGraph.frameElement(input, kind));
     }
 
     @Override
     public <N> Set<? extends N> toSetExplicit(final Class<N> kind) {
-        return Sets.newHashSet(toListExplicit(kind));
+        return frameAllUnique((List<Element>) this.baseTraversal.toList(), input -> parentGraph.frameElementExplicit(input, kind));
+    }
+
+    @Override
+    public <N> Stream<N> stream(final Class<N> kind) {
+        return this.stream(input -> parentGraph.frameElement(input, kind));
+    }
+
+    @Override
+    public <N> Stream<N> streamExplicit(final Class<N> kind) {
+        return this.stream(input -> parentGraph.frameElementExplicit(input, kind));
+    }
+
+    private <N> Stream<N> stream(final Function<Element, N> framer) {
+        final FrameSpliterator<N> frames = new FrameSpliterator<>(this.baseTraversal, framer, FrameSpliterator.DEFAULT_BATCH_SIZE);
+        return StreamSupport.stream(frames, false).onClose(() -> {
+            try {
+                this.baseTraversal.close();
+            }
+            catch (final Exception caught) {
+                throw new IllegalStateException("Traversal could not be closed", caught);
+            }
+        });
+    }
+
+    @Override
+    public <N> Page<N> page(final Class<N> kind, final int pageSize, final String cursor) {
+        return this.page(kind, pageSize, cursor, false);
+    }
+
+    @Override
+    public <N> Page<N> page(final Class<N> kind, final int pageSize, final String cursor, final boolean sort) {
+        return this.page(pageSize, cursor, sort, input -> parentGraph.frameElement(input, kind));
+    }
+
+    @Override
+    public <N> Page<N> pageExplicit(final Class<N> kind, final int pageSize, final String cursor) {
+        return this.pageExplicit(kind, pageSize, cursor, false);
+    }
+
+    @Override
+    public <N> Page<N> pageExplicit(final Class<N> kind, final int pageSize, final String cursor, final boolean sort) {
+        return this.page(pageSize, cursor, sort, input -> parentGraph.frameElementExplicit(input, kind));
+    }
+
+    /**
+     * Fetches one element more than the page holds to learn whether there is a following page.
+     */
+    private <N> Page<N> page(final int pageSize, final String cursor, final boolean sort, final Function<Element, N> framer) {
+        if (pageSize < 1)
+            throw new IllegalArgumentException("pageSize must be at least 1");
+
+        GraphTraversal<PE, E> traversal = this.baseTraversal;
+        if (cursor != null)
+            traversal = afterId(traversal, Page.decodeCursor(cursor));
+        if (sort)
+            traversal = traversal.order().by(T.id, Order.incr);
+        final List<Element> elements = (List<Element>) traversal.limit(pageSize + 1).toList();
+
+        if (elements.size() > pageSize) {
+            final List<Element> pageElements = elements.subList(0, pageSize);
+            return new Page<>(frameAll(pageElements, framer), Page.encodeCursor(pageElements.get(pageSize - 1).id()));
+        }
+        else
+            return new Page<>(frameAll(elements, framer), null);
+    }
+
+    /**
+     * Filters the traversal to the elements with an id greater than the given one. When every step after the start
+     * only filters, the elements emitted are the elements started from, so the filter is placed right after the start
+     * step where the graph can fold it into the lookup of the start elements.
+     */
+    private static <S, R> GraphTraversal<S, R> afterId(final GraphTraversal<S, R> traversal, final Object id) {
+        final Traversal.Admin<S, R> admin = traversal.asAdmin();
+        final List<Step> steps = admin.getSteps();
+        for (int index = 1; index < steps.size(); index++)
+            if (!(steps.get(index) instanceof FilterStep))
+                return traversal.has(T.id, P.gt(id));
+
+        TraversalHelper.insertAfterStep(new HasStep(admin, new HasContainer(T.id.getAccessor(), P.gt(id))), (Step) admin.getStartStep(), admin);
+        return traversal;
+    }
+
+    @Override
+    public <N> FramePublisher<N> publisher(final Class<N> kind, final Executor executor) {
+        return new FramePublisher<>(this.baseTraversal, input -> parentGraph.frameElement(input, kind), executor);
+    }
+
+    @Override
+    public <N> FramePublisher<N> publisherExplicit(final Class<N> kind, final Executor executor) {
+        return new FramePublisher<>(this.baseTraversal, input -> parentGraph.frameElementExplicit(input, kind), executor);
+    }
+
+    /**
+     * Frames every element exactly once, in order.
+     */
+    private static <N> List<N> frameAll(final List<Element> elements, final Function<Element, N> framer) {
+        final List<N> frames = new ArrayList<>(elements.size());
+        for (final Element element : elements)
+            frames.add(framer.apply(element));
+        return frames;
+    }
+
+    private static <N> Set<N> frameAllUnique(final List<Element> elements, final Function<Element, N> framer) {
+        final Set<N> frames = Sets.newLinkedHashSetWithExpectedSize(elements.size());
+        for (final Element element : elements)
+            frames.add(framer.apply(element));
+        return frames;
     }
 }
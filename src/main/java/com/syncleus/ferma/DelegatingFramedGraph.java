@@ -30,15 +30,25 @@ import com.syncleus.ferma.typeresolvers.UntypedTypeResolver;
 import com.syncleus.ferma.typeresolvers.TypeResolver;
 import com.syncleus.ferma.typeresolvers.PolymorphicTypeResolver;
 import com.google.common.collect.Iterators;
+import com.google.common.util.concurrent.Striped;
+import com.syncleus.ferma.framefactories.annotation.AbstractAnnotationFrameFactory;
 import com.syncleus.ferma.framefactories.annotation.AnnotationFrameFactory;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
 
 public class DelegatingFramedGraph<G extends Graph> implements WrappedFramedGraph<G>{
 
@@ -46,6 +56,7 @@ public class DelegatingFramedGraph<G extends Graph> implements WrappedFramedGrap
     private final TypeResolver untypedResolver;
     private final FrameFactory builder;
     private final G delegate;
+    private volatile Striped<Lock> upsertLocks;
 
     @Override
     public G getBaseGraph() {
@@ -220,6 +231,30 @@ public class DelegatingFramedGraph<G extends Graph> implements WrappedFramedGrap
         return builder;
     }
 
+    /**
+     * Generates the frame classes for every type known to the reflection cache in parallel on the common ForkJoin
+     * pool. Intended to be called right after construction so the first request for a type never pays for class
+     * generation. Does nothing unless annotations are supported.
+     */
+    public void prewarm() {
+        this.prewarm(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Generates the frame classes for every type known to the reflection cache in parallel. Does nothing unless
+     * annotations are supported.
+     *
+     * @param executor
+     *            The executor the frame classes are generated on.
+     */
+    public void prewarm(final Executor executor) {
+        if( executor == null )
+            throw new IllegalArgumentException("executor can not be null");
+
+        if (this.builder instanceof AbstractAnnotationFrameFactory)
+            ((AbstractAnnotationFrameFactory) this.builder).prewarm(executor);
+    }
+
     /**
      * Close the delegate graph.
      */
@@ -314,14 +349,9 @@ public class DelegatingFramedGraph<G extends Graph> implements WrappedFramedGrap
 
     @Override
     public <T> T addFramedVertex(final ClassInitializer<T> initializer, final Object... keyValues) {
-        if( keyValues != null ) {
-            final T framedVertex = frameNewElement(this.getBaseGraph().addVertex(keyValues), initializer);
-            return framedVertex;
-        }
-        else {
-            final T framedVertex = frameNewElement(this.getBaseGraph().addVertex(), initializer);
-            return framedVertex;
-        }
+        final String label = this.defaultResolver.labelOf(initializer.getInitializationType());
+        final T framedVertex = this.frameCreatedElement(this.getBaseGraph().addVertex(creationKeyValues(this.defaultResolver, initializer, label, keyValues)), initializer, this.defaultResolver);
+        return framedVertex;
     }
     
     @Override
@@ -331,7 +361,7 @@ public class DelegatingFramedGraph<G extends Graph> implements WrappedFramedGrap
 
     @Override
     public <T> T addFramedVertexExplicit(final ClassInitializer<T> initializer) {
-        final T framedVertex = frameNewElementExplicit(this.getBaseGraph().addVertex(), initializer);
+        final T framedVertex = this.frameCreatedElement(this.getBaseGraph().addVertex(creationKeyValues(this.untypedResolver, initializer, null)), initializer, this.untypedResolver);
         return framedVertex;
     }
     
@@ -351,10 +381,136 @@ public class DelegatingFramedGraph<G extends Graph> implements WrappedFramedGrap
         return addFramedVertexExplicit(TVertex.DEFAULT_INITIALIZER);
     }
 
+    @Override
+    public <T> T upsertFramedVertex(final Class<T> kind, final String key, final Object value, final ClassInitializer<? extends T> initializer) {
+        return this.upsert(key, value, initializer, () -> {
+            final GraphTraversal<?, ? extends Element> existing = this.defaultResolver.hasType(this.getRawTraversal().V().has(key, value), kind);
+            if (existing.hasNext())
+                return this.frameElement(existing.next(), kind);
+            else
+                return this.addFramedVertex(initializer, key, value);
+        });
+    }
+
+    @Override
+    public <T> T upsertFramedVertexExplicit(final Class<T> kind, final String key, final Object value, final ClassInitializer<? extends T> initializer) {
+        return this.upsert(key, value, initializer, () -> {
+            final GraphTraversal<?, ? extends Element> existing = this.getRawTraversal().V().has(key, value);
+            if (existing.hasNext())
+                return this.frameElementExplicit(existing.next(), kind);
+            else
+                return this.frameCreatedElement(this.getBaseGraph().addVertex(creationKeyValues(this.untypedResolver, initializer, null, key, value)), initializer, this.untypedResolver);
+        });
+    }
+
+    /**
+     * Sets the number of locks upserts of the same key and value are serialized with, so threads upserting the same
+     * vertex concurrently don't each add one. The locks only hold within this graph instance and only help when the
+     * vertices added by one thread are seen by the others, a transactional graph shared between processes needs a
+     * unique index on the key instead. Upserts are not locked by default.
+     *
+     * @param stripes The number of locks, 0 to stop locking upserts.
+     * @since 3.3.1
+     */
+    public void setUpsertLockStripes(final int stripes) {
+        if (stripes < 0)
+            throw new IllegalArgumentException("stripes can not be negative");
+
+        this.upsertLocks = stripes == 0 ? null : Striped.lock(stripes);
+    }
+
+    /**
+     * @return The number of locks upserts are serialized with, 0 if upserts are not locked.
+     * @since 3.3.1
+     */
+    public int getUpsertLockStripes() {
+        final Striped<Lock> locks = this.upsertLocks;
+        return locks == null ? 0 : locks.size();
+    }
+
+    private <T> T upsert(final String key, final Object value, final ClassInitializer<?> initializer, final Supplier<T> upsert) {
+        if (key == null)
+            throw new IllegalArgumentException("key can not be null");
+        if (value == null)
+            throw new IllegalArgumentException("value can not be null");
+        if (initializer == null)
+            throw new IllegalArgumentException("initializer can not be null");
+        // a vertex added with another value for the key would not be found by the next upsert
+        final Object initialValue = initializer.getInitialProperties().get(key);
+        if (initialValue != null && !initialValue.equals(value))
+            throw new IllegalArgumentException("initializer sets " + key + " to " + initialValue + " rather than " + value);
+
+        final Striped<Lock> locks = this.upsertLocks;
+        if (locks == null)
+            return upsert.get();
+
+        final Lock lock = locks.get(Arrays.asList(key, value));
+        lock.lock();
+        try {
+            return upsert.get();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Assembles the key/values an element is created with: the key/values given, the type resolution properties and
+     * the initial properties of the initializer, so the element is created with a single write. Later entries replace
+     * earlier ones with the same key, as they would have when each was written in turn.
+     */
+    private static Object[] creationKeyValues(final TypeResolver resolver, final ClassInitializer<?> initializer, final String label, final Object... keyValues) {
+        final Map<String, Object> typeProperties = resolver.propertiesOf(initializer.getInitializationType());
+        final Map<String, Object> initialProperties = initializer.getInitialProperties();
+        if( label == null && typeProperties.isEmpty() && initialProperties.isEmpty() )
+            return keyValues == null ? new Object[0] : keyValues;
+
+        final Map<Object, Object> creation = new LinkedHashMap<>();
+        if( keyValues != null ) {
+            ElementHelper.legalPropertyKeyValueArray(keyValues);
+            for( int i = 0; i < keyValues.length; i += 2 )
+                creation.put(keyValues[i], keyValues[i + 1]);
+        }
+        creation.putAll(typeProperties);
+        for( final Map.Entry<String, Object> property : initialProperties.entrySet() ) {
+            final Object value = property.getValue();
+            if( value == null )
+                creation.remove(property.getKey());
+            else
+                creation.put(property.getKey(), value instanceof Enum ? value.toString() : value);
+        }
+        if( label != null )
+            creation.put(org.apache.tinkerpop.gremlin.structure.T.label, label);
+
+        final Object[] creationKeyValues = new Object[creation.size() * 2];
+        int i = 0;
+        for( final Map.Entry<Object, Object> keyValue : creation.entrySet() ) {
+            creationKeyValues[i++] = keyValue.getKey();
+            creationKeyValues[i++] = keyValue.getValue();
+        }
+        return creationKeyValues;
+    }
+
+    /**
+     * Frames an element created with the key/values of {@link #creationKeyValues}. The element is known to be of the
+     * initialization type and already holds the type and initial properties, so none of them are read or written
+     * again.
+     */
+    private <T> T frameCreatedElement(final Element e, final ClassInitializer<T> initializer, final TypeResolver resolver) {
+        final Class<T> kind = initializer.getInitializationType();
+        final T frame = builder.create(e, kind);
+        ((AbstractElementFrame) frame).init(this, e);
+        if( resolver.propertiesOf(kind).isEmpty() )
+            resolver.init(e, kind);
+        ((AbstractElementFrame) frame).init();
+        initializer.initalizeCreated(frame);
+        return frame;
+    }
+
     @Override
     public <T> T addFramedEdge(final VertexFrame source, final VertexFrame destination, final String label, final ClassInitializer<T> initializer, final Object... keyValues) {
-        final Edge baseEdge = source.getElement().addEdge(label, destination.getElement(), keyValues);
-        final T framedEdge = frameNewElement(baseEdge, initializer);
+        final Edge baseEdge = source.getElement().addEdge(label, destination.getElement(), creationKeyValues(this.defaultResolver, initializer, null, keyValues));
+        final T framedEdge = this.frameCreatedElement(baseEdge, initializer, this.defaultResolver);
         return framedEdge;
     }
     
@@ -365,7 +521,7 @@ public class DelegatingFramedGraph<G extends Graph> implements WrappedFramedGrap
 
     @Override
     public <T> T addFramedEdgeExplicit(final VertexFrame source, final VertexFrame destination, final String label, final ClassInitializer<T> initializer) {
-        final T framedEdge = frameNewElementExplicit(source.getElement().addEdge(label, destination.getElement()), initializer);
+        final T framedEdge = this.frameCreatedElement(source.getElement().addEdge(label, destination.getElement(), creationKeyValues(this.untypedResolver, initializer, null)), initializer, this.untypedResolver);
         return framedEdge;
     }
     
@@ -56,6 +56,52 @@ public interface EdgeFrame extends ElementFrame {
      */
     <T> T reframeExplicit(Class<T> kind);
 
+    /**
+     * Frames the vertex this edge points to, read directly from the edge without a traversal.
+     *
+     * @param <T> The type to frame as.
+     * @param kind The kind of frame.
+     * @return The framed in vertex.
+     * @since 3.3.1
+     */
+    <T> T getInVertex(Class<T> kind);
+
+    /**
+     * Frames the vertex this edge points to, read directly from the edge without a traversal.
+     *
+     * This will bypass the default type resolution and use the untyped resolver
+     * instead.
+     *
+     * @param <T> The type to frame as.
+     * @param kind The kind of frame.
+     * @return The framed in vertex.
+     * @since 3.3.1
+     */
+    <T> T getInVertexExplicit(Class<T> kind);
+
+    /**
+     * Frames the vertex this edge points from, read directly from the edge without a traversal.
+     *
+     * @param <T> The type to frame as.
+     * @param kind The kind of frame.
+     * @return The framed out vertex.
+     * @since 3.3.1
+     */
+    <T> T getOutVertex(Class<T> kind);
+
+    /**
+     * Frames the vertex this edge points from, read directly from the edge without a traversal.
+     *
+     * This will bypass the default type resolution and use the untyped resolver
+     * instead.
+     *
+     * @param <T> The type to frame as.
+     * @param kind The kind of frame.
+     * @return The framed out vertex.
+     * @since 3.3.1
+     */
+    <T> T getOutVertexExplicit(Class<T> kind);
+
     <T extends Traversable<?, ?>> T traverse(Function<GraphTraversal<Edge, Edge>, GraphTraversal<?, ?>> traverser);
 
     GraphTraversal<? extends Edge, ? extends Edge> getRawTraversal();
@@ -0,0 +1,172 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Publishes the frames of a traversal following the Reactive Streams protocol. An element is only taken off the
+ * traversal and framed once the subscriber has requested it, so no more frames are held than the subscriber asked
+ * for. Signals are sent from tasks on the executor, one at a time. Cancelling the subscription closes the traversal.
+ *
+ * The traversal can only be iterated once, so a publisher accepts a single subscriber. As a Reactive Streams
+ * {@link Publisher} it can be handed directly to Reactor, RxJava and other libraries implementing the protocol.
+ *
+ * @param <T> The type of the frames.
+ * @since 3.3.1
+ */
+public class FramePublisher<T> implements Publisher<T> {
+    private final Traversal<?, ?> traversal;
+    private final Function<Element, T> framer;
+    private final Executor executor;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    FramePublisher(final Traversal<?, ?> traversal, final Function<Element, T> framer, final Executor executor) {
+        if (executor == null)
+            throw new IllegalArgumentException("executor can not be null");
+
+        this.traversal = traversal;
+        this.framer = framer;
+        this.executor = executor;
+    }
+
+    /**
+     * Subscribes to the frames, the subscriber is sent its subscription before this method returns.
+     *
+     * @param subscriber The subscriber.
+     */
+    @Override
+    public void subscribe(final Subscriber<? super T> subscriber) {
+        if (subscriber == null)
+            throw new NullPointerException("subscriber can not be null");
+
+        if (!this.subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(final long count) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("the frames of a traversal can only be subscribed to once"));
+            return;
+        }
+
+        final FrameSubscription subscription = new FrameSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private final class FrameSubscription implements Subscription {
+        private final Subscriber<? super T> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+        private boolean terminated;
+
+        private FrameSubscription(final Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long count) {
+            if (count <= 0)
+                this.invalidRequest = new IllegalArgumentException("the number of frames requested must be positive, was " + count);
+            else
+                this.demand.accumulateAndGet(count, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            this.scheduleDrain();
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            this.scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (this.pendingDrains.getAndIncrement() == 0)
+                executor.execute(this::drain);
+        }
+
+        /**
+         * Sends as many frames as were requested. Only one drain runs at a time, a request arriving while it runs makes
+         * it loop again rather than starting another.
+         */
+        private void drain() {
+            int missed = 1;
+            do {
+                if (this.terminated)
+                    return;
+                if (this.cancelled) {
+                    this.close();
+                    return;
+                }
+                if (this.invalidRequest != null) {
+                    this.close();
+                    this.subscriber.onError(this.invalidRequest);
+                    return;
+                }
+
+                final long requested = this.demand.get();
+                long emitted = 0;
+                while (emitted != requested && !this.cancelled) {
+                    final T frame;
+                    try {
+                        if (!traversal.hasNext()) {
+                            this.close();
+                            this.subscriber.onComplete();
+                            return;
+                        }
+                        frame = framer.apply((Element) traversal.next());
+                    }
+                    catch (final RuntimeException caught) {
+                        this.close();
+                        this.subscriber.onError(caught);
+                        return;
+                    }
+                    this.subscriber.onNext(frame);
+                    emitted++;
+                }
+                if (requested != Long.MAX_VALUE)
+                    this.demand.addAndGet(-emitted);
+
+                missed = this.pendingDrains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void close() {
+            this.terminated = true;
+            try {
+                traversal.close();
+            }
+            catch (final Exception caught) {
+                // nothing is left to be sent, the subscriber has no use for the failure
+            }
+        }
+    }
+}
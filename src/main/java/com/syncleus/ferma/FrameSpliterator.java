@@ -0,0 +1,126 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A spliterator which frames the elements of a traversal. The traversal itself can only be iterated by one thread, so
+ * splitting takes the next batch of raw elements off the traversal and hands them to another worker, which resolves
+ * their types and constructs their frames in parallel with this one. Batches grow by the batch size with every split,
+ * up to a limit, so long results are not split into more batches than the pool can use.
+ */
+final class FrameSpliterator<N> implements Spliterator<N> {
+    static final int DEFAULT_BATCH_SIZE = 64;
+    private static final int MAX_BATCH_SIZE = 1 << 16;
+
+    private final Iterator<?> elements;
+    private final Function<Element, N> framer;
+    private final int batchSize;
+    private int nextBatchSize;
+
+    FrameSpliterator(final Iterator<?> elements, final Function<Element, N> framer, final int batchSize) {
+        if (batchSize < 1)
+            throw new IllegalArgumentException("batchSize must be at least 1");
+
+        this.elements = elements;
+        this.framer = framer;
+        this.batchSize = batchSize;
+        this.nextBatchSize = batchSize;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super N> action) {
+        if (!this.elements.hasNext())
+            return false;
+        action.accept(this.framer.apply((Element) this.elements.next()));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super N> action) {
+        while (this.elements.hasNext())
+            action.accept(this.framer.apply((Element) this.elements.next()));
+    }
+
+    @Override
+    public Spliterator<N> trySplit() {
+        if (!this.elements.hasNext())
+            return null;
+
+        final Element[] batch = new Element[this.nextBatchSize];
+        int size = 0;
+        while (size < batch.length && this.elements.hasNext())
+            batch[size++] = (Element) this.elements.next();
+        this.nextBatchSize = Math.min(this.nextBatchSize + this.batchSize, MAX_BATCH_SIZE);
+        return new Framing<>(Spliterators.spliterator(batch, 0, size, Spliterator.ORDERED | Spliterator.NONNULL), this.framer);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.NONNULL;
+    }
+
+    /**
+     * Frames the elements of a batch that has already been taken off the traversal.
+     */
+    private static final class Framing<N> implements Spliterator<N> {
+        private final Spliterator<Element> elements;
+        private final Function<Element, N> framer;
+
+        private Framing(final Spliterator<Element> elements, final Function<Element, N> framer) {
+            this.elements = elements;
+            this.framer = framer;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super N> action) {
+            return this.elements.tryAdvance(element -> action.accept(this.framer.apply(element)));
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super N> action) {
+            this.elements.forEachRemaining(element -> action.accept(this.framer.apply(element)));
+        }
+
+        @Override
+        public Spliterator<N> trySplit() {
+            final Spliterator<Element> split = this.elements.trySplit();
+            return split == null ? null : new Framing<>(split, this.framer);
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.elements.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return this.elements.characteristics();
+        }
+    }
+}
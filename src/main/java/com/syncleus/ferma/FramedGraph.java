@@ -22,6 +22,8 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSo
 import org.apache.tinkerpop.gremlin.structure.*;
 import java.io.IOException;
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 /**
@@ -108,6 +110,80 @@ public interface FramedGraph extends AutoCloseable {
      */
     TVertex addFramedVertexExplicit();
 
+    /**
+     * Gets the vertex of a kind whose key property has a value, adding it when there is none. The lookup checks for a
+     * match rather than relying on an exception when there is none, graphs with an index on the key answer it from
+     * the index. The vertex is added with the key property in the same write that creates it.
+     *
+     * @param <T> The type used to frame the element.
+     * @param kind
+     *            The kind of frame the vertex is looked up as.
+     * @param key
+     *            The key of the property identifying the vertex.
+     * @param value
+     *            The value of the property identifying the vertex.
+     * @param initializer
+     *            The initializer the vertex is added with when there is none, it can not set the key property to
+     *            another value.
+     * @return The framed vertex.
+     * @since 3.3.1
+     */
+    default <T> T upsertFramedVertex(final Class<T> kind, final String key, final Object value, final ClassInitializer<? extends T> initializer) {
+        if (key == null)
+            throw new IllegalArgumentException("key can not be null");
+        if (value == null)
+            throw new IllegalArgumentException("value can not be null");
+        if (initializer == null)
+            throw new IllegalArgumentException("initializer can not be null");
+        final Object initialValue = initializer.getInitialProperties().get(key);
+        if (initialValue != null && !initialValue.equals(value))
+            throw new IllegalArgumentException("initializer sets " + key + " to " + initialValue + " rather than " + value);
+
+        final T existing = this.traverse(input -> this.getTypeResolver().hasType(input.V().has(key, value), kind)).nextOrDefault(kind, null);
+        if (existing != null)
+            return existing;
+        return this.addFramedVertex(initializer, key, value);
+    }
+
+    /**
+     * Gets the vertex whose key property has a value, adding it when there is none.
+     *
+     * This will bypass the default type resolution and use the untyped resolver
+     * instead. This method is useful for speeding up a look up when type resolution
+     * isn't required.
+     *
+     * @param <T> The type used to frame the element.
+     * @param kind
+     *            The kind of frame the vertex is looked up as.
+     * @param key
+     *            The key of the property identifying the vertex.
+     * @param value
+     *            The value of the property identifying the vertex.
+     * @param initializer
+     *            The initializer the vertex is added with when there is none, it can not set the key property to
+     *            another value.
+     * @return The framed vertex.
+     * @since 3.3.1
+     */
+    default <T> T upsertFramedVertexExplicit(final Class<T> kind, final String key, final Object value, final ClassInitializer<? extends T> initializer) {
+        if (key == null)
+            throw new IllegalArgumentException("key can not be null");
+        if (value == null)
+            throw new IllegalArgumentException("value can not be null");
+        if (initializer == null)
+            throw new IllegalArgumentException("initializer can not be null");
+        final Object initialValue = initializer.getInitialProperties().get(key);
+        if (initialValue != null && !initialValue.equals(value))
+            throw new IllegalArgumentException("initializer sets " + key + " to " + initialValue + " rather than " + value);
+
+        final T existing = this.traverse(input -> input.V().has(key, value)).nextOrDefaultExplicit(kind, null);
+        if (existing != null)
+            return existing;
+        final T added = this.addFramedVertexExplicit(initializer);
+        ((ElementFrame) added).setProperty(key, value);
+        return added;
+    }
+
     /**
      * Add a edge to the graph
      *
@@ -219,6 +295,45 @@ public interface FramedGraph extends AutoCloseable {
 
     <T> Iterator<? extends T> frame(Iterator<? extends Element> pipeline, final Class<T> kind);
 
+    /**
+     * Frames the elements of a pipeline on the common fork join pool.
+     *
+     * @param <T> The type used to frame the elements.
+     * @param pipeline The elements to frame, typically a traversal.
+     * @param kind The kind of frame.
+     * @param parallelism The number of batches framed at the same time.
+     * @param ordered True if the frames are returned in the order of the pipeline, false to return each batch as soon
+     *                as it is framed.
+     * @return An iterator of the frames.
+     * @see #frameParallel(Iterator, Class, int, boolean, Executor)
+     * @since 3.3.1
+     */
+    default <T> Iterator<? extends T> frameParallel(final Iterator<? extends Element> pipeline, final Class<T> kind, final int parallelism, final boolean ordered) {
+        return this.frameParallel(pipeline, kind, parallelism, ordered, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Frames the elements of a pipeline on an executor. The elements are read off the pipeline by the thread iterating
+     * the frames, in batches, while type resolution and frame construction of each batch run in parallel. Only a
+     * bounded number of batches is framed ahead of the caller, so memory stays bounded however long the pipeline is.
+     *
+     * Framing runs on the threads of the executor rather than the caller's thread, so graphs binding transactions to
+     * threads must be readable from those threads. {@code Runnable::run} frames every batch on the caller's thread.
+     *
+     * @param <T> The type used to frame the elements.
+     * @param pipeline The elements to frame, typically a traversal.
+     * @param kind The kind of frame.
+     * @param parallelism The number of batches framed at the same time.
+     * @param ordered True if the frames are returned in the order of the pipeline, false to return each batch as soon
+     *                as it is framed.
+     * @param executor The executor the batches are framed on.
+     * @return An iterator of the frames.
+     * @since 3.3.1
+     */
+    default <T> Iterator<? extends T> frameParallel(final Iterator<? extends Element> pipeline, final Class<T> kind, final int parallelism, final boolean ordered, final Executor executor) {
+        return new ParallelFramingIterator<>(pipeline, element -> this.frameElement(element, kind), executor, parallelism, ParallelFramingIterator.DEFAULT_BATCH_SIZE, ordered);
+    }
+
     <T> T frameNewElement(Element e, ClassInitializer<T> initializer);
     
     <T> T frameNewElement(Element e, Class<T> kind);
@@ -233,5 +348,42 @@ public interface FramedGraph extends AutoCloseable {
 
     <T> Iterator<? extends T> frameExplicit(Iterator<? extends Element> pipeline, final Class<T> kind);
 
+    /**
+     * Frames the elements of a pipeline on the common fork join pool, in parallel batches. This will bypass the
+     * default type resolution and use the untyped resolver instead.
+     *
+     * @param <T> The type used to frame the elements.
+     * @param pipeline The elements to frame, typically a traversal.
+     * @param kind The kind of frame.
+     * @param parallelism The number of batches framed at the same time.
+     * @param ordered True if the frames are returned in the order of the pipeline, false to return each batch as soon
+     *                as it is framed.
+     * @return An iterator of the frames.
+     * @see #frameParallel(Iterator, Class, int, boolean, Executor)
+     * @since 3.3.1
+     */
+    default <T> Iterator<? extends T> frameParallelExplicit(final Iterator<? extends Element> pipeline, final Class<T> kind, final int parallelism, final boolean ordered) {
+        return this.frameParallelExplicit(pipeline, kind, parallelism, ordered, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Frames the elements of a pipeline on an executor, in parallel batches. This will bypass the default type
+     * resolution and use the untyped resolver instead.
+     *
+     * @param <T> The type used to frame the elements.
+     * @param pipeline The elements to frame, typically a traversal.
+     * @param kind The kind of frame.
+     * @param parallelism The number of batches framed at the same time.
+     * @param ordered True if the frames are returned in the order of the pipeline, false to return each batch as soon
+     *                as it is framed.
+     * @param executor The executor the batches are framed on.
+     * @return An iterator of the frames.
+     * @see #frameParallel(Iterator, Class, int, boolean, Executor)
+     * @since 3.3.1
+     */
+    default <T> Iterator<? extends T> frameParallelExplicit(final Iterator<? extends Element> pipeline, final Class<T> kind, final int parallelism, final boolean ordered, final Executor executor) {
+        return new ParallelFramingIterator<>(pipeline, element -> this.frameElementExplicit(element, kind), executor, parallelism, ParallelFramingIterator.DEFAULT_BATCH_SIZE, ordered);
+    }
+
     WrappedTransaction tx();
 }
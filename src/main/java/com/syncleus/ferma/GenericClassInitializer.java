@@ -18,6 +18,18 @@ package com.syncleus.ferma;
 import java.util.*;
 
 public class GenericClassInitializer<C> implements ClassInitializer<C> {
+    private static final ClassValue<Boolean> INITALIZE_OVERRIDDEN = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            try {
+                return type.getMethod("initalize", Object.class).getDeclaringClass() != GenericClassInitializer.class;
+            }
+            catch (final NoSuchMethodException caught) {
+                throw new IllegalStateException(caught);
+            }
+        }
+    };
+
     private final Class<C> type;
     private final Map<String, Object> properties;
 
@@ -34,6 +46,11 @@ public class GenericClassInitializer<C> implements ClassInitializer<C> {
     protected Map<String, Object> getProperties() {
         return properties;
     }
+
+    @Override
+    public Map<String, Object> getInitialProperties() {
+        return this.getProperties();
+    }
     
     @Override
     public void initalize(final C frame) {
@@ -43,4 +60,11 @@ public class GenericClassInitializer<C> implements ClassInitializer<C> {
         for(final Map.Entry<String, Object> property : this.properties.entrySet() )
             elementFrame.setProperty(property.getKey(), property.getValue());
     }
+
+    @Override
+    public void initalizeCreated(final C frame) {
+        // the element was created with the properties, subclasses may still do more when initializing
+        if( INITALIZE_OVERRIDDEN.get(this.getClass()) )
+            this.initalize(frame);
+    }
 }
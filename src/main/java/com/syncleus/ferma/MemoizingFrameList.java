@@ -0,0 +1,54 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * An immutable list of frames over a list of elements, which frames each element the first time it is read and
+ * returns the same frame every time after. Not safe to read from multiple threads at once.
+ */
+final class MemoizingFrameList<N> extends AbstractList<N> implements RandomAccess {
+    private final List<Element> elements;
+    private final Function<Element, N> framer;
+    private final Object[] frames;
+
+    MemoizingFrameList(final List<Element> elements, final Function<Element, N> framer) {
+        this.elements = elements;
+        this.framer = framer;
+        this.frames = new Object[elements.size()];
+    }
+
+    @Override
+    public N get(final int index) {
+        N frame = (N) this.frames[index];
+        if (frame == null) {
+            frame = this.framer.apply(this.elements.get(index));
+            this.frames[index] = frame;
+        }
+        return frame;
+    }
+
+    @Override
+    public int size() {
+        return this.frames.length;
+    }
+}
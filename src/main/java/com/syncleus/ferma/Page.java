@@ -0,0 +1,121 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A page of frames returned by {@link Traversable#page(Class, int, String)}, along with the cursor the following page
+ * is fetched with. The cursor is an opaque string holding the id of the last element of the page, so the following
+ * page resumes after that id instead of skipping over every earlier element again. Cursors can be stored and handed to
+ * clients, only ids which are numbers, strings or UUIDs can be encoded in them.
+ *
+ * @param <T> The type of the frames.
+ * @since 3.3.1
+ */
+public class Page<T> {
+    private static final char LONG_ID = 'L';
+    private static final char INTEGER_ID = 'I';
+    private static final char STRING_ID = 'S';
+    private static final char UUID_ID = 'U';
+
+    private final List<? extends T> frames;
+    private final String nextCursor;
+
+    public Page(final List<? extends T> frames, final String nextCursor) {
+        if (frames == null)
+            throw new IllegalArgumentException("frames can not be null");
+
+        this.frames = frames;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * @return The frames of this page, in order of their ids.
+     */
+    public List<? extends T> getFrames() {
+        return this.frames;
+    }
+
+    /**
+     * @return The cursor of the following page, null if this is the last page.
+     */
+    public String getNextCursor() {
+        return this.nextCursor;
+    }
+
+    public boolean hasNext() {
+        return this.nextCursor != null;
+    }
+
+    /**
+     * Encodes the id of the last element of a page as a cursor.
+     *
+     * @param id The id of the element.
+     * @return The cursor.
+     * @throws IllegalArgumentException if the id can not be encoded.
+     */
+    public static String encodeCursor(final Object id) {
+        final String encoded;
+        if (id instanceof Long)
+            encoded = LONG_ID + id.toString();
+        else if (id instanceof Integer)
+            encoded = INTEGER_ID + id.toString();
+        else if (id instanceof String)
+            encoded = STRING_ID + (String) id;
+        else if (id instanceof UUID)
+            encoded = UUID_ID + id.toString();
+        else
+            throw new IllegalArgumentException("ids of type " + (id == null ? null : id.getClass().getName()) + " can not be paged by");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(encoded.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes the id of the last element of a page from its cursor.
+     *
+     * @param cursor The cursor.
+     * @return The id of the element.
+     * @throws IllegalArgumentException if the cursor is not valid.
+     */
+    public static Object decodeCursor(final String cursor) {
+        final String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (decoded.isEmpty())
+                throw new IllegalArgumentException("the cursor is empty");
+
+            final String id = decoded.substring(1);
+            switch (decoded.charAt(0)) {
+                case LONG_ID:
+                    return Long.valueOf(id);
+                case INTEGER_ID:
+                    return Integer.valueOf(id);
+                case STRING_ID:
+                    return id;
+                case UUID_ID:
+                    return UUID.fromString(id);
+                default:
+                    throw new IllegalArgumentException("the cursor holds an id of unknown type");
+            }
+        }
+        catch (final IllegalArgumentException caught) {
+            throw new IllegalArgumentException(cursor + " is not a valid cursor", caught);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Frames the elements of an iterator on an executor. Elements are read off the iterator by the thread consuming the
+ * frames, in batches, and each batch is framed by a task of its own. At most a fixed number of batches are framed
+ * ahead of the consumer, the next batch is only read once the consumer has taken one, so no more than that many
+ * batches of frames are ever held no matter how long the iterator is.
+ */
+final class ParallelFramingIterator<T> implements Iterator<T> {
+    static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final Iterator<? extends Element> elements;
+    private final Function<Element, T> framer;
+    private final Executor executor;
+    private final int parallelism;
+    private final int batchSize;
+    private final boolean ordered;
+    private final Deque<CompletableFuture<List<T>>> pending = new ArrayDeque<>();
+    private Iterator<T> current = Collections.emptyIterator();
+
+    ParallelFramingIterator(final Iterator<? extends Element> elements, final Function<Element, T> framer, final Executor executor, final int parallelism, final int batchSize, final boolean ordered) {
+        if (elements == null)
+            throw new IllegalArgumentException("elements can not be null");
+        if (executor == null)
+            throw new IllegalArgumentException("executor can not be null");
+        if (parallelism < 1)
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        if (batchSize < 1)
+            throw new IllegalArgumentException("batchSize must be at least 1");
+
+        this.elements = elements;
+        this.framer = framer;
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+        this.ordered = ordered;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!this.current.hasNext()) {
+            this.submitBatches();
+            if (this.pending.isEmpty())
+                return false;
+            this.current = this.takeBatch().iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext())
+            throw new NoSuchElementException();
+        return this.current.next();
+    }
+
+    private void submitBatches() {
+        while (this.pending.size() < this.parallelism && this.elements.hasNext()) {
+            final List<Element> batch = new ArrayList<>(this.batchSize);
+            while (batch.size() < this.batchSize && this.elements.hasNext())
+                batch.add(this.elements.next());
+            this.pending.add(CompletableFuture.supplyAsync(() -> this.frameBatch(batch), this.executor));
+        }
+    }
+
+    private List<T> frameBatch(final List<Element> batch) {
+        final List<T> frames = new ArrayList<>(batch.size());
+        for (final Element element : batch)
+            frames.add(this.framer.apply(element));
+        return frames;
+    }
+
+    /**
+     * Takes the oldest batch, or when order does not matter whichever batch is framed first.
+     */
+    private List<T> takeBatch() {
+        CompletableFuture<List<T>> batch = this.pending.peek();
+        if (!this.ordered && !batch.isDone()) {
+            CompletableFuture.anyOf(this.pending.toArray(new CompletableFuture<?>[this.pending.size()])).handle((result, caught) -> null).join();
+            for (final CompletableFuture<List<T>> candidate : this.pending)
+                if (candidate.isDone()) {
+                    batch = candidate;
+                    break;
+                }
+        }
+        this.pending.remove(batch);
+
+        try {
+            return batch.join();
+        }
+        catch (final CompletionException caught) {
+            if (caught.getCause() instanceof RuntimeException)
+                throw (RuntimeException) caught.getCause();
+            else if (caught.getCause() instanceof Error)
+                throw (Error) caught.getCause();
+            throw caught;
+        }
+    }
+}
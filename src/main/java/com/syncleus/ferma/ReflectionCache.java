@@ -21,61 +21,180 @@ import org.reflections.scanners.SubTypesScanner;
 import org.reflections.scanners.TypeAnnotationsScanner;
 import org.reflections.util.ClasspathHelper;
 import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ReflectionCache extends Reflections {
+    /**
+     * Resource listing every type annotated with {@link GraphElement}, or extending one that is, together with all of its
+     * supertypes. It is written at compile time by the
+     * {@link com.syncleus.ferma.framefactories.annotation.GraphElementProcessor}, one type per line followed by its
+     * supertypes, separated by spaces.
+     *
+     * @since 3.3.1
+     */
+    public static final String MODEL_INDEX = "META-INF/ferma/graph-elements.idx";
 
-    private final Map<String, Set<String>> hierarchy;
-    private final Map<Method, Map<Class<Annotation>, Annotation>> annotationCache = new HashMap<>();
-    private final Map<String, Class> classStringCache = new HashMap<>();
+    private final TypeHierarchy hierarchy = new TypeHierarchy();
+    private final Map<Method, Map<Class<? extends Annotation>, Annotation>> annotationCache = new ConcurrentHashMap<>();
+    private final Map<String, Class> classStringCache = new ConcurrentHashMap<>();
+    private final Set<String> indexedTypeNames;
 
     public ReflectionCache() {
         super();
-
-        this.hierarchy = new HashMap<>();
+        this.indexedTypeNames = Collections.emptySet();
     }
 
     public ReflectionCache(final Collection<? extends Class<?>> annotatedTypes) {
         super(assembleConfig(assembleClassUrls(annotatedTypes)));
 
-        this.hierarchy = constructHierarchy(annotatedTypes);
+        this.indexedTypeNames = Collections.emptySet();
+        this.hierarchy.addAll(annotatedTypes);
     }
 
+    /**
+     * Constructs the hierarchy of the types in the given package from the {@link #MODEL_INDEX} resources on the class
+     * path. Only the class path entries holding the package without an index of their own are scanned, the whole
+     * package is scanned when none of the indexed types are in it. {@link #getSubTypesOf(Class)} and
+     * {@link #getTypesAnnotatedWith(Class, boolean)} answer from the indexed types as well as the scanned ones, the
+     * other methods inherited from {@link Reflections} only report scanned types.
+     *
+     * @param modelPackage The package, or prefix of the packages, the types are in.
+     */
     public ReflectionCache(final String modelPackage) {
-        super(modelPackage);
+        this(modelPackage, true);
+    }
+
+    ReflectionCache(final String modelPackage, final boolean indexed) {
+        this(modelPackage, indexed ? readModelIndex(modelPackage) : null);
+    }
+
+    private ReflectionCache(final String modelPackage, final Map<String, Set<String>> modelIndex) {
+        super(modelIndex == null ? ConfigurationBuilder.build(modelPackage) : assembleUnindexedConfig(modelPackage));
+
+        this.indexedTypeNames = modelIndex == null ? Collections.emptySet() : Collections.unmodifiableSet(modelIndex.keySet());
+        if (modelIndex != null)
+            for (final Map.Entry<String, Set<String>> indexEntry : modelIndex.entrySet())
+                this.hierarchy.add(indexEntry.getKey(), indexEntry.getValue());
+        if (this.isScanned())
+            this.hierarchy.addAll(super.getTypesAnnotatedWith(GraphElement.class));
+    }
+
+    /**
+     * The subtypes of the given type, including those read from the {@link #MODEL_INDEX}.
+     */
+    @Override
+    public <T> Set<Class<? extends T>> getSubTypesOf(final Class<T> type) {
+        if (this.indexedTypeNames.isEmpty())
+            return super.getSubTypesOf(type);
+
+        final Set<Class<? extends T>> allSubTypes = new HashSet<>();
+        if (this.isScanned())
+            allSubTypes.addAll(super.getSubTypesOf(type));
+        for (final Class<?> indexedType : this.indexedTypes())
+            if (indexedType != type && type.isAssignableFrom(indexedType))
+                allSubTypes.add((Class<? extends T>) indexedType);
+        return allSubTypes;
+    }
+
+    /**
+     * The types annotated with the given annotation, including those read from the {@link #MODEL_INDEX}.
+     */
+    @Override
+    public Set<Class<?>> getTypesAnnotatedWith(final Class<? extends Annotation> annotation) {
+        return this.getTypesAnnotatedWith(annotation, false);
+    }
+
+    /**
+     * The types annotated with the given annotation, including those read from the {@link #MODEL_INDEX}. Like the
+     * scanned types, an indexed type extending an annotated type is reported unless honorInherited asks to follow only
+     * inherited annotations.
+     */
+    @Override
+    public Set<Class<?>> getTypesAnnotatedWith(final Class<? extends Annotation> annotation, final boolean honorInherited) {
+        if (this.indexedTypeNames.isEmpty())
+            return super.getTypesAnnotatedWith(annotation, honorInherited);
+
+        final Set<Class<?>> allAnnotatedTypes = new HashSet<>();
+        if (this.isScanned())
+            allAnnotatedTypes.addAll(super.getTypesAnnotatedWith(annotation, honorInherited));
+        for (final Class<?> indexedType : this.indexedTypes())
+            if (honorInherited ? indexedType.isAnnotationPresent(annotation) : isAnnotated(indexedType, annotation))
+                allAnnotatedTypes.add(indexedType);
+        return allAnnotatedTypes;
+    }
+
+    private static boolean isAnnotated(final Class<?> type, final Class<? extends Annotation> annotation) {
+        if (type.getDeclaredAnnotation(annotation) != null)
+            return true;
+        for (final Class<?> interfaceType : type.getInterfaces())
+            if (isAnnotated(interfaceType, annotation))
+                return true;
+        return type.getSuperclass() != null && isAnnotated(type.getSuperclass(), annotation);
+    }
 
-        this.hierarchy = constructHierarchy(this.getTypesAnnotatedWith(GraphElement.class));
+    /**
+     * @return False if every class path entry holding the model package has an index, so nothing was scanned.
+     */
+    private boolean isScanned() {
+        return !this.getStore().keySet().isEmpty();
+    }
+
+    private Set<Class<?>> indexedTypes() {
+        final Set<Class<?>> indexedTypes = new HashSet<>();
+        for (final String indexedTypeName : this.indexedTypeNames)
+            indexedTypes.add(this.forName(indexedTypeName));
+        return indexedTypes;
+    }
+
+    /**
+     * Adds types to the hierarchy after the cache was constructed, for example when model types are loaded at runtime.
+     *
+     * @param types The types to add.
+     * @since 3.3.1
+     */
+    public void addTypes(final Collection<? extends Class<?>> types) {
+        if (types == null)
+            throw new IllegalArgumentException("types can not be null");
+        this.hierarchy.addAll(types);
     }
 
     public Set<? extends String> getSubTypeNames(final Class<?> type) {
-        Set<String> subtypes = this.hierarchy.get(type.getName());
-        if (subtypes == null)
-            subtypes = Collections.singleton(type.getName());
-        return Collections.unmodifiableSet(subtypes);
+        return this.hierarchy.getSubTypeNames(type.getName());
     }
 
     public Set<? extends String> getSubTypeNames(final String typeName) {
-        Set<String> subtypes = this.hierarchy.get(typeName);
-        if (subtypes == null)
-            subtypes = Collections.singleton(typeName);
-        return Collections.unmodifiableSet(subtypes);
+        return this.hierarchy.getSubTypeNames(typeName);
+    }
+
+    /**
+     * The names of all the types this cache was constructed with, or added later.
+     *
+     * @return The type names, empty if no types were given.
+     */
+    public Set<? extends String> getTypeNames() {
+        return this.hierarchy.getTypeNames();
     }
 
     public <E extends Annotation> E getAnnotation(final Method method, final Class<E> annotationType) {
-        Map<Class<Annotation>, Annotation> annotationsPresent = annotationCache.get(method);
-        if (annotationsPresent == null) {
-            annotationsPresent = new HashMap<>();
-            annotationCache.put(method, annotationsPresent);
-        }
+        Map<Class<? extends Annotation>, Annotation> annotationsPresent = annotationCache.get(method);
+        if (annotationsPresent == null)
+            annotationsPresent = annotationCache.computeIfAbsent(method, key -> new ConcurrentHashMap<>());
 
         E annotation = (E) annotationsPresent.get(annotationType);
         if (annotation == null) {
             annotation = method.getAnnotation(annotationType);
-            annotationsPresent.put((Class<Annotation>) annotationType, annotation);
+            if (annotation != null)
+                annotationsPresent.put(annotationType, annotation);
         }
         return annotation;
     }
@@ -85,7 +204,7 @@ public class ReflectionCache extends Reflections {
         if (type == null)
             try {
                 type = Class.forName(className);
-                classStringCache.put(className, type);
+                classStringCache.putIfAbsent(className, type);
             }
             catch (final ClassNotFoundException e) {
                 throw new IllegalStateException("The class " + className + " cannot be found");
@@ -100,6 +219,21 @@ public class ReflectionCache extends Reflections {
         return reflectionConfig;
     }
 
+    /**
+     * Scans the class path entries holding the model package which do not have a {@link #MODEL_INDEX}, such as those
+     * compiled without the annotation processor.
+     */
+    private static ConfigurationBuilder assembleUnindexedConfig(final String modelPackage) {
+        final Set<URL> unindexedUrls = new HashSet<>(ClasspathHelper.forPackage(modelPackage));
+        unindexedUrls.removeAll(ClasspathHelper.forResource(MODEL_INDEX));
+        if (unindexedUrls.isEmpty())
+            return new ConfigurationBuilder().setScanners();
+
+        final ConfigurationBuilder reflectionConfig = assembleConfig(unindexedUrls);
+        reflectionConfig.filterInputsBy(new FilterBuilder().includePackage(modelPackage));
+        return reflectionConfig;
+    }
+
     private static Set<URL> assembleClassUrls(final Collection<? extends Class<?>> annotatedTypes) {
         if( annotatedTypes == null )
             throw new IllegalArgumentException("annotatedTypes can not be null");
@@ -119,21 +253,43 @@ public class ReflectionCache extends Reflections {
         return toScanUrls;
     }
 
-    private static Map<String, Set<String>> constructHierarchy(final Collection<? extends Class<?>> types) {
-        final Map<String, Set<String>> hierarchy = new HashMap<>();
+    /**
+     * Reads the supertypes of every indexed type in the given package.
+     *
+     * @return The supertype names by type name, null if no indexed type is in the package.
+     */
+    private static Map<String, Set<String>> readModelIndex(final String modelPackage) {
+        final Set<URL> indexUrls = new LinkedHashSet<>();
+        try {
+            for (final ClassLoader classLoader : ClasspathHelper.classLoaders())
+                indexUrls.addAll(Collections.list(classLoader.getResources(MODEL_INDEX)));
+        }
+        catch (final IOException caught) {
+            return null;
+        }
+
+        final Map<String, Set<String>> modelIndex = new HashMap<>();
+        for (final URL indexUrl : indexUrls)
+            try (final BufferedReader reader = new BufferedReader(new InputStreamReader(indexUrl.openStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (line.isEmpty() || line.startsWith("#"))
+                        continue;
 
-        for (final Class<?> parentType : types) {
-            Set<String> children = hierarchy.get(parentType.getName());
-            if (children == null) {
-                children = new HashSet<>();
-                hierarchy.put(parentType.getName(), children);
+                    final String[] names = line.split(" ");
+                    if (names[0].startsWith(modelPackage)) {
+                        final Set<String> superTypeNames = modelIndex.computeIfAbsent(names[0], key -> new HashSet<>());
+                        superTypeNames.addAll(Arrays.asList(names).subList(1, names.length));
+                        // the index leaves out Object, which a scanned hierarchy gives every type as a supertype
+                        superTypeNames.add(Object.class.getName());
+                    }
+                }
+            }
+            catch (final IOException caught) {
+                return null;
             }
 
-            for (final Class<?> childType : types)
-                if (parentType.isAssignableFrom(childType))
-                    children.add(childType.getName());
-        }
-
-        return hierarchy;
+        return modelIndex.isEmpty() ? null : modelIndex;
     }
 }
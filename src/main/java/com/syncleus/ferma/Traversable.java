@@ -20,6 +20,8 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 public interface Traversable<PE, E> {
     <T extends Traversable<?, ?>> T traverse(final Function<GraphTraversal<PE, E>, GraphTraversal<?,?>> traverser);
@@ -218,6 +220,34 @@ public interface Traversable<PE, E> {
      */
     <N> List<? extends N> toListExplicit(Class<N> kind);
 
+    /**
+     * Return a list of all the objects in the pipeline, each framed the first time it is read from the list. Frames are
+     * kept, so reading an element again does not frame it again. Useful when only a few of many results are read.
+     *
+     * @param <N> The type used to frame the element
+     * @param kind
+     *            The kind of framed elements to return.
+     * @return a list of all the objects
+     * @since 3.3.1
+     */
+    <N> List<? extends N> toLazyList(Class<N> kind);
+
+    /**
+     * Return a list of all the objects in the pipeline, each framed the first time it is read from the list. Frames are
+     * kept, so reading an element again does not frame it again. Useful when only a few of many results are read.
+     *
+     * This will bypass the default type resolution and use the untyped resolver
+     * instead. This method is useful for speeding up a look up when type resolution
+     * isn't required.
+     *
+     * @param <N> The type used to frame the element
+     * @param kind
+     *            The kind of framed elements to return.
+     * @return a list of all the objects
+     * @since 3.3.1
+     */
+    <N> List<? extends N> toLazyListExplicit(Class<N> kind);
+
     /**
      * Return a set of all the objects in the pipeline.
      *
@@ -241,4 +271,150 @@ public interface Traversable<PE, E> {
      * @return a set of all the objects
      */
     <N> Set<? extends N> toSetExplicit(Class<N> kind);
+
+    /**
+     * Return a stream of all the objects in the pipeline. The stream is sequential, when made parallel the elements are
+     * taken off the traversal in batches and framed by the workers of the stream. Closing the stream closes the
+     * traversal.
+     *
+     * @param <N> The type used to frame the element
+     * @param kind
+     *            The kind of framed elements to return.
+     * @return a stream of all the objects
+     * @since 3.3.1
+     */
+    <N> Stream<N> stream(Class<N> kind);
+
+    /**
+     * Return a stream of all the objects in the pipeline. The stream is sequential, when made parallel the elements are
+     * taken off the traversal in batches and framed by the workers of the stream. Closing the stream closes the
+     * traversal.
+     *
+     * This will bypass the default type resolution and use the untyped resolver
+     * instead. This method is useful for speeding up a look up when type resolution
+     * isn't required.
+     *
+     * @param <N> The type used to frame the element
+     * @param kind
+     *            The kind of framed elements to return.
+     * @return a stream of all the objects
+     * @since 3.3.1
+     */
+    <N> Stream<N> streamExplicit(Class<N> kind);
+
+    /**
+     * Return one page of the objects in the pipeline, in the order the graph iterates them. The page is resumed after
+     * the element the cursor was taken from by filtering on its id, rather than by skipping every element of the earlier
+     * pages, so the graph must iterate the pipeline in increasing id order. Otherwise sort the objects with
+     * {@link #page(Class, int, String, boolean)}.
+     *
+     * @param <N> The type used to frame the element
+     * @param kind
+     *            The kind of framed elements to return.
+     * @param pageSize
+     *            The largest number of objects returned.
+     * @param cursor
+     *            The cursor of the previous page, null for the first page.
+     * @return The page, with the cursor of the following page.
+     * @since 3.3.1
+     */
+    <N> Page<N> page(Class<N> kind, int pageSize, String cursor);
+
+    /**
+     * Return one page of the objects in the pipeline, resumed after the element the cursor was taken from by filtering
+     * on its id. When the pipeline only filters the elements it starts from, the id filter follows the start step so
+     * the graph can answer it from an index.
+     *
+     * @param <N> The type used to frame the element
+     * @param kind
+     *            The kind of framed elements to return.
+     * @param pageSize
+     *            The largest number of objects returned.
+     * @param cursor
+     *            The cursor of the previous page, null for the first page.
+     * @param sort
+     *            Whether to order the objects by id. Ordering is a barrier holding every object after the cursor in
+     *            memory for each page, only use it when the graph does not iterate the pipeline in increasing id order,
+     *            otherwise pages will miss objects.
+     * @return The page, with the cursor of the following page.
+     * @since 3.3.1
+     */
+    <N> Page<N> page(Class<N> kind, int pageSize, String cursor, boolean sort);
+
+    /**
+     * Return one page of the objects in the pipeline, in the order the graph iterates them. The page is resumed after
+     * the element the cursor was taken from by filtering on its id, rather than by skipping every element of the earlier
+     * pages, so the graph must iterate the pipeline in increasing id order. Otherwise sort the objects with
+     * {@link #pageExplicit(Class, int, String, boolean)}.
+     *
+     * This will bypass the default type resolution and use the untyped resolver
+     * instead. This method is useful for speeding up a look up when type resolution
+     * isn't required.
+     *
+     * @param <N> The type used to frame the element
+     * @param kind
+     *            The kind of framed elements to return.
+     * @param pageSize
+     *            The largest number of objects returned.
+     * @param cursor
+     *            The cursor of the previous page, null for the first page.
+     * @return The page, with the cursor of the following page.
+     * @since 3.3.1
+     */
+    <N> Page<N> pageExplicit(Class<N> kind, int pageSize, String cursor);
+
+    /**
+     * Return one page of the objects in the pipeline, resumed after the element the cursor was taken from by filtering
+     * on its id. When the pipeline only filters the elements it starts from, the id filter follows the start step so
+     * the graph can answer it from an index.
+     *
+     * This will bypass the default type resolution and use the untyped resolver
+     * instead. This method is useful for speeding up a look up when type resolution
+     * isn't required.
+     *
+     * @param <N> The type used to frame the element
+     * @param kind
+     *            The kind of framed elements to return.
+     * @param pageSize
+     *            The largest number of objects returned.
+     * @param cursor
+     *            The cursor of the previous page, null for the first page.
+     * @param sort
+     *            Whether to order the objects by id. Ordering is a barrier holding every object after the cursor in
+     *            memory for each page, only use it when the graph does not iterate the pipeline in increasing id order,
+     *            otherwise pages will miss objects.
+     * @return The page, with the cursor of the following page.
+     * @since 3.3.1
+     */
+    <N> Page<N> pageExplicit(Class<N> kind, int pageSize, String cursor, boolean sort);
+
+    /**
+     * Return a publisher of all the objects in the pipeline, framing each only once the subscriber requests it.
+     *
+     * @param <N> The type used to frame the element
+     * @param kind
+     *            The kind of framed elements to return.
+     * @param executor
+     *            The executor the objects are framed and sent to the subscriber on.
+     * @return a publisher of all the objects
+     * @since 3.3.1
+     */
+    <N> FramePublisher<N> publisher(Class<N> kind, Executor executor);
+
+    /**
+     * Return a publisher of all the objects in the pipeline, framing each only once the subscriber requests it.
+     *
+     * This will bypass the default type resolution and use the untyped resolver
+     * instead. This method is useful for speeding up a look up when type resolution
+     * isn't required.
+     *
+     * @param <N> The type used to frame the element
+     * @param kind
+     *            The kind of framed elements to return.
+     * @param executor
+     *            The executor the objects are framed and sent to the subscriber on.
+     * @return a publisher of all the objects
+     * @since 3.3.1
+     */
+    <N> FramePublisher<N> publisherExplicit(Class<N> kind, Executor executor);
 }
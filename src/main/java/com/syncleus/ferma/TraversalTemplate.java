@@ -0,0 +1,97 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import com.google.common.collect.MapMaker;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A traversal from a single vertex which is built and has its strategies applied once, then copied for every vertex
+ * it is started from. Starting a template costs a copy of its steps, rather than building the steps and applying the
+ * strategies of the graph again on every call.
+ *
+ * The template is compiled once for each graph and set of traversal strategies it is started with, so the strategies
+ * see the graph the traversal runs on. The compiled traversal holds no graph once its strategies are applied, so a
+ * template does not keep the graphs it was started on from being collected. A template is safe to start from multiple
+ * threads.
+ *
+ * Traversals of a remote source are sent as bytecode and need a start step of their own, they are built from the
+ * source on every call rather than copied from a template.
+ *
+ * @param <E> The type of the objects the traversal emits.
+ * @since 3.3.1
+ */
+public final class TraversalTemplate<E> {
+    private final Function<GraphTraversal<Vertex, Vertex>, GraphTraversal<Vertex, E>> definition;
+    private final Map<Graph, Map<TraversalStrategies, Traversal.Admin<Vertex, E>>> compiled = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * @param definition Appends the steps of the template to an anonymous traversal.
+     */
+    public TraversalTemplate(final Function<GraphTraversal<Vertex, Vertex>, GraphTraversal<Vertex, E>> definition) {
+        if (definition == null)
+            throw new IllegalArgumentException("definition can not be null");
+
+        this.definition = definition;
+    }
+
+    /**
+     * Starts a copy of the template from a vertex.
+     *
+     * @param source The source whose graph and strategies the traversal runs with.
+     * @param start The vertex the traversal starts from.
+     * @return A traversal ready to be iterated, its steps can not be changed.
+     */
+    public GraphTraversal<Vertex, E> start(final GraphTraversalSource source, final Vertex start) {
+        if (Traversals.isRemote(source))
+            return this.definition.apply(Traversals.startFrom(source, start));
+
+        Map<TraversalStrategies, Traversal.Admin<Vertex, E>> compiledForGraph = this.compiled.get(source.getGraph());
+        if (compiledForGraph == null)
+            compiledForGraph = this.compiled.computeIfAbsent(source.getGraph(), graph -> new MapMaker().weakKeys().makeMap());
+        Traversal.Admin<Vertex, E> template = compiledForGraph.get(source.getStrategies());
+        if (template == null)
+            template = compiledForGraph.computeIfAbsent(source.getStrategies(), strategies -> this.compile(source));
+
+        final Traversal.Admin<Vertex, E> traversal = template.clone();
+        traversal.setGraph(source.getGraph());
+        traversal.addStart(traversal.getTraverserGenerator().generate(start, (Step) traversal.getStartStep(), 1L));
+        return (GraphTraversal<Vertex, E>) traversal;
+    }
+
+    private Traversal.Admin<Vertex, E> compile(final GraphTraversalSource source) {
+        final Traversal.Admin<Vertex, E> traversal = this.definition.apply(__.<Vertex>start()).asAdmin();
+        traversal.setStrategies(source.getStrategies());
+        traversal.setGraph(source.getGraph());
+        traversal.applyStrategies();
+        // the graph is set on each copy instead, so the template does not keep the graph it is keyed on reachable
+        traversal.setGraph(EmptyGraph.instance());
+        // the generator is copied along with the steps, so the requirements of the steps are only worked out once
+        traversal.getTraverserGenerator();
+        return traversal;
+    }
+}
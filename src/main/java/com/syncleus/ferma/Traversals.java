@@ -0,0 +1,62 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import org.apache.tinkerpop.gremlin.process.remote.traversal.strategy.decoration.RemoteStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+/**
+ * Starts traversals from an element the source already holds. An embedded source injects the element, which skips
+ * looking it up again. A remote source sends its traversals as bytecode, where an injected element would have to be
+ * serialized whole, so it looks the element up by id instead.
+ *
+ * @since 3.3.1
+ */
+final class Traversals {
+
+    //this is a utility class, so we don't want it instantiated.
+    private Traversals() {
+    }
+
+    /**
+     * @param source The source the traversal is built from.
+     * @return True if the traversals of the source are executed remotely.
+     */
+    static boolean isRemote(final GraphTraversalSource source) {
+        return source.getStrategies().getStrategy(RemoteStrategy.class).isPresent();
+    }
+
+    /**
+     * @param source The source the traversal is built from.
+     * @param start The vertex the traversal starts from.
+     * @return A traversal emitting the vertex.
+     */
+    static GraphTraversal<Vertex, Vertex> startFrom(final GraphTraversalSource source, final Vertex start) {
+        return isRemote(source) ? source.V(start.id()) : source.inject(start);
+    }
+
+    /**
+     * @param source The source the traversal is built from.
+     * @param start The edge the traversal starts from.
+     * @return A traversal emitting the edge.
+     */
+    static GraphTraversal<Edge, Edge> startFrom(final GraphTraversalSource source, final Edge start) {
+        return isRemote(source) ? source.E(start.id()) : source.inject(start);
+    }
+}
@@ -0,0 +1,207 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The subtype relation between the types known to a {@link ReflectionCache}. Every type, including supertypes which
+ * are not themselves part of the hierarchy, is given a dense integer id, and the subtypes of each type are kept as a
+ * {@link BitSet} of those ids. Adding a type only touches the bit sets of its own supertypes, so the hierarchy is built
+ * in a single walk over the types and can grow at runtime.
+ */
+final class TypeHierarchy {
+    private final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private final List<BitSet> subTypes = new ArrayList<>();
+    private final BitSet members = new BitSet();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds the given types, along with every type they extend or implement to the extent those are needed to relate
+     * them. The supertypes of each class are computed once, no matter how many of the added types share them.
+     */
+    void addAll(final Collection<? extends Class<?>> types) {
+        this.lock.writeLock().lock();
+        try {
+            final Map<Class<?>, BitSet> superTypeCache = new HashMap<>();
+            for (final Class<?> type : types)
+                this.addMember(this.idOf(type.getName()), this.superTypesOf(type, superTypeCache));
+        }
+        finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a type by name.
+     *
+     * @param typeName The name of the type.
+     * @param superTypeNames The names of all types the type extends or implements, directly or indirectly.
+     */
+    void add(final String typeName, final Collection<String> superTypeNames) {
+        this.lock.writeLock().lock();
+        try {
+            final BitSet superTypeIds = new BitSet();
+            for (final String superTypeName : superTypeNames)
+                superTypeIds.set(this.idOf(superTypeName));
+            this.addMember(this.idOf(typeName), superTypeIds);
+        }
+        finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private void addMember(final int id, final BitSet superTypeIds) {
+        this.members.set(id);
+        this.subTypes.get(id).set(id);
+        for (int superTypeId = superTypeIds.nextSetBit(0); superTypeId >= 0; superTypeId = superTypeIds.nextSetBit(superTypeId + 1))
+            this.subTypes.get(superTypeId).set(id);
+    }
+
+    /**
+     * Interfaces are given Object as a supertype, matching {@link Class#isAssignableFrom(Class)}.
+     */
+    private BitSet superTypesOf(final Class<?> type, final Map<Class<?>, BitSet> superTypeCache) {
+        final BitSet cached = superTypeCache.get(type);
+        if (cached != null)
+            return cached;
+
+        final BitSet superTypeIds = new BitSet();
+        final List<Class<?>> directSuperTypes = new ArrayList<>(Arrays.asList(type.getInterfaces()));
+        if (type.getSuperclass() != null)
+            directSuperTypes.add(type.getSuperclass());
+        else if (type.isInterface())
+            directSuperTypes.add(Object.class);
+
+        for (final Class<?> directSuperType : directSuperTypes) {
+            superTypeIds.set(this.idOf(directSuperType.getName()));
+            superTypeIds.or(this.superTypesOf(directSuperType, superTypeCache));
+        }
+        superTypeCache.put(type, superTypeIds);
+        return superTypeIds;
+    }
+
+    private int idOf(final String typeName) {
+        final Integer existing = this.ids.get(typeName);
+        if (existing != null)
+            return existing;
+
+        final int id = this.names.size();
+        this.names.add(typeName);
+        this.subTypes.add(new BitSet());
+        this.ids.put(typeName, id);
+        return id;
+    }
+
+    /**
+     * @return The names of all types added to the hierarchy.
+     */
+    Set<String> getTypeNames() {
+        this.lock.readLock().lock();
+        try {
+            return new TypeNameSet((BitSet) this.members.clone());
+        }
+        finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return The names of the type and all of its subtypes in the hierarchy, or just the name of the type if it was
+     * never added.
+     */
+    Set<String> getSubTypeNames(final String typeName) {
+        final Integer id = this.ids.get(typeName);
+        if (id == null)
+            return Collections.singleton(typeName);
+
+        this.lock.readLock().lock();
+        try {
+            if (!this.members.get(id))
+                return Collections.singleton(typeName);
+            final BitSet subTypeIds = (BitSet) this.subTypes.get(id).clone();
+            subTypeIds.and(this.members);
+            return new TypeNameSet(subTypeIds);
+        }
+        finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * An immutable set of type names, backed by a bit set of their ids. Must be created while holding the lock.
+     */
+    private final class TypeNameSet extends AbstractSet<String> {
+        private final BitSet typeIds;
+        private final String[] typeNames;
+
+        private TypeNameSet(final BitSet typeIds) {
+            this.typeIds = typeIds;
+            this.typeNames = new String[typeIds.cardinality()];
+            int index = 0;
+            for (int id = typeIds.nextSetBit(0); id >= 0; id = typeIds.nextSetBit(id + 1))
+                this.typeNames[index++] = TypeHierarchy.this.names.get(id);
+        }
+
+        @Override
+        public boolean contains(final Object typeName) {
+            if (typeName == null)
+                return false;
+            final Integer id = TypeHierarchy.this.ids.get(typeName);
+            return id != null && this.typeIds.get(id);
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return new Iterator<String>() {
+                private int index = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return this.index < TypeNameSet.this.typeNames.length;
+                }
+
+                @Override
+                public String next() {
+                    if (!this.hasNext())
+                        throw new NoSuchElementException();
+                    return TypeNameSet.this.typeNames[this.index++];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return this.typeNames.length;
+        }
+    }
+}
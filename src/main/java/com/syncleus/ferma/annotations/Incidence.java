@@ -34,6 +34,15 @@ import java.lang.annotation.Target;
  * When annotating a get* class it ensures it only returns nodes of the specified type (including sub-classes). Any
  * Nodes which are not of this type will not be returned.
  *
+ * Getters returning a long or an int count the edges, getters returning a boolean tell whether there are any, and
+ * getters returning an Iterator, List or Set may take an int limiting the number of edges returned. None of them
+ * frame more edges than they return.
+ *
+ * long count*()
+ * boolean has*()
+ * List&lt;T&gt; get*(int limit)
+ * List&lt;T&gt; get*(Class&lt;T&gt; type, int limit)
+ *
  * @since 2.0.0
  */
 @Retention(RetentionPolicy.RUNTIME)
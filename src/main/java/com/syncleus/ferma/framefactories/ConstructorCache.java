@@ -0,0 +1,129 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.framefactories;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches a supplier calling the default constructor of each frame class, so frames can be instantiated without a
+ * reflective call. When the class is visible from the class loader of the cache's lookup the supplier is linked with the
+ * {@link LambdaMetafactory}, which makes instantiating a frame as cheap as calling new directly. Other classes, such as
+ * those defined by a child class loader, are instantiated through a cached {@link MethodHandle}.
+ *
+ * @since 3.3.1
+ */
+public class ConstructorCache {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType DEFAULT_CONSTRUCTOR = MethodType.methodType(void.class);
+    private static final MethodType SUPPLIER_FACTORY = MethodType.methodType(Supplier.class);
+    private static final MethodType SUPPLIER_GET = MethodType.methodType(Object.class);
+
+    private final ConcurrentMap<Class<?>, Supplier<?>> constructors = new ConcurrentHashMap<>();
+    private final MethodHandles.Lookup lookup;
+
+    /**
+     * Creates a cache linking the constructors of the classes visible to Ferma's own class loader.
+     */
+    public ConstructorCache() {
+        this(LOOKUP);
+    }
+
+    /**
+     * Creates a cache linking the constructors of the classes visible to the class loader of the lookup class. Frame
+     * factories defining their classes in a class loader of their own pass a lookup of a class in that loader, so the
+     * frame classes are linked with the {@link LambdaMetafactory} as well.
+     *
+     * @param lookup A lookup with full privileges on its lookup class.
+     * @since 3.3.1
+     */
+    public ConstructorCache(final MethodHandles.Lookup lookup) {
+        if (lookup == null)
+            throw new IllegalArgumentException("lookup can not be null");
+        this.lookup = lookup;
+    }
+
+    /**
+     * Get the cached constructor of the given class, creating it on first use.
+     *
+     * @param kind The class to instantiate.
+     * @param <T> The type of the class.
+     * @return A supplier returning a new instance on each call.
+     * @throws IllegalArgumentException if the class is abstract or has no accessible default constructor.
+     */
+    public <T> Supplier<T> getConstructor(final Class<T> kind) {
+        Supplier<?> constructor = this.constructors.get(kind);
+        if (constructor == null)
+            constructor = this.constructors.computeIfAbsent(kind, this::createConstructor);
+        return (Supplier<T>) constructor;
+    }
+
+    private Supplier<?> createConstructor(final Class<?> kind) {
+        if (kind.isInterface() || Modifier.isAbstract(kind.getModifiers()))
+            throw new IllegalArgumentException(kind.getName() + " is abstract and can not be instantiated");
+
+        final MethodHandle constructor;
+        try {
+            constructor = this.lookup.findConstructor(kind, DEFAULT_CONSTRUCTOR);
+        }
+        catch (final NoSuchMethodException | IllegalAccessException caught) {
+            throw new IllegalArgumentException(kind.getName() + " does not have an accessible default constructor", caught);
+        }
+
+        if (isVisible(kind))
+            try {
+                final CallSite site = LambdaMetafactory.metafactory(this.lookup, "get", SUPPLIER_FACTORY, SUPPLIER_GET, constructor, MethodType.methodType(kind));
+                return (Supplier<?>) site.getTarget().invoke();
+            }
+            catch (final Throwable caught) {
+                // the method handle below can instantiate anything the lookup could resolve
+            }
+
+        final MethodHandle genericConstructor = constructor.asType(SUPPLIER_GET);
+        return () -> {
+            try {
+                return genericConstructor.invokeExact();
+            }
+            catch (final RuntimeException | Error caught) {
+                throw caught;
+            }
+            catch (final Throwable caught) {
+                throw new IllegalStateException("Could not instantiate kind: " + kind.getName(), caught);
+            }
+        };
+    }
+
+    /**
+     * A lambda is defined alongside the lookup class, so it can only link against classes the class loader of the
+     * lookup class resolves to the same class.
+     */
+    private boolean isVisible(final Class<?> kind) {
+        try {
+            return Class.forName(kind.getName(), false, this.lookup.lookupClass().getClassLoader()) == kind;
+        }
+        catch (final ClassNotFoundException | LinkageError caught) {
+            return false;
+        }
+    }
+}
@@ -17,18 +17,24 @@ package com.syncleus.ferma.framefactories;
 
 import org.apache.tinkerpop.gremlin.structure.Element;
 
+import java.util.function.Supplier;
+
 /**
- * Creates the frame using reflection.
+ * Creates the frame through a cached constructor of the requested kind.
  */
 public class DefaultFrameFactory implements FrameFactory {
 
+    private final ConstructorCache constructors = new ConstructorCache();
+
     @Override
     public <T> T create(final Element e, final Class<T> kind) {
+        final Supplier<T> constructor;
         try {
-            return kind.newInstance();
+            constructor = this.constructors.getConstructor(kind);
         }
-        catch (final InstantiationException | IllegalAccessException caught) {
+        catch (final IllegalArgumentException caught) {
             throw new IllegalStateException("Could not instantiate kind: " + kind.getName(), caught);
         }
+        return constructor.get();
     }
 }
@@ -16,33 +16,207 @@
 package com.syncleus.ferma.framefactories.annotation;
 
 import com.syncleus.ferma.*;
+import com.syncleus.ferma.annotations.Adjacency;
+import com.syncleus.ferma.annotations.InVertex;
+import com.syncleus.ferma.annotations.Incidence;
+import com.syncleus.ferma.annotations.OutVertex;
+import com.syncleus.ferma.annotations.Property;
+import com.syncleus.ferma.framefactories.ConstructorCache;
 import com.syncleus.ferma.framefactories.FrameFactory;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Ownership;
 import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
+import net.bytebuddy.dynamic.loading.ClassInjector;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.loading.InjectionClassLoader;
 import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.MethodCall;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.utility.RandomString;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 public class AbstractAnnotationFrameFactory implements FrameFactory {
+    /**
+     * Suffix appended to the name of a frame type to form the name of the implementation generated for it by the
+     * {@link GraphElementProcessor}. Nested types are flattened with an underscore, so Outer.Inner becomes
+     * Outer_InnerImpl.
+     */
+    public static final String IMPLEMENTATION_SUFFIX = "Impl";
+    /**
+     * Infix of the name of frame classes generated at runtime, the name of the frame type comes before it and either a
+     * random suffix or the key of the class in the {@link BytecodeCache} after it.
+     */
+    public static final String FRAME_CLASS_INFIX = "$FermaFrame$";
+
     protected final Map<Class<? extends Annotation>, MethodHandler> methodHandlers = new HashMap<>();
     private final ReflectionCache reflectionCache;
-    private final Map<Class, Class> constructedClassCache = new HashMap<>();
+    private final ConcurrentMap<Class<?>, Class<?>> constructedClassCache = new ConcurrentHashMap<>();
+    private final ConstructorCache constructors;
+    private final boolean generatedClassesSupported;
+    private final FrameClassLoading classLoading;
+    private final InjectionClassLoader sharedClassLoader;
+    private final LongAdder generatedClassCount = new LongAdder();
+    private final LongAdder generatedBytecodeSize = new LongAdder();
+    private final BytecodeCache bytecodeCache;
+    private final LongAdder cachedClassCount = new LongAdder();
 
     protected AbstractAnnotationFrameFactory(final ReflectionCache reflectionCache, Set<MethodHandler> handlers) {
+        this(reflectionCache, handlers, FrameClassLoading.SHARED);
+    }
+
+    /**
+     * @param reflectionCache The reflection cache used to inspect annotations.
+     * @param handlers The handlers used to generate new annotation support.
+     * @param classLoading Determines which class loader the frame classes generated at runtime are defined in.
+     * @since 3.3.1
+     */
+    protected AbstractAnnotationFrameFactory(final ReflectionCache reflectionCache, Set<MethodHandler> handlers, final FrameClassLoading classLoading) {
+        this(reflectionCache, handlers, classLoading, null);
+    }
+
+    /**
+     * @param reflectionCache The reflection cache used to inspect annotations.
+     * @param handlers The handlers used to generate new annotation support.
+     * @param classLoading Determines which class loader the frame classes generated at runtime are defined in.
+     * @param bytecodeCache Stores the frame classes generated at runtime across restarts, null to disable.
+     * @since 3.3.1
+     */
+    protected AbstractAnnotationFrameFactory(final ReflectionCache reflectionCache, Set<MethodHandler> handlers, final FrameClassLoading classLoading, final BytecodeCache bytecodeCache) {
+        if (classLoading == null)
+            throw new IllegalArgumentException("classLoading can not be null");
+
         this.reflectionCache = reflectionCache;
         for(MethodHandler handler : handlers)
             this.methodHandlers.put(handler.getAnnotationType(), handler);
+        this.generatedClassesSupported = usesBuiltInHandlers(this.methodHandlers);
+        this.classLoading = classLoading;
+        this.sharedClassLoader = classLoading == FrameClassLoading.WRAPPER ? null : new ByteArrayClassLoader(AnnotationFrameFactory.class.getClassLoader(), false, Collections.emptyMap());
+        this.constructors = this.sharedClassLoader == null ? new ConstructorCache() : new ConstructorCache(lookupIn(this.sharedClassLoader));
+        this.bytecodeCache = bytecodeCache;
+    }
+
+    /**
+     * Defines a class in the shared class loader which hands out its own lookup. Ferma's class loader can not see the
+     * frame classes defined by its child, a lookup in the child lets their constructors be linked with the
+     * LambdaMetafactory rather than called through a method handle.
+     */
+    private static MethodHandles.Lookup lookupIn(final InjectionClassLoader classLoader) {
+        try {
+            final Class<?> lookupClass = new ByteBuddy()
+                    .subclass(Object.class)
+                    .name(AbstractAnnotationFrameFactory.class.getName() + "$FermaLookup")
+                    .defineMethod("lookup", MethodHandles.Lookup.class, Visibility.PUBLIC, Ownership.STATIC)
+                    .intercept(MethodCall.invoke(MethodHandles.class.getMethod("lookup")))
+                    .make()
+                    .load(classLoader, InjectionClassLoader.Strategy.INSTANCE)
+                    .getLoaded();
+            return (MethodHandles.Lookup) lookupClass.getMethod("lookup").invoke(null);
+        }
+        catch (final ReflectiveOperationException caught) {
+            throw new IllegalStateException("Could not create a lookup in the shared class loader", caught);
+        }
+    }
+
+    /**
+     * Generated implementations hard code the behavior of the built-in handlers, so they can only stand in for a Byte
+     * Buddy subclass when none of those handlers were replaced.
+     */
+    private static boolean usesBuiltInHandlers(final Map<Class<? extends Annotation>, MethodHandler> handlers) {
+        return isHandledBy(handlers, Property.class, PropertyMethodHandler.class)
+              && isHandledBy(handlers, Adjacency.class, AdjacencyMethodHandler.class)
+              && isHandledBy(handlers, Incidence.class, IncidenceMethodHandler.class)
+              && isHandledBy(handlers, InVertex.class, InVertexMethodHandler.class)
+              && isHandledBy(handlers, OutVertex.class, OutVertexMethodHandler.class);
+    }
+
+    private static boolean isHandledBy(final Map<Class<? extends Annotation>, MethodHandler> handlers, final Class<? extends Annotation> annotation, final Class<? extends MethodHandler> handlerType) {
+        final MethodHandler handler = handlers.get(annotation);
+        return handler != null && handler.getClass().equals(handlerType);
+    }
+
+    /**
+     * @return Determines which class loader the frame classes generated at runtime are defined in.
+     * @since 3.3.1
+     */
+    public FrameClassLoading getClassLoading() {
+        return this.classLoading;
+    }
+
+    /**
+     * @return Stores the frame classes generated at runtime across restarts, null if disabled.
+     * @since 3.3.1
+     */
+    public BytecodeCache getBytecodeCache() {
+        return this.bytecodeCache;
+    }
+
+    /**
+     * The number of frame classes this factory generated at runtime. Frame classes generated at compile time are not
+     * counted.
+     *
+     * @return The number of frame classes generated at runtime.
+     * @since 3.3.1
+     */
+    public long getGeneratedClassCount() {
+        return this.generatedClassCount.sum();
+    }
+
+    /**
+     * The number of frame classes this factory defined from the class files in its {@link BytecodeCache} rather than
+     * generating them.
+     *
+     * @return The number of frame classes loaded from the bytecode cache.
+     * @since 3.3.1
+     */
+    public long getCachedClassCount() {
+        return this.cachedClassCount.sum();
+    }
+
+    /**
+     * The combined size of the class files this factory generated at runtime. The metaspace taken up by a class is
+     * roughly proportional to the size of its class file, which makes this a measure of the metaspace attributable to
+     * the frame classes of this factory.
+     *
+     * @return The size of all class files generated at runtime, in bytes.
+     * @since 3.3.1
+     */
+    public long getGeneratedBytecodeSize() {
+        return this.generatedBytecodeSize.sum();
+    }
+
+    /**
+     * Determines the name of the class the {@link GraphElementProcessor} generates for the given frame type.
+     *
+     * @param type The abstract frame type.
+     * @return The fully qualified name of the generated implementation.
+     */
+    public static String getImplementationName(final Class<?> type) {
+        final String name = type.getName();
+        final int packageEnd = name.lastIndexOf('.') + 1;
+        return name.substring(0, packageEnd) + name.substring(packageEnd).replace('$', '_') + IMPLEMENTATION_SUFFIX;
     }
 
     private static boolean isAbstract(final Class<?> clazz) {
@@ -58,41 +232,108 @@ public class AbstractAnnotationFrameFactory implements FrameFactory {
 
         Class<? extends T> resolvedKind = kind;
         if (isAbstract(resolvedKind))
-            resolvedKind = constructClass(e, kind);
+            resolvedKind = constructClass(elementTypeOf(e), kind);
+        final Supplier<? extends T> constructor;
         try {
-            final T object = resolvedKind.newInstance();
-            if (object instanceof CachesReflection)
-                ((CachesReflection) object).setReflectionCache(this.reflectionCache);
-            return object;
+            constructor = this.constructors.getConstructor(resolvedKind);
         }
-        catch (final InstantiationException | IllegalAccessException caught) {
+        catch (final IllegalArgumentException caught) {
             throw new IllegalArgumentException("kind could not be instantiated", caught);
         }
+
+        final T object = constructor.get();
+        if (object instanceof CachesReflection)
+            ((CachesReflection) object).setReflectionCache(this.reflectionCache);
+        return object;
+    }
+
+    /**
+     * Generates the frame classes of every abstract vertex and edge type known to the reflection cache in parallel,
+     * so the first frame created for each type does not pay for class generation. Returns once all classes have been
+     * generated.
+     *
+     * @param executor The executor the classes are generated on.
+     */
+    public void prewarm(final Executor executor) {
+        final List<CompletableFuture<Boolean>> tasks = new ArrayList<>();
+        for (final String typeName : this.reflectionCache.getTypeNames()) {
+            final Class<?> type = this.reflectionCache.forName(typeName);
+            tasks.add(CompletableFuture.supplyAsync(() -> this.prewarm(type), executor));
+        }
+        for (final CompletableFuture<Boolean> task : tasks)
+            task.join();
     }
 
-    private <E> Class<? extends E> constructClass(final Element element, final Class<E> clazz) {
-        Class constructedClass = constructedClassCache.get(clazz);
+    /**
+     * Generates the frame class of the given type, unless it was already generated.
+     *
+     * @param kind The frame type.
+     * @return True if the type is an abstract vertex or edge frame and its frame class is now available, false if
+     * the type does not need a generated frame class.
+     */
+    public boolean prewarm(final Class<?> kind) {
+        if (!isAbstract(kind))
+            return false;
+        else if (VertexFrame.class.isAssignableFrom(kind))
+            this.constructClass(Vertex.class, kind);
+        else if (EdgeFrame.class.isAssignableFrom(kind))
+            this.constructClass(Edge.class, kind);
+        else
+            return false;
+        return true;
+    }
+
+    private static Class<? extends Element> elementTypeOf(final Element element) {
+        if (element instanceof Vertex)
+            return Vertex.class;
+        else if (element instanceof Edge)
+            return Edge.class;
+        return null;
+    }
+
+    /**
+     * Reads are lock free once a class is cached, the first request for a type generates it exactly once while
+     * concurrent requests for the same type wait for it.
+     */
+    private <E> Class<? extends E> constructClass(final Class<? extends Element> elementType, final Class<E> clazz) {
+        final Class<?> constructedClass = this.constructedClassCache.get(clazz);
         if (constructedClass != null)
-            return constructedClass;
+            return (Class<? extends E>) constructedClass;
+
+        return (Class<? extends E>) this.constructedClassCache.computeIfAbsent(clazz, key -> this.generateClass(elementType, clazz));
+    }
+
+    private <E> Class<? extends E> generateClass(final Class<? extends Element> elementType, final Class<E> clazz) {
+        final Class<? extends E> generatedClass = this.findGeneratedClass(elementType, clazz);
+        if (generatedClass != null)
+            return generatedClass;
 
         DynamicType.Builder<? extends E> classBuilder;
         if (clazz.isInterface())
-            if (element instanceof Vertex)
+            if (elementType == Vertex.class)
                 classBuilder = (DynamicType.Builder<? extends E>) new ByteBuddy().subclass(AbstractVertexFrame.class).implement(clazz);
-            else if (element instanceof Edge)
+            else if (elementType == Edge.class)
                 classBuilder = (DynamicType.Builder<? extends E>) new ByteBuddy().subclass(AbstractEdgeFrame.class).implement(clazz);
             else
                 throw new IllegalStateException("class is neither an Edge or a vertex!");
         else {
-            if( !(element instanceof Vertex || element instanceof Edge) )
+            if (elementType == null)
                 throw new IllegalStateException("element is neither an edge nor a vertex");
-            else if (element instanceof Vertex && !VertexFrame.class.isAssignableFrom(clazz))
+            else if (elementType == Vertex.class && !VertexFrame.class.isAssignableFrom(clazz))
                 throw new IllegalStateException(clazz.getName() + " Class is not a type of VertexFrame");
-            else if (element instanceof Edge && !EdgeFrame.class.isAssignableFrom(clazz))
+            else if (elementType == Edge.class && !EdgeFrame.class.isAssignableFrom(clazz))
                 throw new IllegalStateException(clazz.getName() + " Class is not a type of EdgeFrame");
             classBuilder = new ByteBuddy().subclass(clazz);
         }
 
+        final String cacheKey = this.bytecodeCache == null ? null : this.bytecodeCache.keyOf(clazz, elementType, this.classLoading, this.methodHandlers.values());
+        final String className = clazz.getName() + FRAME_CLASS_INFIX + (cacheKey == null ? RandomString.make() : cacheKey);
+        if (cacheKey != null) {
+            final Class<? extends E> cachedClass = this.loadCached(className, clazz);
+            if (cachedClass != null)
+                return cachedClass;
+        }
+
         classBuilder = classBuilder.defineField("reflectionCache", ReflectionCache.class, Visibility.PRIVATE, FieldManifestation.PLAIN).implement(CachesReflection.class).intercept(FieldAccessor.
               ofBeanProperty());
 
@@ -108,8 +349,108 @@ public class AbstractAnnotationFrameFactory implements FrameFactory {
                     }
                 }
 
-        constructedClass = classBuilder.make().load(AnnotationFrameFactory.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
-        this.constructedClassCache.put(clazz, constructedClass);
-        return constructedClass;
+        final DynamicType.Unloaded<? extends E> unloadedClass = classBuilder.name(className).make();
+        final Class<? extends E> loadedClass = this.load(unloadedClass, clazz);
+        this.generatedClassCount.increment();
+        this.generatedBytecodeSize.add(unloadedClass.getBytes().length);
+        // classes which need initializers run by Byte Buddy after loading can not be defined from their bytes alone
+        if (cacheKey != null && !unloadedClass.hasAliveLoadedTypeInitializers())
+            this.bytecodeCache.write(className, unloadedClass.getBytes());
+        return loadedClass;
+    }
+
+    /**
+     * Defines the frame class from the bytecode cache. A cached class file which can not be defined is evicted, so the
+     * class is generated and cached again.
+     */
+    private <E> Class<? extends E> loadCached(final String className, final Class<E> clazz) {
+        final ClassLoader frameTypeLoader = clazz.getClassLoader();
+        if (this.classLoading == FrameClassLoading.INJECTION && frameTypeLoader != null)
+            try {
+                // another factory may already have injected the same class
+                return (Class<? extends E>) Class.forName(className, false, frameTypeLoader);
+            }
+            catch (final ClassNotFoundException caught) {
+                // not injected yet
+            }
+
+        final byte[] classFile = this.bytecodeCache.read(className);
+        if (classFile == null)
+            return null;
+
+        final Class<?> cachedClass;
+        try {
+            cachedClass = this.define(className, classFile, clazz);
+        }
+        catch (final ClassNotFoundException | LinkageError caught) {
+            this.bytecodeCache.evict(className);
+            return null;
+        }
+
+        if (!clazz.isAssignableFrom(cachedClass) || !CachesReflection.class.isAssignableFrom(cachedClass)) {
+            this.bytecodeCache.evict(className);
+            return null;
+        }
+        this.cachedClassCount.increment();
+        return (Class<? extends E>) cachedClass;
+    }
+
+    private Class<?> define(final String className, final byte[] classFile, final Class<?> clazz) throws ClassNotFoundException {
+        final ClassLoader frameTypeLoader = clazz.getClassLoader();
+        final Map<TypeDescription, byte[]> types = Collections.singletonMap(new TypeDescription.Latent(className, Opcodes.ACC_PUBLIC, TypeDescription.Generic.OBJECT), classFile);
+        if (this.classLoading == FrameClassLoading.WRAPPER)
+            return ClassLoadingStrategy.Default.WRAPPER.load(AnnotationFrameFactory.class.getClassLoader(), types).values().iterator().next();
+        else if (this.classLoading == FrameClassLoading.INJECTION && frameTypeLoader != null)
+            return injectionStrategy(clazz).load(frameTypeLoader, types).values().iterator().next();
+        else
+            return this.sharedClassLoader.defineClass(className, classFile);
+    }
+
+    private <E> Class<? extends E> load(final DynamicType.Unloaded<? extends E> unloadedClass, final Class<E> clazz) {
+        final ClassLoader frameTypeLoader = clazz.getClassLoader();
+        if (this.classLoading == FrameClassLoading.WRAPPER)
+            return unloadedClass.load(AnnotationFrameFactory.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+        else if (this.classLoading == FrameClassLoading.INJECTION && frameTypeLoader != null)
+            return unloadedClass.load(frameTypeLoader, injectionStrategy(clazz)).getLoaded();
+        else
+            return unloadedClass.load(this.sharedClassLoader, InjectionClassLoader.Strategy.INSTANCE).getLoaded();
+    }
+
+    /**
+     * Defining a class through a lookup needs package access to the frame type, which only a private lookup obtained
+     * with MethodHandles.privateLookupIn grants. That method exists from Java 9 on and is called reflectively, older
+     * virtual machines and frame types in modules that are not open to Ferma fall back to reflective injection.
+     */
+    private static ClassLoadingStrategy<ClassLoader> injectionStrategy(final Class<?> clazz) {
+        if (ClassInjector.UsingLookup.isAvailable())
+            try {
+                final Object privateLookup = MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class).invoke(null, clazz, MethodHandles.lookup());
+                return (classLoader, types) -> ClassInjector.UsingLookup.of(privateLookup).inject(types);
+            }
+            catch (final ReflectiveOperationException caught) {
+                // no private access to the package of the frame type
+            }
+        return ClassLoadingStrategy.Default.INJECTION;
+    }
+
+    private <E> Class<? extends E> findGeneratedClass(final Class<? extends Element> elementType, final Class<E> clazz) {
+        if (!this.generatedClassesSupported)
+            return null;
+
+        final Class<?> generatedClass;
+        try {
+            generatedClass = Class.forName(getImplementationName(clazz), true, clazz.getClassLoader());
+        }
+        catch (final ClassNotFoundException | LinkageError caught) {
+            return null;
+        }
+
+        if (!clazz.isAssignableFrom(generatedClass) || !CachesReflection.class.isAssignableFrom(generatedClass) || isAbstract(generatedClass))
+            return null;
+        else if (elementType == Vertex.class && VertexFrame.class.isAssignableFrom(generatedClass))
+            return (Class<? extends E>) generatedClass;
+        else if (elementType == Edge.class && EdgeFrame.class.isAssignableFrom(generatedClass))
+            return (Class<? extends E>) generatedClass;
+        return null;
     }
 }
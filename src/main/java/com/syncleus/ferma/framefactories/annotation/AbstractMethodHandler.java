@@ -15,7 +15,62 @@
  */
 package com.syncleus.ferma.framefactories.annotation;
 
+import net.bytebuddy.description.enumeration.EnumerationDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.MethodCall;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
 public abstract class AbstractMethodHandler implements MethodHandler {
+    /**
+     * Creates an implementation that calls the static method declared by the given interceptor. The interceptor is
+     * passed the frame itself, followed by the given constants and finally all the arguments of the intercepted
+     * method. The constants, such as the label or direction of the annotation, are written directly into the
+     * generated class so they do not have to be resolved from the annotation on every call.
+     *
+     * @param interceptor class declaring exactly one public static method to call, besides deprecated ones.
+     * @param constants Strings, enumerations or classes passed to the interceptor in the given order.
+     * @return the implementation calling the interceptor.
+     */
+    protected static Implementation invokeInterceptor(final Class<?> interceptor, final Object... constants) {
+        MethodCall call = MethodCall.invoke(interceptorMethod(interceptor)).withThis();
+        for (final Object constant : constants)
+            if (constant instanceof Enum)
+                call = call.with(new EnumerationDescription.ForLoadedEnumeration((Enum<?>) constant));
+            else if (constant instanceof Class)
+                call = call.with(new TypeDescription.ForLoadedType((Class<?>) constant));
+            else
+                call = call.with(constant);
+        return call.withAllArguments().withAssigner(Assigner.DEFAULT, Assigner.Typing.DYNAMIC);
+    }
+
+    private static Method interceptorMethod(final Class<?> interceptor) {
+        Method found = null;
+        for (final Method method : interceptor.getDeclaredMethods())
+            if (Modifier.isStatic(method.getModifiers()) && Modifier.isPublic(method.getModifiers()) && !method.isAnnotationPresent(Deprecated.class))
+                if (found == null)
+                    found = method;
+                else
+                    throw new IllegalArgumentException(interceptor.getName() + " declares more than one public static method.");
+        if (found == null)
+            throw new IllegalArgumentException(interceptor.getName() + " does not declare a public static method.");
+        return found;
+    }
+
+    /**
+     * Looks up the annotation of a method intercepted through one of the deprecated interceptors taking the
+     * intercepted method rather than the values of its annotation.
+     */
+    static <A extends Annotation> A annotationOf(final Object thiz, final Method method, final Class<A> annotationType) {
+        if (thiz instanceof CachesReflection)
+            return ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, annotationType);
+        return method.getAnnotation(annotationType);
+    }
+
     @Override
     public int hashCode() {
         return this.getAnnotationType().hashCode();
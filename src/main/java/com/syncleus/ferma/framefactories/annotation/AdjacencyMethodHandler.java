@@ -15,25 +15,34 @@
  */
 package com.syncleus.ferma.framefactories.annotation;
 
+import com.syncleus.ferma.AdjacencyLoader;
 import com.syncleus.ferma.ClassInitializer;
+import com.syncleus.ferma.DefaultTraversable;
+import com.syncleus.ferma.Traversable;
+import com.syncleus.ferma.TraversalTemplate;
 import com.syncleus.ferma.VertexFrame;
 import com.syncleus.ferma.annotations.Adjacency;
 import com.syncleus.ferma.typeresolvers.TypeResolver;
 import net.bytebuddy.dynamic.DynamicType;
-import net.bytebuddy.implementation.MethodDelegation;
-import net.bytebuddy.implementation.bind.annotation.Argument;
-import net.bytebuddy.implementation.bind.annotation.Origin;
-import net.bytebuddy.implementation.bind.annotation.RuntimeType;
-import net.bytebuddy.implementation.bind.annotation.This;
+import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.matcher.ElementMatchers;
+import net.bytebuddy.implementation.bind.annotation.This;
+import net.bytebuddy.implementation.bind.annotation.RuntimeType;
+import net.bytebuddy.implementation.bind.annotation.Origin;
+import net.bytebuddy.implementation.bind.annotation.Argument;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 /**
@@ -42,6 +51,8 @@ import java.util.function.Consumer;
  * @since 2.0.0
  */
 public class AdjacencyMethodHandler extends AbstractMethodHandler {
+    private static final Map<String, TraversalTemplate<Vertex>> ADJACENT_TEMPLATES = new ConcurrentHashMap<>();
+    private static final Map<String, TraversalTemplate<Long>> COUNT_TEMPLATES = new ConcurrentHashMap<>();
 
     @Override
     public Class<Adjacency> getAnnotationType() {
@@ -73,7 +84,13 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
                 throw new IllegalStateException(method.getName() + " was annotated with @Adjacency but had more than 1 arguments.");
         else if (ReflectionUtility.isGetMethod(method))
             if (arguments == null || arguments.length == 0) {
-                if( ReflectionUtility.returnsIterator(method) )
+                if( ReflectionUtility.returnsLong(method) )
+                    return this.countVertexesLongDefault(builder, method, annotation);
+                else if( ReflectionUtility.returnsInt(method) )
+                    return this.countVertexesIntDefault(builder, method, annotation);
+                else if( ReflectionUtility.returnsBoolean(method) )
+                    return this.hasVertexesDefault(builder, method, annotation);
+                else if( ReflectionUtility.returnsIterator(method) )
                     return this.getVertexesIteratorDefault(builder, method, annotation);
                 else if( ReflectionUtility.returnsList(method) )
                     return this.getVertexesListDefault(builder, method, annotation);
@@ -82,11 +99,27 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
 
                 return this.getVertexDefault(builder, method, annotation);
             }
+            else if (arguments.length == 1 && ReflectionUtility.acceptsInt(method, 0)) {
+                if (ReflectionUtility.returnsIterator(method))
+                    return this.getVertexesIteratorLimit(builder, method, annotation);
+                else if( ReflectionUtility.returnsList(method) )
+                    return this.getVertexesListLimit(builder, method, annotation);
+                else if( ReflectionUtility.returnsSet(method) )
+                    return this.getVertexesSetLimit(builder, method, annotation);
+
+                throw new IllegalStateException(method.getName() + " was annotated with @Adjacency, had a single int argument, but did not return an Iterator, List or Set");
+            }
             else if (arguments.length == 1) {
                 if (!(Class.class.isAssignableFrom(arguments[0].getType())))
                     throw new IllegalStateException(method.getName() + " was annotated with @Adjacency, had a single argument, but that argument was not of the type Class");
 
-                if (ReflectionUtility.returnsIterator(method))
+                if( ReflectionUtility.returnsLong(method) )
+                    return this.countVertexesLongByType(builder, method, annotation);
+                else if( ReflectionUtility.returnsInt(method) )
+                    return this.countVertexesIntByType(builder, method, annotation);
+                else if( ReflectionUtility.returnsBoolean(method) )
+                    return this.hasVertexesByType(builder, method, annotation);
+                else if (ReflectionUtility.returnsIterator(method))
                     return this.getVertexesIteratorByType(builder, method, annotation);
                 else if( ReflectionUtility.returnsList(method) )
                     return this.getVertexesListByType(builder, method, annotation);
@@ -95,8 +128,21 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
 
                 return this.getVertexByType(builder, method, annotation);
             }
+            else if (arguments.length == 2) {
+                if (!(Class.class.isAssignableFrom(arguments[0].getType())) || !ReflectionUtility.acceptsInt(method, 1))
+                    throw new IllegalStateException(method.getName() + " was annotated with @Adjacency, had two arguments, but they were not of the types Class and int");
+
+                if (ReflectionUtility.returnsIterator(method))
+                    return this.getVertexesIteratorByTypeLimit(builder, method, annotation);
+                else if( ReflectionUtility.returnsList(method) )
+                    return this.getVertexesListByTypeLimit(builder, method, annotation);
+                else if( ReflectionUtility.returnsSet(method) )
+                    return this.getVertexesSetByTypeLimit(builder, method, annotation);
+
+                throw new IllegalStateException(method.getName() + " was annotated with @Adjacency, had a Class and an int argument, but did not return an Iterator, List or Set");
+            }
             else
-                throw new IllegalStateException(method.getName() + " was annotated with @Adjacency but had more than 1 arguments.");
+                throw new IllegalStateException(method.getName() + " was annotated with @Adjacency but had more than 2 arguments.");
         else if (ReflectionUtility.isRemoveMethod(method))
             if (arguments == null || arguments.length == 0)
                 return this.removeAll(builder, method, annotation);
@@ -124,282 +170,447 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
     }
 
     private <E> DynamicType.Builder<E> getVertexesIteratorDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetVertexesIteratorDefaultInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetVertexesIteratorDefaultInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> getVertexesListDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetVertexesListDefaultInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetVertexesListDefaultInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> getVertexesSetDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetVertexesSetDefaultInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetVertexesSetDefaultInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> getVertexDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetVertexDefaultInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetVertexDefaultInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> getVertexesIteratorByType(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetVertexesIteratorByTypeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetVertexesIteratorByTypeInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> getVertexesListByType(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetVertexesListByTypeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetVertexesListByTypeInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> getVertexesSetByType(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetVertexesSetByTypeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetVertexesSetByTypeInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> getVertexByType(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetVertexByTypeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetVertexByTypeInterceptor.class, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> countVertexesLongDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(bind(CountVertexesLongDefaultInterceptor.class, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> countVertexesIntDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(bind(CountVertexesIntDefaultInterceptor.class, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> hasVertexesDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(bind(HasVertexesDefaultInterceptor.class, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> getVertexesIteratorLimit(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetVertexesIteratorLimitInterceptor.class, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> getVertexesListLimit(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetVertexesListLimitInterceptor.class, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> getVertexesSetLimit(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetVertexesSetLimitInterceptor.class, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> countVertexesLongByType(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(bind(CountVertexesLongByTypeInterceptor.class, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> countVertexesIntByType(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(bind(CountVertexesIntByTypeInterceptor.class, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> hasVertexesByType(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(bind(HasVertexesByTypeInterceptor.class, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> getVertexesIteratorByTypeLimit(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetVertexesIteratorByTypeLimitInterceptor.class, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> getVertexesListByTypeLimit(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetVertexesListByTypeLimitInterceptor.class, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> getVertexesSetByTypeLimit(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetVertexesSetByTypeLimitInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> addVertexDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(AddVertexDefaultInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(AddVertexDefaultInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> addVertexByTypeUntypedEdge(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(AddVertexByTypeUntypedEdgeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(AddVertexByTypeUntypedEdgeInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> addVertexByObjectUntypedEdge(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(AddVertexByObjectUntypedEdgeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(AddVertexByObjectUntypedEdgeInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> addVertexByTypeTypedEdge(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(AddVertexByTypeTypedEdgeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(AddVertexByTypeTypedEdgeInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> addVertexByObjectTypedEdge(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(AddVertexByObjectTypedEdgeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(AddVertexByObjectTypedEdgeInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> setVertexIterator(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(SetVertexIteratorInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(SetVertexIteratorInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> setVertexIterable(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(SetVertexIterableInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(SetVertexIterableInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> setVertexVertexFrame(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(SetVertexVertexFrameInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(SetVertexVertexFrameInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> removeVertex(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(RemoveVertexInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(RemoveVertexInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> removeAll(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(RemoveAllInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(RemoveAllInterceptor.class, annotation));
+    }
+
+    private static Implementation bind(final Class<?> interceptor, final Annotation annotation) {
+        final Adjacency adjacency = (Adjacency) annotation;
+        return invokeInterceptor(interceptor, adjacency.label(), adjacency.direction());
+    }
+
+    /**
+     * The adjacent frames the loader open on the current thread holds for a frame, null if it holds none.
+     */
+    static List<? extends VertexFrame> loaded(final VertexFrame thiz, final String label, final Direction direction) {
+        final AdjacencyLoader loader = AdjacencyLoader.current();
+        return loader == null ? null : loader.getLoaded(thiz, label, direction, VertexFrame.class);
+    }
+
+    static <S> GraphTraversal<S, Vertex> adjacent(final GraphTraversal<S, ? extends Vertex> input, final String label, final Direction direction) {
+        switch (direction) {
+            case IN:
+                return input.in(label);
+            case OUT:
+                return input.out(label);
+            case BOTH:
+                return input.both(label);
+            default:
+                throw new IllegalStateException("Direction not recognized.");
+        }
+    }
+
+    /**
+     * The template of the traversal to the vertices adjacent along a label, built the first time it is needed.
+     */
+    static TraversalTemplate<Vertex> adjacentTemplate(final String label, final Direction direction) {
+        return ADJACENT_TEMPLATES.computeIfAbsent(direction.name() + ':' + label, key -> new TraversalTemplate<>(input -> adjacent(input, label, direction)));
+    }
+
+    static TraversalTemplate<Long> countTemplate(final String label, final Direction direction) {
+        return COUNT_TEMPLATES.computeIfAbsent(direction.name() + ':' + label, key -> new TraversalTemplate<>(input -> adjacent(input, label, direction).count()));
+    }
+
+    static Traversable<Vertex, Vertex> traverseAdjacent(final VertexFrame thiz, final String label, final Direction direction) {
+        return new DefaultTraversable<>(adjacentTemplate(label, direction).start(thiz.getGraph().getRawTraversal(), thiz.getElement()), thiz.getGraph());
+    }
+
+    /**
+     * Traverses to the vertices adjacent along a label which are of the given type.
+     */
+    static Traversable<?, ?> traverseAdjacent(final VertexFrame thiz, final String label, final Direction direction, final Class<?> type) {
+        final TypeResolver resolver = thiz.getGraph().getTypeResolver();
+        return thiz.traverse(input -> resolver.hasType(adjacent(input, label, direction), type));
+    }
+
+    static void checkLimit(final int limit) {
+        if (limit < 0)
+            throw new IllegalArgumentException("limit can not be negative");
     }
 
     public static final class GetVertexesIteratorDefaultInterceptor {
 
+        public static Iterator getVertexes(final VertexFrame thiz, final String label, final Direction direction) {
+            final List<? extends VertexFrame> loaded = loaded(thiz, label, direction);
+            if (loaded != null)
+                return loaded.iterator();
+
+            return traverseAdjacent(thiz, label, direction).frame(VertexFrame.class);
+        }
+
+        /**
+         * @deprecated Replaced by {@link #getVertexes(VertexFrame, String, Direction)}.
+         */
+        @Deprecated
         @RuntimeType
         public static Iterator getVertexes(@This final VertexFrame thiz, @Origin final Method method) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
-            return thiz.traverse(input -> {
-                switch(direction) {
-                    case IN:
-                        return input.in(label);
-                    case OUT:
-                        return input.out(label);
-                    case BOTH:
-                        return input.both(label);
-                    default:
-                        throw new IllegalStateException("Direction not recognized.");
-                }
-            }).frame(VertexFrame.class);
+            final Adjacency annotation = annotationOf(thiz, method, Adjacency.class);
+            return getVertexes(thiz, annotation.label(), annotation.direction());
         }
     }
 
     public static final class GetVertexesListDefaultInterceptor {
 
+        public static List getVertexes(final VertexFrame thiz, final String label, final Direction direction) {
+            final List<? extends VertexFrame> loaded = loaded(thiz, label, direction);
+            if (loaded != null)
+                return loaded;
+
+            return traverseAdjacent(thiz, label, direction).toList(VertexFrame.class);
+        }
+
+        /**
+         * @deprecated Replaced by {@link #getVertexes(VertexFrame, String, Direction)}.
+         */
+        @Deprecated
         @RuntimeType
         public static List getVertexes(@This final VertexFrame thiz, @Origin final Method method) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
-            return thiz.traverse(input -> {
-                switch (direction) {
-                    case IN:
-                        return input.in(label);
-                    case OUT:
-                        return input.out(label);
-                    case BOTH:
-                        return input.both(label);
-                    default:
-                        throw new IllegalStateException("Direction not recognized.");
-                }
-            }).toList(VertexFrame.class);
+            final Adjacency annotation = annotationOf(thiz, method, Adjacency.class);
+            return getVertexes(thiz, annotation.label(), annotation.direction());
         }
     }
 
     public static final class GetVertexesSetDefaultInterceptor {
 
+        public static Set getVertexes(final VertexFrame thiz, final String label, final Direction direction) {
+            final List<? extends VertexFrame> loaded = loaded(thiz, label, direction);
+            if (loaded != null)
+                return new LinkedHashSet<>(loaded);
+
+            return traverseAdjacent(thiz, label, direction).toSet(VertexFrame.class);
+        }
+
+        /**
+         * @deprecated Replaced by {@link #getVertexes(VertexFrame, String, Direction)}.
+         */
+        @Deprecated
         @RuntimeType
         public static Set getVertexes(@This final VertexFrame thiz, @Origin final Method method) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
-            return thiz.traverse(input -> {
-                switch (direction) {
-                    case IN:
-                        return input.in(label);
-                    case OUT:
-                        return input.out(label);
-                    case BOTH:
-                        return input.both(label);
-                    default:
-                        throw new IllegalStateException("Direction not recognized.");
-                }
-            }).toSet(VertexFrame.class);
+            final Adjacency annotation = annotationOf(thiz, method, Adjacency.class);
+            return getVertexes(thiz, annotation.label(), annotation.direction());
         }
     }
 
     public static final class GetVertexesIteratorByTypeInterceptor {
 
+        public static Iterator getVertexes(final VertexFrame thiz, final String label, final Direction direction, final Class type) {
+            return traverseAdjacent(thiz, label, direction, type).frame(type);
+        }
+
+        /**
+         * @deprecated Replaced by {@link #getVertexes(VertexFrame, String, Direction, Class)}.
+         */
+        @Deprecated
         @RuntimeType
         public static Iterator getVertexes(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Class type) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-            final TypeResolver resolver = thiz.getGraph().getTypeResolver();
-
-            return thiz.traverse(input -> {
-                switch(direction) {
-                    case IN:
-                        return resolver.hasType(input.in(label), type);
-                    case OUT:
-                        return resolver.hasType(input.out(label), type);
-                    case BOTH:
-                        return resolver.hasType(input.both(label), type);
-                    default:
-                        throw new IllegalStateException("Direction not recognized.");
-                }
-            }).frame(type);
+            final Adjacency annotation = annotationOf(thiz, method, Adjacency.class);
+            return getVertexes(thiz, annotation.label(), annotation.direction(), type);
         }
     }
 
     public static final class GetVertexesListByTypeInterceptor {
 
+        public static List getVertexes(final VertexFrame thiz, final String label, final Direction direction, final Class type) {
+            return traverseAdjacent(thiz, label, direction, type).toList(type);
+        }
+
+        /**
+         * @deprecated Replaced by {@link #getVertexes(VertexFrame, String, Direction, Class)}.
+         */
+        @Deprecated
         @RuntimeType
         public static List getVertexes(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Class type) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-            final TypeResolver resolver = thiz.getGraph().getTypeResolver();
-
-            return thiz.traverse(input -> {
-                switch(direction) {
-                    case IN:
-                        return resolver.hasType(input.in(label), type);
-                    case OUT:
-                        return resolver.hasType(input.out(label), type);
-                    case BOTH:
-                        return resolver.hasType(input.both(label), type);
-                    default:
-                        throw new IllegalStateException("Direction not recognized.");
-                }
-            }).toList(type);
+            final Adjacency annotation = annotationOf(thiz, method, Adjacency.class);
+            return getVertexes(thiz, annotation.label(), annotation.direction(), type);
         }
     }
 
     public static final class GetVertexesSetByTypeInterceptor {
 
+        public static Set getVertexes(final VertexFrame thiz, final String label, final Direction direction, final Class type) {
+            return traverseAdjacent(thiz, label, direction, type).toSet(type);
+        }
+
+        /**
+         * @deprecated Replaced by {@link #getVertexes(VertexFrame, String, Direction, Class)}.
+         */
+        @Deprecated
         @RuntimeType
         public static Set getVertexes(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Class type) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-            final TypeResolver resolver = thiz.getGraph().getTypeResolver();
-
-            return thiz.traverse(input -> {
-                switch(direction) {
-                    case IN:
-                        return resolver.hasType(input.in(label), type);
-                    case OUT:
-                        return resolver.hasType(input.out(label), type);
-                    case BOTH:
-                        return resolver.hasType(input.both(label), type);
-                    default:
-                        throw new IllegalStateException("Direction not recognized.");
-                }
-            }).toSet(type);
+            final Adjacency annotation = annotationOf(thiz, method, Adjacency.class);
+            return getVertexes(thiz, annotation.label(), annotation.direction(), type);
         }
     }
 
     public static final class GetVertexDefaultInterceptor {
 
+        public static Object getVertexes(final VertexFrame thiz, final String label, final Direction direction) {
+            final List<? extends VertexFrame> loaded = loaded(thiz, label, direction);
+            if (loaded != null)
+                return loaded.isEmpty() ? null : loaded.get(0);
+
+            return traverseAdjacent(thiz, label, direction).nextOrDefault(VertexFrame.class, null);
+        }
+
+        /**
+         * @deprecated Replaced by {@link #getVertexes(VertexFrame, String, Direction)}.
+         */
+        @Deprecated
         @RuntimeType
         public static Object getVertexes(@This final VertexFrame thiz, @Origin final Method method) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
-            return thiz.traverse(input -> {
-                switch(direction) {
-                    case IN:
-                        return input.in(label);
-                    case OUT:
-                        return input.out(label);
-                    case BOTH:
-                        return input.both(label);
-                    default:
-                        throw new IllegalStateException("Direction not recognized.");
-                }
-            }).nextOrDefault(VertexFrame.class, null);
+            final Adjacency annotation = annotationOf(thiz, method, Adjacency.class);
+            return getVertexes(thiz, annotation.label(), annotation.direction());
         }
     }
 
     public static final class GetVertexByTypeInterceptor {
 
+        public static Object getVertex(final VertexFrame thiz, final String label, final Direction direction, final Class type) {
+            return traverseAdjacent(thiz, label, direction, type).next(type);
+        }
+
+        /**
+         * @deprecated Replaced by {@link #getVertex(VertexFrame, String, Direction, Class)}.
+         */
+        @Deprecated
         @RuntimeType
         public static Object getVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Class type) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
+            final Adjacency annotation = annotationOf(thiz, method, Adjacency.class);
+            return getVertex(thiz, annotation.label(), annotation.direction(), type);
+        }
+    }
+
+    public static final class CountVertexesLongDefaultInterceptor {
+
+        public static long countVertexes(final VertexFrame thiz, final String label, final Direction direction) {
+            final List<? extends VertexFrame> loaded = loaded(thiz, label, direction);
+            if (loaded != null)
+                return loaded.size();
+            return countTemplate(label, direction).start(thiz.getGraph().getRawTraversal(), thiz.getElement()).next();
+        }
+    }
+
+    public static final class CountVertexesIntDefaultInterceptor {
+
+        public static int countVertexes(final VertexFrame thiz, final String label, final Direction direction) {
+            return Math.toIntExact(CountVertexesLongDefaultInterceptor.countVertexes(thiz, label, direction));
+        }
+    }
+
+    public static final class HasVertexesDefaultInterceptor {
+
+        public static boolean hasVertexes(final VertexFrame thiz, final String label, final Direction direction) {
+            final List<? extends VertexFrame> loaded = loaded(thiz, label, direction);
+            if (loaded != null)
+                return !loaded.isEmpty();
+            return adjacentTemplate(label, direction).start(thiz.getGraph().getRawTraversal(), thiz.getElement()).hasNext();
+        }
+    }
+
+    public static final class CountVertexesLongByTypeInterceptor {
+
+        public static long countVertexes(final VertexFrame thiz, final String label, final Direction direction, final Class type) {
+            final TypeResolver resolver = thiz.getGraph().getTypeResolver();
+            return resolver.hasType(adjacent(thiz.getRawTraversal(), label, direction), type).count().next();
+        }
+    }
+
+    public static final class CountVertexesIntByTypeInterceptor {
+
+        public static int countVertexes(final VertexFrame thiz, final String label, final Direction direction, final Class type) {
+            return Math.toIntExact(CountVertexesLongByTypeInterceptor.countVertexes(thiz, label, direction, type));
+        }
+    }
+
+    public static final class HasVertexesByTypeInterceptor {
+
+        public static boolean hasVertexes(final VertexFrame thiz, final String label, final Direction direction, final Class type) {
+            final TypeResolver resolver = thiz.getGraph().getTypeResolver();
+            return resolver.hasType(adjacent(thiz.getRawTraversal(), label, direction), type).hasNext();
+        }
+    }
+
+    public static final class GetVertexesIteratorLimitInterceptor {
+
+        public static Iterator getVertexes(final VertexFrame thiz, final String label, final Direction direction, final int limit) {
+            checkLimit(limit);
+            final List<? extends VertexFrame> loaded = loaded(thiz, label, direction);
+            if (loaded != null)
+                return loaded.subList(0, Math.min(limit, loaded.size())).iterator();
+            return thiz.traverse(input -> adjacent(input, label, direction).limit(limit)).frame(VertexFrame.class);
+        }
+    }
+
+    public static final class GetVertexesListLimitInterceptor {
+
+        public static List getVertexes(final VertexFrame thiz, final String label, final Direction direction, final int limit) {
+            checkLimit(limit);
+            final List<? extends VertexFrame> loaded = loaded(thiz, label, direction);
+            if (loaded != null)
+                return loaded.subList(0, Math.min(limit, loaded.size()));
+            return thiz.traverse(input -> adjacent(input, label, direction).limit(limit)).toList(VertexFrame.class);
+        }
+    }
+
+    public static final class GetVertexesSetLimitInterceptor {
+
+        public static Set getVertexes(final VertexFrame thiz, final String label, final Direction direction, final int limit) {
+            checkLimit(limit);
+            final List<? extends VertexFrame> loaded = loaded(thiz, label, direction);
+            if (loaded != null)
+                return new LinkedHashSet<>(loaded.subList(0, Math.min(limit, loaded.size())));
+            return thiz.traverse(input -> adjacent(input, label, direction).limit(limit)).toSet(VertexFrame.class);
+        }
+    }
+
+    public static final class GetVertexesIteratorByTypeLimitInterceptor {
+
+        public static Iterator getVertexes(final VertexFrame thiz, final String label, final Direction direction, final Class type, final int limit) {
+            checkLimit(limit);
             final TypeResolver resolver = thiz.getGraph().getTypeResolver();
+            return thiz.traverse(input -> resolver.hasType(adjacent(input, label, direction), type).limit(limit)).frame(type);
+        }
+    }
 
-            return thiz.traverse(input -> {
-                switch(direction) {
-                    case IN:
-                        return resolver.hasType(input.in(label), type);
-                    case OUT:
-                        return resolver.hasType(input.out(label), type);
-                    case BOTH:
-                        return resolver.hasType(input.both(label), type);
-                    default:
-                        throw new IllegalStateException("Direction not recognized.");
-                }
-            }).next(type);
+    public static final class GetVertexesListByTypeLimitInterceptor {
+
+        public static List getVertexes(final VertexFrame thiz, final String label, final Direction direction, final Class type, final int limit) {
+            checkLimit(limit);
+            final TypeResolver resolver = thiz.getGraph().getTypeResolver();
+            return thiz.traverse(input -> resolver.hasType(adjacent(input, label, direction), type).limit(limit)).toList(type);
+        }
+    }
+
+    public static final class GetVertexesSetByTypeLimitInterceptor {
+
+        public static Set getVertexes(final VertexFrame thiz, final String label, final Direction direction, final Class type, final int limit) {
+            checkLimit(limit);
+            final TypeResolver resolver = thiz.getGraph().getTypeResolver();
+            return thiz.traverse(input -> resolver.hasType(adjacent(input, label, direction), type).limit(limit)).toSet(type);
         }
     }
 
     public static final class AddVertexDefaultInterceptor {
 
-        @RuntimeType
-        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method) {
+        public static Object addVertex(final VertexFrame thiz, final String label, final Direction direction) {
+            AdjacencyLoader.invalidate(label);
+
             final VertexFrame newVertex = thiz.getGraph().addFramedVertex();
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
 
             switch (direction) {
                 case BOTH:
@@ -413,25 +624,31 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
                     thiz.getGraph().addFramedEdge(thiz, newVertex, label);
                     break;
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException("Direction not recognized.");
             }
 
             return newVertex;
         }
+
+        /**
+         * @deprecated Replaced by {@link #addVertex(VertexFrame, String, Direction)}.
+         */
+        @Deprecated
+        @RuntimeType
+        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method) {
+            final Adjacency annotation = annotationOf(thiz, method, Adjacency.class);
+            return addVertex(thiz, annotation.label(), annotation.direction());
+        }
     }
 
     public static final class AddVertexByTypeUntypedEdgeInterceptor {
-        @RuntimeType
-        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(value = 0) final ClassInitializer vertexType) {
+        public static Object addVertex(final VertexFrame thiz, final String label, final Direction direction, final ClassInitializer vertexType) {
+            AdjacencyLoader.invalidate(label);
+
             final Object newNode = thiz.getGraph().addFramedVertex(vertexType);
             assert newNode instanceof VertexFrame;
             final VertexFrame newVertex = ((VertexFrame) newNode);
 
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
             assert vertexType.getInitializationType().isInstance(newNode);
 
             switch (direction) {
@@ -446,25 +663,31 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
                     thiz.getGraph().addFramedEdge(thiz, newVertex, label);
                     break;
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException("Direction not recognized.");
             }
 
             return newNode;
         }
+
+        /**
+         * @deprecated Replaced by {@link #addVertex(VertexFrame, String, Direction, ClassInitializer)}.
+         */
+        @Deprecated
+        @RuntimeType
+        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final ClassInitializer vertexType) {
+            final Adjacency annotation = annotationOf(thiz, method, Adjacency.class);
+            return addVertex(thiz, annotation.label(), annotation.direction(), vertexType);
+        }
     }
 
     public static final class AddVertexByTypeTypedEdgeInterceptor {
-        @RuntimeType
-        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final ClassInitializer vertexType, @RuntimeType @Argument(1) final ClassInitializer edgeType) {
+        public static Object addVertex(final VertexFrame thiz, final String label, final Direction direction, final ClassInitializer vertexType, final ClassInitializer edgeType) {
+            AdjacencyLoader.invalidate(label);
+
             final Object newNode = thiz.getGraph().addFramedVertex(vertexType);
             assert newNode instanceof VertexFrame;
             final VertexFrame newVertex = ((VertexFrame) newNode);
 
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
             assert vertexType.getInitializationType().isInstance(newNode);
 
             switch (direction) {
@@ -479,21 +702,27 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
                     thiz.getGraph().addFramedEdge(thiz, newVertex, label, edgeType);
                     break;
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException("Direction not recognized.");
             }
 
             return newNode;
         }
+
+        /**
+         * @deprecated Replaced by {@link #addVertex(VertexFrame, String, Direction, ClassInitializer, ClassInitializer)}.
+         */
+        @Deprecated
+        @RuntimeType
+        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final ClassInitializer vertexType, @RuntimeType @Argument(1) final ClassInitializer edgeType) {
+            final Adjacency annotation = annotationOf(thiz, method, Adjacency.class);
+            return addVertex(thiz, annotation.label(), annotation.direction(), vertexType, edgeType);
+        }
     }
 
     public static final class AddVertexByObjectUntypedEdgeInterceptor {
 
-        @RuntimeType
-        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final VertexFrame newVertex) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
+        public static Object addVertex(final VertexFrame thiz, final String label, final Direction direction, final VertexFrame newVertex) {
+            AdjacencyLoader.invalidate(label);
 
             switch (direction) {
                 case BOTH:
@@ -507,21 +736,27 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
                     thiz.getGraph().addFramedEdge(thiz, newVertex, label);
                     break;
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException("Direction not recognized.");
             }
 
             return newVertex;
         }
+
+        /**
+         * @deprecated Replaced by {@link #addVertex(VertexFrame, String, Direction, VertexFrame)}.
+         */
+        @Deprecated
+        @RuntimeType
+        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final VertexFrame newVertex) {
+            final Adjacency annotation = annotationOf(thiz, method, Adjacency.class);
+            return addVertex(thiz, annotation.label(), annotation.direction(), newVertex);
+        }
     }
 
     public static final class AddVertexByObjectTypedEdgeInterceptor {
 
-        @RuntimeType
-        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final VertexFrame newVertex, @RuntimeType @Argument(1) final ClassInitializer edgeType) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
+        public static Object addVertex(final VertexFrame thiz, final String label, final Direction direction, final VertexFrame newVertex, final ClassInitializer edgeType) {
+            AdjacencyLoader.invalidate(label);
 
             switch (direction) {
                 case BOTH:
@@ -535,22 +770,27 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
                     thiz.getGraph().addFramedEdge(thiz, newVertex, label, edgeType);
                     break;
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException("Direction not recognized.");
             }
 
             return newVertex;
         }
+
+        /**
+         * @deprecated Replaced by {@link #addVertex(VertexFrame, String, Direction, VertexFrame, ClassInitializer)}.
+         */
+        @Deprecated
+        @RuntimeType
+        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final VertexFrame newVertex, @RuntimeType @Argument(1) final ClassInitializer edgeType) {
+            final Adjacency annotation = annotationOf(thiz, method, Adjacency.class);
+            return addVertex(thiz, annotation.label(), annotation.direction(), newVertex, edgeType);
+        }
     }
 
     public static final class SetVertexIteratorInterceptor {
 
-        @RuntimeType
-        public static void setVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Iterator vertexSet) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
+        public static void setVertex(final VertexFrame thiz, final String label, final Direction direction, final Iterator vertexSet) {
+            AdjacencyLoader.invalidate(label);
 
             switch (direction) {
                 case BOTH:
@@ -582,20 +822,25 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
                     });
                     break;
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException("Direction not recognized.");
             }
         }
+
+        /**
+         * @deprecated Replaced by {@link #setVertex(VertexFrame, String, Direction, Iterator)}.
+         */
+        @Deprecated
+        @RuntimeType
+        public static void setVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Iterator vertexSet) {
+            final Adjacency annotation = annotationOf(thiz, method, Adjacency.class);
+            setVertex(thiz, annotation.label(), annotation.direction(), vertexSet);
+        }
     }
 
     public static final class SetVertexIterableInterceptor {
 
-        @RuntimeType
-        public static void setVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Iterable vertexSet) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
+        public static void setVertex(final VertexFrame thiz, final String label, final Direction direction, final Iterable vertexSet) {
+            AdjacencyLoader.invalidate(label);
 
             switch (direction) {
                 case BOTH:
@@ -627,20 +872,25 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
                     });
                     break;
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException("Direction not recognized.");
             }
         }
+
+        /**
+         * @deprecated Replaced by {@link #setVertex(VertexFrame, String, Direction, Iterable)}.
+         */
+        @Deprecated
+        @RuntimeType
+        public static void setVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Iterable vertexSet) {
+            final Adjacency annotation = annotationOf(thiz, method, Adjacency.class);
+            setVertex(thiz, annotation.label(), annotation.direction(), vertexSet);
+        }
     }
 
     public static final class SetVertexVertexFrameInterceptor {
 
-        @RuntimeType
-        public static void setVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final VertexFrame vertexFrame) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
+        public static void setVertex(final VertexFrame thiz, final String label, final Direction direction, final VertexFrame vertexFrame) {
+            AdjacencyLoader.invalidate(label);
 
             switch (direction) {
                 case BOTH:
@@ -661,19 +911,25 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
                         thiz.getGraph().addFramedEdge(thiz, vertexFrame, label);
                     break;
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException("Direction not recognized.");
             }
         }
+
+        /**
+         * @deprecated Replaced by {@link #setVertex(VertexFrame, String, Direction, VertexFrame)}.
+         */
+        @Deprecated
+        @RuntimeType
+        public static void setVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final VertexFrame vertexFrame) {
+            final Adjacency annotation = annotationOf(thiz, method, Adjacency.class);
+            setVertex(thiz, annotation.label(), annotation.direction(), vertexFrame);
+        }
     }
 
     public static final class RemoveVertexInterceptor {
 
-        @RuntimeType
-        public static void removeVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final VertexFrame removeVertex) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
+        public static void removeVertex(final VertexFrame thiz, final String label, final Direction direction, final VertexFrame removeVertex) {
+            AdjacencyLoader.invalidate(label);
 
             switch (direction) {
                 case BOTH:
@@ -707,19 +963,25 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
                     });
                     break;
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException("Direction not recognized.");
             }
         }
+
+        /**
+         * @deprecated Replaced by {@link #removeVertex(VertexFrame, String, Direction, VertexFrame)}.
+         */
+        @Deprecated
+        @RuntimeType
+        public static void removeVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final VertexFrame removeVertex) {
+            final Adjacency annotation = annotationOf(thiz, method, Adjacency.class);
+            removeVertex(thiz, annotation.label(), annotation.direction(), removeVertex);
+        }
     }
 
     public static final class RemoveAllInterceptor {
 
-        @RuntimeType
-        public static void removeVertex(@This final VertexFrame thiz, @Origin final Method method) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
+        public static void removeVertex(final VertexFrame thiz, final String label, final Direction direction) {
+            AdjacencyLoader.invalidate(label);
 
             switch (direction) {
                 case BOTH:
@@ -750,8 +1012,18 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
                     });
                     break;
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException("Direction not recognized.");
             }
         }
+
+        /**
+         * @deprecated Replaced by {@link #removeVertex(VertexFrame, String, Direction)}.
+         */
+        @Deprecated
+        @RuntimeType
+        public static void removeVertex(@This final VertexFrame thiz, @Origin final Method method) {
+            final Adjacency annotation = annotationOf(thiz, method, Adjacency.class);
+            removeVertex(thiz, annotation.label(), annotation.direction());
+        }
     }
 }
@@ -38,6 +38,25 @@ public class AnnotationFrameFactory extends AbstractAnnotationFrameFactory {
         super(reflectionCache, collectHandlers(null));
     }
 
+    /**
+     * @param reflectionCache The reflection cache used to inspect annotations.
+     * @param classLoading Determines which class loader the frame classes generated at runtime are defined in.
+     * @since 3.3.1
+     */
+    public AnnotationFrameFactory(final ReflectionCache reflectionCache, final FrameClassLoading classLoading) {
+        super(reflectionCache, collectHandlers(null), classLoading);
+    }
+
+    /**
+     * @param reflectionCache The reflection cache used to inspect annotations.
+     * @param classLoading Determines which class loader the frame classes generated at runtime are defined in.
+     * @param bytecodeCache Stores the frame classes generated at runtime across restarts, null to disable.
+     * @since 3.3.1
+     */
+    public AnnotationFrameFactory(final ReflectionCache reflectionCache, final FrameClassLoading classLoading, final BytecodeCache bytecodeCache) {
+        super(reflectionCache, collectHandlers(null), classLoading, bytecodeCache);
+    }
+
     /**
      * Subclasses can use this constructor to add additional custom method handlers.
      *
@@ -48,6 +67,31 @@ public class AnnotationFrameFactory extends AbstractAnnotationFrameFactory {
         super(reflectionCache, collectHandlers(handlers));
     }
 
+    /**
+     * Subclasses can use this constructor to add additional custom method handlers.
+     *
+     * @param reflectionCache The reflection cache used to inspect annotations.
+     * @param handlers The handlers used to generate new annotation support.
+     * @param classLoading Determines which class loader the frame classes generated at runtime are defined in.
+     * @since 3.3.1
+     */
+    protected AnnotationFrameFactory(final ReflectionCache reflectionCache, Set<MethodHandler> handlers, final FrameClassLoading classLoading) {
+        super(reflectionCache, collectHandlers(handlers), classLoading);
+    }
+
+    /**
+     * Subclasses can use this constructor to add additional custom method handlers.
+     *
+     * @param reflectionCache The reflection cache used to inspect annotations.
+     * @param handlers The handlers used to generate new annotation support.
+     * @param classLoading Determines which class loader the frame classes generated at runtime are defined in.
+     * @param bytecodeCache Stores the frame classes generated at runtime across restarts, null to disable.
+     * @since 3.3.1
+     */
+    protected AnnotationFrameFactory(final ReflectionCache reflectionCache, Set<MethodHandler> handlers, final FrameClassLoading classLoading, final BytecodeCache bytecodeCache) {
+        super(reflectionCache, collectHandlers(handlers), classLoading, bytecodeCache);
+    }
+
     private static final Set<MethodHandler> collectHandlers(Set<MethodHandler> additionalHandlers) {
         final Set<MethodHandler> methodHandlers = new HashSet<>();
 
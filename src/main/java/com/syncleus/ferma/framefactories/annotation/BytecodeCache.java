@@ -0,0 +1,228 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.framefactories.annotation;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Stores the class files of the frame classes an {@link AbstractAnnotationFrameFactory} generates at runtime in a
+ * directory, so they can be defined straight from disk the next time the application starts instead of being generated
+ * by Byte Buddy again.
+ *
+ * Each class file is named after the class it contains. The name of a frame class ends in a hash of the Ferma version,
+ * the method handlers and class loading of the factory and the class files of the frame type and all of its
+ * supertypes. Whenever one of those changes the frame class gets a new name, the stale class file is never read again
+ * and is deleted once its replacement has been written. The cache is best effort, frame classes are generated as usual whenever the directory
+ * can not be read or written.
+ *
+ * @since 3.3.1
+ */
+public class BytecodeCache {
+    private static final String CLASS_FILE_SUFFIX = ".class";
+    private static final String VERSION_RESOURCE = "/com/syncleus/ferma/ferma.properties";
+    private static final String FERMA_VERSION = readFermaVersion();
+    private static final int CLASS_FILE_MAGIC = 0xCAFEBABE;
+    private static final int KEY_LENGTH = 16;
+
+    private final Path directory;
+
+    /**
+     * @param directory The directory class files are stored in, it is created when the first class file is written.
+     */
+    public BytecodeCache(final Path directory) {
+        if (directory == null)
+            throw new IllegalArgumentException("directory can not be null");
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return this.directory;
+    }
+
+    /**
+     * @return The version of Ferma, part of the key of every cached class.
+     */
+    public static String getFermaVersion() {
+        return FERMA_VERSION;
+    }
+
+    private static String readFermaVersion() {
+        try (final InputStream versionStream = BytecodeCache.class.getResourceAsStream(VERSION_RESOURCE)) {
+            if (versionStream == null)
+                throw new IllegalStateException(VERSION_RESOURCE + " is missing");
+            final Properties properties = new Properties();
+            properties.load(versionStream);
+            return properties.getProperty("version");
+        }
+        catch (final IOException caught) {
+            throw new IllegalStateException("could not read " + VERSION_RESOURCE, caught);
+        }
+    }
+
+    /**
+     * Computes the key of the frame class generated for the given frame type. Injected frame classes are keyed apart
+     * from the others, their name would otherwise already be taken in the parent of the class loaders of the other
+     * strategies.
+     *
+     * @return The key, or null if the class file of the frame type or one of its supertypes is not available, in which
+     * case the frame class can not be cached.
+     */
+    String keyOf(final Class<?> frameType, final Class<? extends Element> elementType, final FrameClassLoading classLoading, final Collection<MethodHandler> handlers) {
+        final Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putString(FERMA_VERSION, StandardCharsets.UTF_8);
+        hasher.putString(String.valueOf(elementType), StandardCharsets.UTF_8);
+        hasher.putBoolean(classLoading == FrameClassLoading.INJECTION);
+
+        final Set<String> handlerNames = new TreeSet<>();
+        for (final MethodHandler handler : handlers)
+            handlerNames.add(handler.getClass().getName());
+        for (final String handlerName : handlerNames)
+            hasher.putString(handlerName, StandardCharsets.UTF_8);
+
+        for (final Class<?> type : hierarchyOf(frameType)) {
+            final byte[] classFile = readClassFile(type);
+            if (classFile == null)
+                return null;
+            hasher.putString(type.getName(), StandardCharsets.UTF_8);
+            hasher.putBytes(classFile);
+        }
+        return hasher.hash().toString().substring(0, KEY_LENGTH);
+    }
+
+    /**
+     * Types of the bootstrap class loader are left out, they belong to the Java runtime.
+     */
+    private static Set<Class<?>> hierarchyOf(final Class<?> frameType) {
+        final Set<Class<?>> hierarchy = new LinkedHashSet<>();
+        collectHierarchy(frameType, hierarchy);
+        return hierarchy;
+    }
+
+    private static void collectHierarchy(final Class<?> type, final Set<Class<?>> hierarchy) {
+        if (type == null || type.getClassLoader() == null || !hierarchy.add(type))
+            return;
+        collectHierarchy(type.getSuperclass(), hierarchy);
+        for (final Class<?> superInterface : type.getInterfaces())
+            collectHierarchy(superInterface, hierarchy);
+    }
+
+    private static byte[] readClassFile(final Class<?> type) {
+        try (final InputStream classStream = type.getClassLoader().getResourceAsStream(type.getName().replace('.', '/') + CLASS_FILE_SUFFIX)) {
+            if (classStream == null)
+                return null;
+            return ByteStreams.toByteArray(classStream);
+        }
+        catch (final IOException caught) {
+            return null;
+        }
+    }
+
+    /**
+     * @return The cached class file of the given class, or null if it is not cached or not a class file.
+     */
+    byte[] read(final String className) {
+        final Path classFile = this.pathOf(className);
+        if (!Files.isRegularFile(classFile))
+            return null;
+
+        final byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(classFile);
+        }
+        catch (final IOException caught) {
+            return null;
+        }
+
+        if (bytes.length < 4 || ((bytes[0] & 0xFF) << 24 | (bytes[1] & 0xFF) << 16 | (bytes[2] & 0xFF) << 8 | bytes[3] & 0xFF) != CLASS_FILE_MAGIC) {
+            this.evict(className);
+            return null;
+        }
+        return bytes;
+    }
+
+    /**
+     * Stores the class file of the given class, replacing the class files of earlier versions of the same frame class.
+     * The file is written under a temporary name first so other processes never read a partially written class file.
+     */
+    void write(final String className, final byte[] bytes) {
+        final Path classFile = this.pathOf(className);
+        try {
+            Files.createDirectories(this.directory);
+            final Path temporaryFile = Files.createTempFile(this.directory, className, ".tmp");
+            try {
+                Files.write(temporaryFile, bytes);
+                try {
+                    Files.move(temporaryFile, classFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                }
+                catch (final AtomicMoveNotSupportedException caught) {
+                    Files.move(temporaryFile, classFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+            this.evictStale(className);
+        }
+        catch (final IOException caught) {
+            // the class is generated again on the next start
+        }
+    }
+
+    /**
+     * Deletes the cached class file of the given class, if there is one.
+     */
+    void evict(final String className) {
+        try {
+            Files.deleteIfExists(this.pathOf(className));
+        }
+        catch (final IOException caught) {
+            // the class file is rewritten once the class is generated again
+        }
+    }
+
+    private void evictStale(final String className) throws IOException {
+        final String prefix = className.substring(0, className.lastIndexOf(AbstractAnnotationFrameFactory.FRAME_CLASS_INFIX) + AbstractAnnotationFrameFactory.FRAME_CLASS_INFIX.length());
+        final String current = className + CLASS_FILE_SUFFIX;
+        try (final DirectoryStream<Path> staleFiles = Files.newDirectoryStream(this.directory, path -> {
+            final String fileName = path.getFileName().toString();
+            return fileName.startsWith(prefix) && fileName.endsWith(CLASS_FILE_SUFFIX) && !fileName.equals(current);
+        })) {
+            for (final Path staleFile : staleFiles)
+                Files.deleteIfExists(staleFile);
+        }
+    }
+
+    private Path pathOf(final String className) {
+        return this.directory.resolve(className + CLASS_FILE_SUFFIX);
+    }
+}
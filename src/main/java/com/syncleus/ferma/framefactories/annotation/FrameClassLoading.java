@@ -0,0 +1,42 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.framefactories.annotation;
+
+/**
+ * Determines which class loader the frame classes generated at runtime by an {@link AbstractAnnotationFrameFactory}
+ * are defined in. Frame classes generated at compile time by the {@link GraphElementProcessor} are always loaded by the
+ * class loader of the frame type itself.
+ *
+ * @since 3.3.1
+ */
+public enum FrameClassLoading {
+    /**
+     * Each frame class is defined in a class loader of its own. This is how frame classes were loaded before 3.3.1,
+     * every generated class costs a class loader on top of the class itself.
+     */
+    WRAPPER,
+    /**
+     * All frame classes of a frame factory are defined in a single class loader owned by that factory. The classes
+     * can be unloaded together once the factory is no longer referenced.
+     */
+    SHARED,
+    /**
+     * Frame classes are injected into the package of the frame type, using a method handle lookup when the virtual
+     * machine supports it and reflection otherwise. No class loaders are created, but the classes live as long as the
+     * class loader of the frame type. Falls back to {@link #SHARED} for frame types of the bootstrap class loader.
+     */
+    INJECTION
+}
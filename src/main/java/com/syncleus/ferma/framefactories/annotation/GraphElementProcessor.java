@@ -0,0 +1,784 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.framefactories.annotation;
+
+import com.syncleus.ferma.ReflectionCache;
+import com.syncleus.ferma.annotations.Adjacency;
+import com.syncleus.ferma.annotations.GraphElement;
+import com.syncleus.ferma.annotations.InVertex;
+import com.syncleus.ferma.annotations.Incidence;
+import com.syncleus.ferma.annotations.OutVertex;
+import com.syncleus.ferma.annotations.Property;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Generates concrete frame implementations at compile time for every abstract type annotated with
+ * {@link GraphElement}. The generated class is named after the frame type with the
+ * {@link AbstractAnnotationFrameFactory#IMPLEMENTATION_SUFFIX} appended and is picked up by
+ * {@link AbstractAnnotationFrameFactory} in place of a runtime generated Byte Buddy subclass.
+ *
+ * Every generated method delegates to the same interceptor the corresponding {@link MethodHandler} binds at runtime,
+ * passing the label, direction or property key of the annotation as constants, so the behavior of a generated frame is
+ * identical to one built by Byte Buddy. Types the processor can not fully
+ * implement, such as those with invalid method signatures or methods handled by custom annotations, are skipped and
+ * will continue to be generated at runtime.
+ *
+ * The processor also writes the {@link ReflectionCache#MODEL_INDEX}, which lists every graph element type compiled
+ * along with its supertypes so a {@link ReflectionCache} does not need to scan the class path for them. Types indexed
+ * by an earlier compilation into the same output directory are kept as long as they still exist.
+ *
+ * The processor is found on the class path of every compilation depending on Ferma, but only generates anything when
+ * the {@link #GENERATE_OPTION} is set to true, for example by passing {@code -Aferma.generate=true} to javac.
+ *
+ * @since 3.3.1
+ */
+@SupportedAnnotationTypes("com.syncleus.ferma.annotations.GraphElement")
+@SupportedOptions(GraphElementProcessor.GENERATE_OPTION)
+public class GraphElementProcessor extends AbstractProcessor {
+    /**
+     * The processor option enabling the generation of frame classes and the model index.
+     */
+    public static final String GENERATE_OPTION = "ferma.generate";
+
+    private static final String VERTEX_FRAME = "com.syncleus.ferma.VertexFrame";
+    private static final String EDGE_FRAME = "com.syncleus.ferma.EdgeFrame";
+    private static final String ELEMENT_FRAME = "com.syncleus.ferma.ElementFrame";
+    private static final String ABSTRACT_VERTEX_FRAME = "com.syncleus.ferma.AbstractVertexFrame";
+    private static final String ABSTRACT_EDGE_FRAME = "com.syncleus.ferma.AbstractEdgeFrame";
+    private static final String CLASS_INITIALIZER = "com.syncleus.ferma.ClassInitializer";
+    private static final String REFLECTION_CACHE = "com.syncleus.ferma.ReflectionCache";
+    private static final String CACHES_REFLECTION = "com.syncleus.ferma.framefactories.annotation.CachesReflection";
+
+    private static final String PROPERTY_HANDLER = "com.syncleus.ferma.framefactories.annotation.PropertyMethodHandler";
+    private static final String ADJACENCY_HANDLER = "com.syncleus.ferma.framefactories.annotation.AdjacencyMethodHandler";
+    private static final String INCIDENCE_HANDLER = "com.syncleus.ferma.framefactories.annotation.IncidenceMethodHandler";
+    private static final String IN_VERTEX_HANDLER = "com.syncleus.ferma.framefactories.annotation.InVertexMethodHandler";
+    private static final String OUT_VERTEX_HANDLER = "com.syncleus.ferma.framefactories.annotation.OutVertexMethodHandler";
+
+    private static final List<String> HANDLED_ANNOTATIONS = Arrays.asList(Property.class.getName(), Adjacency.class.getName(),
+          Incidence.class.getName(), InVertex.class.getName(), OutVertex.class.getName());
+
+    private Types types;
+    private Elements elements;
+    private Filer filer;
+    private Messager messager;
+    private final Set<String> generatedTypes = new HashSet<>();
+    private final Map<String, Set<String>> modelIndex = new TreeMap<>();
+    private boolean enabled;
+
+    @Override
+    public synchronized void init(final ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.types = processingEnv.getTypeUtils();
+        this.elements = processingEnv.getElementUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+        this.enabled = Boolean.parseBoolean(processingEnv.getOptions().get(GENERATE_OPTION));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (!this.enabled)
+            return false;
+
+        for (final Element element : roundEnv.getElementsAnnotatedWith(GraphElement.class))
+            if (element.getKind() == ElementKind.CLASS || element.getKind() == ElementKind.INTERFACE)
+                this.generate((TypeElement) element);
+        for (final Element element : roundEnv.getRootElements())
+            this.index(element);
+        if (roundEnv.processingOver())
+            this.writeModelIndex();
+        return false;
+    }
+
+    /**
+     * Indexes the type if it, or one of its supertypes, is annotated with {@link GraphElement}. This matches the types
+     * a class path scan for graph elements finds.
+     */
+    private void index(final Element element) {
+        if (!element.getKind().isClass() && !element.getKind().isInterface())
+            return;
+
+        final TypeElement type = (TypeElement) element;
+        final Set<TypeElement> superTypes = new LinkedHashSet<>();
+        this.collectSuperTypes(type.asType(), superTypes);
+        boolean graphElement = type.getAnnotation(GraphElement.class) != null;
+        for (final TypeElement superType : superTypes)
+            graphElement |= superType.getAnnotation(GraphElement.class) != null;
+
+        if (graphElement) {
+            final Set<String> superTypeNames = new TreeSet<>();
+            for (final TypeElement superType : superTypes)
+                superTypeNames.add(this.elements.getBinaryName(superType).toString());
+            this.modelIndex.put(this.elements.getBinaryName(type).toString(), superTypeNames);
+        }
+
+        for (final Element enclosed : type.getEnclosedElements())
+            this.index(enclosed);
+    }
+
+    private void collectSuperTypes(final TypeMirror type, final Set<TypeElement> superTypes) {
+        for (final TypeMirror superType : this.types.directSupertypes(type)) {
+            final TypeElement superElement = (TypeElement) this.types.asElement(superType);
+            if (superElement != null && !superElement.getQualifiedName().contentEquals(Object.class.getName()) && superTypes.add(superElement))
+                this.collectSuperTypes(superType, superTypes);
+        }
+    }
+
+    private void writeModelIndex() {
+        if (this.modelIndex.isEmpty())
+            return;
+
+        try {
+            final FileObject previousIndex = this.filer.getResource(StandardLocation.CLASS_OUTPUT, "", ReflectionCache.MODEL_INDEX);
+            try (final BufferedReader reader = new BufferedReader(previousIndex.openReader(true))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    final List<String> names = Arrays.asList(line.trim().split(" "));
+                    final String typeName = names.get(0);
+                    if (typeName.isEmpty() || typeName.startsWith("#") || this.modelIndex.containsKey(typeName))
+                        continue;
+                    if (this.elements.getTypeElement(typeName.replace('$', '.')) != null)
+                        this.modelIndex.put(typeName, new TreeSet<>(names.subList(1, names.size())));
+                }
+            }
+        }
+        catch (final IOException | IllegalArgumentException caught) {
+            // there is no index from an earlier compilation
+        }
+
+        try {
+            final FileObject index = this.filer.createResource(StandardLocation.CLASS_OUTPUT, "", ReflectionCache.MODEL_INDEX);
+            try (final Writer writer = index.openWriter()) {
+                writer.write("# Generated by " + GraphElementProcessor.class.getName() + "\n");
+                for (final Map.Entry<String, Set<String>> indexEntry : this.modelIndex.entrySet()) {
+                    writer.write(indexEntry.getKey());
+                    for (final String superTypeName : indexEntry.getValue())
+                        writer.write(" " + superTypeName);
+                    writer.write("\n");
+                }
+            }
+        }
+        catch (final IOException caught) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR, "Could not write " + ReflectionCache.MODEL_INDEX + ": " + caught.getMessage());
+        }
+    }
+
+    private void generate(final TypeElement type) {
+        if (!type.getModifiers().contains(Modifier.ABSTRACT) && type.getKind() != ElementKind.INTERFACE)
+            return;
+
+        final String implementationName = implementationName(type);
+        if (!this.generatedTypes.add(implementationName))
+            return;
+
+        final String reason = this.checkType(type);
+        if (reason != null) {
+            this.skip(type, reason);
+            return;
+        }
+
+        final TypeElement superClass = this.superClassOf(type);
+        if (superClass == null) {
+            this.skip(type, "it is neither a VertexFrame nor an EdgeFrame");
+            return;
+        }
+
+        final List<ExecutableElement> methods = this.abstractMethods(type, superClass);
+        final List<Invocation> invocations = new ArrayList<>(methods.size());
+        for (final ExecutableElement method : methods) {
+            final Invocation invocation = this.invocationOf(method, superClass);
+            if (invocation == null) {
+                this.skip(type, method.getSimpleName() + " can not be implemented at compile time");
+                return;
+            }
+            invocations.add(invocation);
+        }
+
+        try {
+            final JavaFileObject source = this.filer.createSourceFile(implementationName, type);
+            try (final Writer writer = source.openWriter()) {
+                writer.write(this.render(type, superClass, methods, invocations, implementationName));
+            }
+        }
+        catch (final IOException caught) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR, "Could not write " + implementationName + ": " + caught.getMessage(), type);
+        }
+    }
+
+    private void skip(final TypeElement type, final String reason) {
+        this.messager.printMessage(Diagnostic.Kind.NOTE, "Ferma will generate " + type.getQualifiedName() + " at runtime because " + reason);
+    }
+
+    private String checkType(final TypeElement type) {
+        if (!type.getTypeParameters().isEmpty())
+            return "it declares type parameters";
+
+        Element current = type;
+        while (current instanceof TypeElement) {
+            final TypeElement currentType = (TypeElement) current;
+            if (currentType.getModifiers().contains(Modifier.PRIVATE))
+                return "it is private";
+            if (currentType.getNestingKind() == NestingKind.LOCAL || currentType.getNestingKind() == NestingKind.ANONYMOUS)
+                return "it is not a member type";
+            if (currentType.getNestingKind() == NestingKind.MEMBER && currentType.getKind() == ElementKind.CLASS && !currentType.getModifiers().contains(Modifier.STATIC))
+                return "it is an inner class";
+            current = currentType.getEnclosingElement();
+        }
+
+        if (type.getKind() == ElementKind.CLASS) {
+            final List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+            boolean hasDefault = constructors.isEmpty();
+            for (final ExecutableElement constructor : constructors)
+                if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE))
+                    hasDefault = true;
+            if (!hasDefault)
+                return "it has no default constructor";
+        }
+        return null;
+    }
+
+    private TypeElement superClassOf(final TypeElement type) {
+        final boolean isVertex = this.isAssignable(type.asType(), VERTEX_FRAME);
+        final boolean isEdge = this.isAssignable(type.asType(), EDGE_FRAME);
+        if (isVertex == isEdge)
+            return null;
+        else if (type.getKind() == ElementKind.CLASS)
+            return type;
+        return this.elements.getTypeElement(isVertex ? ABSTRACT_VERTEX_FRAME : ABSTRACT_EDGE_FRAME);
+    }
+
+    private List<ExecutableElement> abstractMethods(final TypeElement type, final TypeElement superClass) {
+        final List<ExecutableElement> members = new ArrayList<>(ElementFilter.methodsIn(this.elements.getAllMembers(type)));
+        if (superClass != type)
+            members.addAll(ElementFilter.methodsIn(this.elements.getAllMembers(superClass)));
+
+        final Set<String> implemented = new HashSet<>();
+        for (final ExecutableElement member : members)
+            if (!member.getModifiers().contains(Modifier.ABSTRACT))
+                implemented.add(this.signature(member));
+
+        final Map<String, ExecutableElement> abstractMethods = new LinkedHashMap<>();
+        for (final ExecutableElement member : members) {
+            if (!member.getModifiers().contains(Modifier.ABSTRACT))
+                continue;
+            final String signature = this.signature(member);
+            if (implemented.contains(signature))
+                continue;
+            final ExecutableElement existing = abstractMethods.get(signature);
+            if (existing == null || this.types.isSubtype(member.getEnclosingElement().asType(), existing.getEnclosingElement().asType()))
+                abstractMethods.put(signature, member);
+        }
+        return new ArrayList<>(abstractMethods.values());
+    }
+
+    private String signature(final ExecutableElement method) {
+        final StringBuilder signature = new StringBuilder(method.getSimpleName()).append('(');
+        for (final VariableElement parameter : method.getParameters())
+            signature.append(this.types.erasure(parameter.asType())).append(',');
+        return signature.append(')').toString();
+    }
+
+    private Invocation invocationOf(final ExecutableElement method, final TypeElement superClass) {
+        if (!method.getModifiers().contains(Modifier.PUBLIC))
+            return null;
+
+        String annotation = null;
+        for (final AnnotationMirror mirror : method.getAnnotationMirrors()) {
+            final String name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (HANDLED_ANNOTATIONS.contains(name)) {
+                annotation = name;
+                break;
+            }
+        }
+        if (annotation == null)
+            return null;
+
+        final Invocation invocation;
+        final String thisType;
+        if (annotation.equals(Property.class.getName())) {
+            invocation = this.propertyInvocation(method);
+            thisType = ELEMENT_FRAME;
+        }
+        else if (annotation.equals(Adjacency.class.getName())) {
+            invocation = this.adjacencyInvocation(method);
+            thisType = VERTEX_FRAME;
+        }
+        else if (annotation.equals(Incidence.class.getName())) {
+            invocation = this.incidenceInvocation(method);
+            thisType = VERTEX_FRAME;
+        }
+        else {
+            invocation = this.endpointInvocation(method, annotation.equals(InVertex.class.getName()) ? IN_VERTEX_HANDLER : OUT_VERTEX_HANDLER);
+            thisType = EDGE_FRAME;
+        }
+
+        if (invocation == null || !this.isAssignable(superClass.asType(), thisType))
+            return null;
+        else if (invocation.returnsVoid && method.getReturnType().getKind() != TypeKind.VOID)
+            return null;
+        return invocation;
+    }
+
+    private Invocation propertyInvocation(final ExecutableElement method) {
+        final int arguments = method.getParameters().size();
+        final String key = this.elements.getConstantExpression(method.getAnnotation(Property.class).value());
+        if (this.isSetMethod(method))
+            return arguments == 1 ? new Invocation(PROPERTY_HANDLER + ".SetPropertyInterceptor", "setProperty", true, Arrays.asList(key), "java.lang.Object") : null;
+        else if (this.isGetMethod(method))
+            return arguments == 0 ? new Invocation(PROPERTY_HANDLER + ".GetPropertyInterceptor", "getProperty", false, Arrays.asList(key, this.classLiteral(method.getReturnType()))) : null;
+        else if (this.isRemoveMethod(method))
+            return arguments == 0 ? new Invocation(PROPERTY_HANDLER + ".RemovePropertyInterceptor", "removeProperty", true, Arrays.asList(key)) : null;
+        return null;
+    }
+
+    private Invocation adjacencyInvocation(final ExecutableElement method) {
+        final List<? extends VariableElement> arguments = method.getParameters();
+        final Adjacency adjacency = method.getAnnotation(Adjacency.class);
+        final List<String> constants = this.labelAndDirection(adjacency.label(), adjacency.direction());
+
+        if (this.isAddMethod(method)) {
+            if (arguments.isEmpty())
+                return new Invocation(ADJACENCY_HANDLER + ".AddVertexDefaultInterceptor", "addVertex", false, constants);
+            else if (arguments.size() == 1)
+                if (this.isParameter(method, 0, CLASS_INITIALIZER))
+                    return new Invocation(ADJACENCY_HANDLER + ".AddVertexByTypeUntypedEdgeInterceptor", "addVertex", false, constants, CLASS_INITIALIZER);
+                else
+                    return new Invocation(ADJACENCY_HANDLER + ".AddVertexByObjectUntypedEdgeInterceptor", "addVertex", false, constants, VERTEX_FRAME);
+            else if (arguments.size() == 2 && this.isParameter(method, 1, CLASS_INITIALIZER))
+                if (this.isParameter(method, 0, CLASS_INITIALIZER))
+                    return new Invocation(ADJACENCY_HANDLER + ".AddVertexByTypeTypedEdgeInterceptor", "addVertex", false, constants, CLASS_INITIALIZER, CLASS_INITIALIZER);
+                else
+                    return new Invocation(ADJACENCY_HANDLER + ".AddVertexByObjectTypedEdgeInterceptor", "addVertex", false, constants, VERTEX_FRAME, CLASS_INITIALIZER);
+            return null;
+        }
+        else if (this.isGetMethod(method)) {
+            if (arguments.isEmpty()) {
+                if (this.returnsKind(method, TypeKind.LONG, Long.class))
+                    return new Invocation(ADJACENCY_HANDLER + ".CountVertexesLongDefaultInterceptor", "countVertexes", false, constants);
+                else if (this.returnsKind(method, TypeKind.INT, Integer.class))
+                    return new Invocation(ADJACENCY_HANDLER + ".CountVertexesIntDefaultInterceptor", "countVertexes", false, constants);
+                else if (this.returnsKind(method, TypeKind.BOOLEAN, Boolean.class))
+                    return new Invocation(ADJACENCY_HANDLER + ".HasVertexesDefaultInterceptor", "hasVertexes", false, constants);
+                else if (this.returns(method, Iterator.class))
+                    return new Invocation(ADJACENCY_HANDLER + ".GetVertexesIteratorDefaultInterceptor", "getVertexes", false, constants);
+                else if (this.returns(method, List.class))
+                    return new Invocation(ADJACENCY_HANDLER + ".GetVertexesListDefaultInterceptor", "getVertexes", false, constants);
+                else if (this.returns(method, Set.class))
+                    return new Invocation(ADJACENCY_HANDLER + ".GetVertexesSetDefaultInterceptor", "getVertexes", false, constants);
+                return new Invocation(ADJACENCY_HANDLER + ".GetVertexDefaultInterceptor", "getVertexes", false, constants);
+            }
+            else if (arguments.size() == 1 && this.isIntParameter(method, 0)) {
+                if (this.returns(method, Iterator.class))
+                    return new Invocation(ADJACENCY_HANDLER + ".GetVertexesIteratorLimitInterceptor", "getVertexes", false, constants, "int");
+                else if (this.returns(method, List.class))
+                    return new Invocation(ADJACENCY_HANDLER + ".GetVertexesListLimitInterceptor", "getVertexes", false, constants, "int");
+                else if (this.returns(method, Set.class))
+                    return new Invocation(ADJACENCY_HANDLER + ".GetVertexesSetLimitInterceptor", "getVertexes", false, constants, "int");
+            }
+            else if (arguments.size() == 1 && this.isParameter(method, 0, Class.class.getName())) {
+                if (this.returnsKind(method, TypeKind.LONG, Long.class))
+                    return new Invocation(ADJACENCY_HANDLER + ".CountVertexesLongByTypeInterceptor", "countVertexes", false, constants, "java.lang.Class");
+                else if (this.returnsKind(method, TypeKind.INT, Integer.class))
+                    return new Invocation(ADJACENCY_HANDLER + ".CountVertexesIntByTypeInterceptor", "countVertexes", false, constants, "java.lang.Class");
+                else if (this.returnsKind(method, TypeKind.BOOLEAN, Boolean.class))
+                    return new Invocation(ADJACENCY_HANDLER + ".HasVertexesByTypeInterceptor", "hasVertexes", false, constants, "java.lang.Class");
+                else if (this.returns(method, Iterator.class))
+                    return new Invocation(ADJACENCY_HANDLER + ".GetVertexesIteratorByTypeInterceptor", "getVertexes", false, constants, "java.lang.Class");
+                else if (this.returns(method, List.class))
+                    return new Invocation(ADJACENCY_HANDLER + ".GetVertexesListByTypeInterceptor", "getVertexes", false, constants, "java.lang.Class");
+                else if (this.returns(method, Set.class))
+                    return new Invocation(ADJACENCY_HANDLER + ".GetVertexesSetByTypeInterceptor", "getVertexes", false, constants, "java.lang.Class");
+                return new Invocation(ADJACENCY_HANDLER + ".GetVertexByTypeInterceptor", "getVertex", false, constants, "java.lang.Class");
+            }
+            else if (arguments.size() == 2 && this.isParameter(method, 0, Class.class.getName()) && this.isIntParameter(method, 1)) {
+                if (this.returns(method, Iterator.class))
+                    return new Invocation(ADJACENCY_HANDLER + ".GetVertexesIteratorByTypeLimitInterceptor", "getVertexes", false, constants, "java.lang.Class", "int");
+                else if (this.returns(method, List.class))
+                    return new Invocation(ADJACENCY_HANDLER + ".GetVertexesListByTypeLimitInterceptor", "getVertexes", false, constants, "java.lang.Class", "int");
+                else if (this.returns(method, Set.class))
+                    return new Invocation(ADJACENCY_HANDLER + ".GetVertexesSetByTypeLimitInterceptor", "getVertexes", false, constants, "java.lang.Class", "int");
+            }
+            return null;
+        }
+        else if (this.isRemoveMethod(method)) {
+            if (arguments.isEmpty())
+                return new Invocation(ADJACENCY_HANDLER + ".RemoveAllInterceptor", "removeVertex", true, constants);
+            else if (arguments.size() == 1)
+                return new Invocation(ADJACENCY_HANDLER + ".RemoveVertexInterceptor", "removeVertex", true, constants, VERTEX_FRAME);
+            return null;
+        }
+        else if (this.isSetMethod(method)) {
+            if (arguments.size() != 1)
+                return null;
+            else if (this.isParameter(method, 0, Iterator.class.getName()))
+                return new Invocation(ADJACENCY_HANDLER + ".SetVertexIteratorInterceptor", "setVertex", true, constants, "java.util.Iterator");
+            else if (this.isParameter(method, 0, Iterable.class.getName()))
+                return new Invocation(ADJACENCY_HANDLER + ".SetVertexIterableInterceptor", "setVertex", true, constants, "java.lang.Iterable");
+            else if (this.isParameter(method, 0, VERTEX_FRAME))
+                return new Invocation(ADJACENCY_HANDLER + ".SetVertexVertexFrameInterceptor", "setVertex", true, constants, VERTEX_FRAME);
+            return null;
+        }
+        return null;
+    }
+
+    private Invocation incidenceInvocation(final ExecutableElement method) {
+        final List<? extends VariableElement> arguments = method.getParameters();
+        final Incidence incidence = method.getAnnotation(Incidence.class);
+        final List<String> constants = this.labelAndDirection(incidence.label(), incidence.direction());
+
+        if (this.isAddMethod(method)) {
+            final Invocation add = this.incidenceAddInvocation(method, constants);
+            if (add != null && incidence.direction() == Direction.BOTH)
+                return Invocation.throwing(method.getSimpleName() + " is annotated with direction BOTH, this is not allowed for add methods annotated with @Incidence.");
+            return add;
+        }
+        else if (this.isGetMethod(method)) {
+            if (arguments.isEmpty()) {
+                if (this.returnsKind(method, TypeKind.LONG, Long.class))
+                    return new Invocation(INCIDENCE_HANDLER + ".CountEdgesLongDefaultInterceptor", "countEdges", false, constants);
+                else if (this.returnsKind(method, TypeKind.INT, Integer.class))
+                    return new Invocation(INCIDENCE_HANDLER + ".CountEdgesIntDefaultInterceptor", "countEdges", false, constants);
+                else if (this.returnsKind(method, TypeKind.BOOLEAN, Boolean.class))
+                    return new Invocation(INCIDENCE_HANDLER + ".HasEdgesDefaultInterceptor", "hasEdges", false, constants);
+                else if (this.returns(method, Iterator.class))
+                    return new Invocation(INCIDENCE_HANDLER + ".GetEdgesIteratorDefaultInterceptor", "getEdges", false, constants);
+                else if (this.returns(method, List.class))
+                    return new Invocation(INCIDENCE_HANDLER + ".GetEdgesListDefaultInterceptor", "getEdges", false, constants);
+                else if (this.returns(method, Set.class))
+                    return new Invocation(INCIDENCE_HANDLER + ".GetEdgesSetDefaultInterceptor", "getEdges", false, constants);
+                return new Invocation(INCIDENCE_HANDLER + ".GetEdgeDefaultInterceptor", "getEdges", false, constants);
+            }
+            else if (arguments.size() == 1 && this.isIntParameter(method, 0)) {
+                if (this.returns(method, Iterator.class))
+                    return new Invocation(INCIDENCE_HANDLER + ".GetEdgesIteratorLimitInterceptor", "getEdges", false, constants, "int");
+                else if (this.returns(method, List.class))
+                    return new Invocation(INCIDENCE_HANDLER + ".GetEdgesListLimitInterceptor", "getEdges", false, constants, "int");
+                else if (this.returns(method, Set.class))
+                    return new Invocation(INCIDENCE_HANDLER + ".GetEdgesSetLimitInterceptor", "getEdges", false, constants, "int");
+            }
+            else if (arguments.size() == 1 && this.isParameter(method, 0, Class.class.getName())) {
+                if (this.returnsKind(method, TypeKind.LONG, Long.class))
+                    return new Invocation(INCIDENCE_HANDLER + ".CountEdgesLongByTypeInterceptor", "countEdges", false, constants, "java.lang.Class");
+                else if (this.returnsKind(method, TypeKind.INT, Integer.class))
+                    return new Invocation(INCIDENCE_HANDLER + ".CountEdgesIntByTypeInterceptor", "countEdges", false, constants, "java.lang.Class");
+                else if (this.returnsKind(method, TypeKind.BOOLEAN, Boolean.class))
+                    return new Invocation(INCIDENCE_HANDLER + ".HasEdgesByTypeInterceptor", "hasEdges", false, constants, "java.lang.Class");
+                else if (this.returns(method, Iterator.class))
+                    return new Invocation(INCIDENCE_HANDLER + ".GetEdgesIteratorByTypeInterceptor", "getEdges", false, constants, "java.lang.Class");
+                else if (this.returns(method, List.class))
+                    return new Invocation(INCIDENCE_HANDLER + ".GetEdgesListByTypeInterceptor", "getEdges", false, constants, "java.lang.Class");
+                else if (this.returns(method, Set.class))
+                    return new Invocation(INCIDENCE_HANDLER + ".GetEdgesSetByTypeInterceptor", "getEdges", false, constants, "java.lang.Class");
+                return new Invocation(INCIDENCE_HANDLER + ".GetEdgeByTypeInterceptor", "getEdge", false, constants, "java.lang.Class");
+            }
+            else if (arguments.size() == 2 && this.isParameter(method, 0, Class.class.getName()) && this.isIntParameter(method, 1)) {
+                if (this.returns(method, Iterator.class))
+                    return new Invocation(INCIDENCE_HANDLER + ".GetEdgesIteratorByTypeLimitInterceptor", "getEdges", false, constants, "java.lang.Class", "int");
+                else if (this.returns(method, List.class))
+                    return new Invocation(INCIDENCE_HANDLER + ".GetEdgesListByTypeLimitInterceptor", "getEdges", false, constants, "java.lang.Class", "int");
+                else if (this.returns(method, Set.class))
+                    return new Invocation(INCIDENCE_HANDLER + ".GetEdgesSetByTypeLimitInterceptor", "getEdges", false, constants, "java.lang.Class", "int");
+            }
+            return null;
+        }
+        else if (this.isRemoveMethod(method))
+            return arguments.size() == 1 ? new Invocation(INCIDENCE_HANDLER + ".RemoveEdgeInterceptor", "removeEdge", true, Collections.<String>emptyList(), EDGE_FRAME) : null;
+        return null;
+    }
+
+    private Invocation incidenceAddInvocation(final ExecutableElement method, final List<String> constants) {
+        final List<? extends VariableElement> arguments = method.getParameters();
+
+        if (arguments.isEmpty())
+            return new Invocation(INCIDENCE_HANDLER + ".AddEdgeDefaultInterceptor", "addEdge", false, constants);
+        else if (arguments.size() == 1)
+            if (this.isParameter(method, 0, CLASS_INITIALIZER))
+                return new Invocation(INCIDENCE_HANDLER + ".AddEdgeByTypeUntypedEdgeInterceptor", "addVertex", false, constants, CLASS_INITIALIZER);
+            else
+                return new Invocation(INCIDENCE_HANDLER + ".AddEdgeByObjectUntypedEdgeInterceptor", "addVertex", false, constants, VERTEX_FRAME);
+        else if (arguments.size() == 2 && this.isParameter(method, 1, CLASS_INITIALIZER))
+            if (this.isParameter(method, 0, CLASS_INITIALIZER))
+                return new Invocation(INCIDENCE_HANDLER + ".AddEdgeByTypeTypedEdgeInterceptor", "addVertex", false, constants, CLASS_INITIALIZER, CLASS_INITIALIZER);
+            else
+                return new Invocation(INCIDENCE_HANDLER + ".AddEdgeByObjectTypedEdgeInterceptor", "addVertex", false, constants, VERTEX_FRAME, CLASS_INITIALIZER);
+        return null;
+    }
+
+    private Invocation endpointInvocation(final ExecutableElement method, final String handler) {
+        if (this.isGetMethod(method) && method.getParameters().isEmpty())
+            return new Invocation(handler + ".getVertexInterceptor", "getVertex", false, Arrays.asList(this.classLiteral(method.getReturnType())));
+        return null;
+    }
+
+    private List<String> labelAndDirection(final String label, final Direction direction) {
+        return Arrays.asList(this.elements.getConstantExpression(label), Direction.class.getName() + "." + direction.name());
+    }
+
+    private String classLiteral(final TypeMirror type) {
+        return this.types.erasure(type) + ".class";
+    }
+
+    private String render(final TypeElement type, final TypeElement superClass, final List<ExecutableElement> methods, final List<Invocation> invocations, final String implementationName) {
+        final String packageName = this.elements.getPackageOf(type).getQualifiedName().toString();
+        final String simpleName = implementationName.substring(implementationName.lastIndexOf('.') + 1);
+        final String typeName = type.getQualifiedName().toString();
+
+        final StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty())
+            source.append("package ").append(packageName).append(";\n\n");
+        source.append("/**\n * Frame implementation of {@link ").append(typeName).append("} generated by ")
+              .append(GraphElementProcessor.class.getSimpleName()).append(".\n */\n");
+        source.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        source.append("public class ").append(simpleName).append(" extends ").append(superClass.getQualifiedName());
+        if (type.getKind() == ElementKind.INTERFACE)
+            source.append(" implements ").append(typeName).append(", ").append(CACHES_REFLECTION);
+        else
+            source.append(" implements ").append(CACHES_REFLECTION);
+        source.append(" {\n\n");
+
+        source.append("    private ").append(REFLECTION_CACHE).append(" reflectionCache;\n\n");
+        source.append("    @Override\n    public ").append(REFLECTION_CACHE).append(" getReflectionCache() {\n        return this.reflectionCache;\n    }\n\n");
+        source.append("    @Override\n    public void setReflectionCache(final ").append(REFLECTION_CACHE).append(" reflectionCache) {\n        this.reflectionCache = reflectionCache;\n    }\n");
+
+        for (int index = 0; index < methods.size(); index++)
+            source.append('\n').append(this.renderMethod(type, methods.get(index), invocations.get(index)));
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private String renderMethod(final TypeElement type, final ExecutableElement method, final Invocation invocation) {
+        final ExecutableType methodType = (ExecutableType) this.types.asMemberOf((DeclaredType) type.asType(), method);
+        final StringBuilder source = new StringBuilder("    @Override\n    public ");
+
+        final List<? extends TypeParameterElement> typeParameters = method.getTypeParameters();
+        if (!typeParameters.isEmpty()) {
+            source.append('<');
+            for (int parameterIndex = 0; parameterIndex < typeParameters.size(); parameterIndex++) {
+                final TypeParameterElement typeParameter = typeParameters.get(parameterIndex);
+                if (parameterIndex > 0)
+                    source.append(", ");
+                source.append(typeParameter.getSimpleName());
+                final List<? extends TypeMirror> bounds = typeParameter.getBounds();
+                for (int boundIndex = 0; boundIndex < bounds.size(); boundIndex++)
+                    if (!bounds.get(boundIndex).toString().equals(Object.class.getName()))
+                        source.append(boundIndex == 0 ? " extends " : " & ").append(bounds.get(boundIndex));
+            }
+            source.append("> ");
+        }
+
+        final TypeMirror returnType = methodType.getReturnType();
+        source.append(returnType).append(' ').append(method.getSimpleName()).append('(');
+        final List<? extends TypeMirror> parameterTypes = methodType.getParameterTypes();
+        for (int parameterIndex = 0; parameterIndex < parameterTypes.size(); parameterIndex++) {
+            if (parameterIndex > 0)
+                source.append(", ");
+            String parameterType = parameterTypes.get(parameterIndex).toString();
+            if (method.isVarArgs() && parameterIndex == parameterTypes.size() - 1 && parameterType.endsWith("[]"))
+                parameterType = parameterType.substring(0, parameterType.length() - 2) + "...";
+            source.append("final ").append(parameterType).append(" argument").append(parameterIndex);
+        }
+        source.append(')');
+
+        final List<? extends TypeMirror> thrownTypes = methodType.getThrownTypes();
+        for (int thrownIndex = 0; thrownIndex < thrownTypes.size(); thrownIndex++)
+            source.append(thrownIndex == 0 ? " throws " : ", ").append(thrownTypes.get(thrownIndex));
+        source.append(" {\n        ");
+
+        if (invocation.failure != null)
+            return source.append("throw new java.lang.IllegalStateException(").append(this.elements.getConstantExpression(invocation.failure)).append(");\n    }\n").toString();
+
+        final StringBuilder call = new StringBuilder(invocation.interceptor).append('.').append(invocation.method).append("(this");
+        for (final String constant : invocation.constants)
+            call.append(", ").append(constant);
+        for (int argumentIndex = 0; argumentIndex < invocation.argumentTypes.length; argumentIndex++)
+            call.append(", (").append(invocation.argumentTypes[argumentIndex]).append(") (java.lang.Object) argument").append(argumentIndex);
+        call.append(')');
+
+        if (returnType.getKind() == TypeKind.VOID)
+            source.append(call).append(";\n");
+        else
+            source.append("return (").append(returnType).append(") (java.lang.Object) ").append(call).append(";\n");
+        return source.append("    }\n").toString();
+    }
+
+    private boolean isAssignable(final TypeMirror type, final String target) {
+        final TypeElement targetElement = this.elements.getTypeElement(target);
+        return targetElement != null && this.types.isAssignable(this.types.erasure(type), this.types.erasure(targetElement.asType()));
+    }
+
+    private boolean isParameter(final ExecutableElement method, final int index, final String target) {
+        return this.isAssignable(method.getParameters().get(index).asType(), target);
+    }
+
+    private boolean returns(final ExecutableElement method, final Class<?> target) {
+        return this.isAssignable(method.getReturnType(), target.getName());
+    }
+
+    private boolean returnsKind(final ExecutableElement method, final TypeKind kind, final Class<?> boxed) {
+        final TypeMirror returnType = method.getReturnType();
+        return returnType.getKind() == kind || this.isSameType(returnType, boxed.getName());
+    }
+
+    private boolean isIntParameter(final ExecutableElement method, final int index) {
+        final TypeMirror parameterType = method.getParameters().get(index).asType();
+        return parameterType.getKind() == TypeKind.INT || this.isSameType(parameterType, Integer.class.getName());
+    }
+
+    private boolean isGetMethod(final ExecutableElement method) {
+        final Boolean operation = this.hasOperation(method, "GET");
+        if (operation != null)
+            return operation;
+
+        final String name = method.getSimpleName().toString();
+        final TypeMirror returnType = method.getReturnType();
+        final boolean returnsBoolean = returnType.getKind() == TypeKind.BOOLEAN || this.isSameType(returnType, Boolean.class.getName());
+        return name.startsWith("get") || name.startsWith("count") || returnsBoolean && (name.startsWith("is") || name.startsWith("can") || name.startsWith("has"));
+    }
+
+    private boolean isSetMethod(final ExecutableElement method) {
+        final Boolean operation = this.hasOperation(method, "SET");
+        return operation != null ? operation : method.getSimpleName().toString().startsWith("set");
+    }
+
+    private boolean isRemoveMethod(final ExecutableElement method) {
+        final Boolean operation = this.hasOperation(method, "REMOVE");
+        return operation != null ? operation : method.getSimpleName().toString().startsWith("remove");
+    }
+
+    private boolean isAddMethod(final ExecutableElement method) {
+        final Incidence incidence = method.getAnnotation(Incidence.class);
+        if (incidence != null && incidence.operation() != Incidence.Operation.AUTO)
+            return incidence.operation() == Incidence.Operation.ADD;
+
+        final Adjacency adjacency = method.getAnnotation(Adjacency.class);
+        if (adjacency != null && adjacency.operation() != Adjacency.Operation.AUTO)
+            return adjacency.operation() == Adjacency.Operation.ADD;
+
+        return method.getSimpleName().toString().startsWith("add");
+    }
+
+    /**
+     * Mirrors the operation overrides checked by {@link ReflectionUtility} for get, set and remove methods.
+     */
+    private Boolean hasOperation(final ExecutableElement method, final String operationName) {
+        final Property property = method.getAnnotation(Property.class);
+        if (property != null && property.operation() != Property.Operation.AUTO)
+            return property.operation().name().equals(operationName);
+
+        if (!operationName.equals("SET")) {
+            final Incidence incidence = method.getAnnotation(Incidence.class);
+            if (incidence != null && incidence.operation() != Incidence.Operation.AUTO)
+                return incidence.operation().name().equals(operationName);
+        }
+
+        final Adjacency adjacency = method.getAnnotation(Adjacency.class);
+        if (adjacency != null && adjacency.operation() != Adjacency.Operation.AUTO)
+            return adjacency.operation().name().equals(operationName);
+
+        return null;
+    }
+
+    private boolean isSameType(final TypeMirror type, final String target) {
+        final TypeElement targetElement = this.elements.getTypeElement(target);
+        return targetElement != null && this.types.isSameType(type, targetElement.asType());
+    }
+
+    private String implementationName(final TypeElement type) {
+        final String packageName = this.elements.getPackageOf(type).getQualifiedName().toString();
+        final Deque<String> names = new ArrayDeque<>();
+        for (Element current = type; current instanceof TypeElement; current = current.getEnclosingElement())
+            names.addFirst(current.getSimpleName().toString());
+
+        final StringBuilder name = new StringBuilder();
+        if (!packageName.isEmpty())
+            name.append(packageName).append('.');
+        final Iterator<String> nameIterator = names.iterator();
+        while (nameIterator.hasNext()) {
+            name.append(nameIterator.next());
+            if (nameIterator.hasNext())
+                name.append('_');
+        }
+        return name.append(AbstractAnnotationFrameFactory.IMPLEMENTATION_SUFFIX).toString();
+    }
+
+    /**
+     * A call to an interceptor, passing the frame, the constants taken from the annotation and the method arguments.
+     */
+    private static final class Invocation {
+        private final String interceptor;
+        private final String method;
+        private final boolean returnsVoid;
+        private final List<String> constants;
+        private final String[] argumentTypes;
+        private final String failure;
+
+        private Invocation(final String interceptor, final String method, final boolean returnsVoid, final List<String> constants, final String... argumentTypes) {
+            this(interceptor, method, returnsVoid, constants, argumentTypes, null);
+        }
+
+        private Invocation(final String interceptor, final String method, final boolean returnsVoid, final List<String> constants, final String[] argumentTypes, final String failure) {
+            this.interceptor = interceptor;
+            this.method = method;
+            this.returnsVoid = returnsVoid;
+            this.constants = constants;
+            this.argumentTypes = argumentTypes;
+            this.failure = failure;
+        }
+
+        private static Invocation throwing(final String failure) {
+            return new Invocation(null, null, false, Collections.<String>emptyList(), new String[0], failure);
+        }
+    }
+}
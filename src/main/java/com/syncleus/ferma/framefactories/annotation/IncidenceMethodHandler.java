@@ -19,19 +19,25 @@ import com.syncleus.ferma.typeresolvers.TypeResolver;
 import com.syncleus.ferma.*;
 import com.syncleus.ferma.annotations.Incidence;
 import net.bytebuddy.dynamic.DynamicType;
-import net.bytebuddy.implementation.MethodDelegation;
-import net.bytebuddy.implementation.bind.annotation.Argument;
-import net.bytebuddy.implementation.bind.annotation.Origin;
-import net.bytebuddy.implementation.bind.annotation.RuntimeType;
-import net.bytebuddy.implementation.bind.annotation.This;
+import net.bytebuddy.implementation.ExceptionMethod;
+import net.bytebuddy.implementation.Implementation;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.bytebuddy.matcher.ElementMatchers;
+import net.bytebuddy.implementation.bind.annotation.Argument;
+import net.bytebuddy.implementation.bind.annotation.Origin;
+import net.bytebuddy.implementation.bind.annotation.RuntimeType;
+import net.bytebuddy.implementation.bind.annotation.This;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 /**
  * A TinkerPop method handler that implemented the Incidence Annotation.
@@ -39,6 +45,8 @@ import org.apache.tinkerpop.gremlin.structure.Direction;
  * @since 2.0.0
  */
 public class IncidenceMethodHandler extends AbstractMethodHandler {
+    private static final Map<String, TraversalTemplate<Edge>> INCIDENT_TEMPLATES = new ConcurrentHashMap<>();
+    private static final Map<String, TraversalTemplate<Long>> COUNT_TEMPLATES = new ConcurrentHashMap<>();
 
     @Override
     public Class<Incidence> getAnnotationType() {
@@ -70,7 +78,13 @@ public class IncidenceMethodHandler extends AbstractMethodHandler {
                 throw new IllegalStateException(method.getName() + " was annotated with @Incidence but had more than 1 arguments.");
         if (ReflectionUtility.isGetMethod(method))
             if (arguments == null || arguments.length == 0) {
-                if (ReflectionUtility.returnsIterator(method))
+                if (ReflectionUtility.returnsLong(method))
+                    return this.countEdgesLongDefault(builder, method, annotation);
+                else if (ReflectionUtility.returnsInt(method))
+                    return this.countEdgesIntDefault(builder, method, annotation);
+                else if (ReflectionUtility.returnsBoolean(method))
+                    return this.hasEdgesDefault(builder, method, annotation);
+                else if (ReflectionUtility.returnsIterator(method))
                     return this.getEdgesIteratorDefault(builder, method, annotation);
                 else if (ReflectionUtility.returnsList(method))
                     return this.getEdgesListDefault(builder, method, annotation);
@@ -79,11 +93,27 @@ public class IncidenceMethodHandler extends AbstractMethodHandler {
 
                 return this.getEdgeDefault(builder, method, annotation);
             }
+            else if (arguments.length == 1 && ReflectionUtility.acceptsInt(method, 0)) {
+                if (ReflectionUtility.returnsIterator(method))
+                    return this.getEdgesIteratorLimit(builder, method, annotation);
+                else if (ReflectionUtility.returnsList(method))
+                    return this.getEdgesListLimit(builder, method, annotation);
+                else if (ReflectionUtility.returnsSet(method))
+                    return this.getEdgesSetLimit(builder, method, annotation);
+
+                throw new IllegalStateException(method.getName() + " was annotated with @Incidence, had a single int argument, but did not return an Iterator, List or Set");
+            }
             else if (arguments.length == 1) {
                 if (!(Class.class.isAssignableFrom(arguments[0].getType())))
                     throw new IllegalStateException(method.getName() + " was annotated with @Incidence, had a single argument, but that argument was not of the type Class");
 
-                if (ReflectionUtility.returnsIterator(method))
+                if (ReflectionUtility.returnsLong(method))
+                    return this.countEdgesLongByType(builder, method, annotation);
+                else if (ReflectionUtility.returnsInt(method))
+                    return this.countEdgesIntByType(builder, method, annotation);
+                else if (ReflectionUtility.returnsBoolean(method))
+                    return this.hasEdgesByType(builder, method, annotation);
+                else if (ReflectionUtility.returnsIterator(method))
                     return this.getEdgesIteratorByType(builder, method, annotation);
                 else if (ReflectionUtility.returnsList(method))
                     return this.getEdgesListByType(builder, method, annotation);
@@ -92,8 +122,21 @@ public class IncidenceMethodHandler extends AbstractMethodHandler {
 
                 return this.getEdgeByType(builder, method, annotation);
             }
+            else if (arguments.length == 2) {
+                if (!(Class.class.isAssignableFrom(arguments[0].getType())) || !ReflectionUtility.acceptsInt(method, 1))
+                    throw new IllegalStateException(method.getName() + " was annotated with @Incidence, had two arguments, but they were not of the types Class and int");
+
+                if (ReflectionUtility.returnsIterator(method))
+                    return this.getEdgesIteratorByTypeLimit(builder, method, annotation);
+                else if (ReflectionUtility.returnsList(method))
+                    return this.getEdgesListByTypeLimit(builder, method, annotation);
+                else if (ReflectionUtility.returnsSet(method))
+                    return this.getEdgesSetByTypeLimit(builder, method, annotation);
+
+                throw new IllegalStateException(method.getName() + " was annotated with @Incidence, had a Class and an int argument, but did not return an Iterator, List or Set");
+            }
             else
-                throw new IllegalStateException(method.getName() + " was annotated with @Incidence but had more than 1 arguments.");
+                throw new IllegalStateException(method.getName() + " was annotated with @Incidence but had more than 2 arguments.");
         else if (ReflectionUtility.isRemoveMethod(method))
             if (arguments == null || arguments.length == 0)
                 throw new IllegalStateException(method.getName() + " was annotated with @Incidence but had no arguments.");
@@ -106,258 +149,351 @@ public class IncidenceMethodHandler extends AbstractMethodHandler {
     }
 
     private <E> DynamicType.Builder<E> addEdgeDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(AddEdgeDefaultInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bindAdd(AddEdgeDefaultInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> addEdgeByTypeUntypedEdge(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(AddEdgeByTypeUntypedEdgeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bindAdd(AddEdgeByTypeUntypedEdgeInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> addEdgeByObjectUntypedEdge(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(AddEdgeByObjectUntypedEdgeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bindAdd(AddEdgeByObjectUntypedEdgeInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> addEdgeByTypeTypedEdge(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(AddEdgeByTypeTypedEdgeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bindAdd(AddEdgeByTypeTypedEdgeInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> addEdgeByObjectTypedEdge(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(AddEdgeByObjectTypedEdgeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bindAdd(AddEdgeByObjectTypedEdgeInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> getEdgesIteratorDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetEdgesIteratorDefaultInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetEdgesIteratorDefaultInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> getEdgesListDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetEdgesListDefaultInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetEdgesListDefaultInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> getEdgesSetDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetEdgesSetDefaultInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetEdgesSetDefaultInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> getEdgesIteratorByType(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetEdgesIteratorByTypeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetEdgesIteratorByTypeInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> getEdgesListByType(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetEdgesListByTypeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetEdgesListByTypeInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> getEdgesSetByType(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetEdgesSetByTypeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetEdgesSetByTypeInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> getEdgeDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetEdgeDefaultInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetEdgeDefaultInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> getEdgeByType(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetEdgeByTypeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetEdgeByTypeInterceptor.class, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> countEdgesLongDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(bind(CountEdgesLongDefaultInterceptor.class, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> countEdgesIntDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(bind(CountEdgesIntDefaultInterceptor.class, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> hasEdgesDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(bind(HasEdgesDefaultInterceptor.class, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> getEdgesIteratorLimit(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetEdgesIteratorLimitInterceptor.class, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> getEdgesListLimit(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetEdgesListLimitInterceptor.class, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> getEdgesSetLimit(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetEdgesSetLimitInterceptor.class, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> countEdgesLongByType(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(bind(CountEdgesLongByTypeInterceptor.class, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> countEdgesIntByType(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(bind(CountEdgesIntByTypeInterceptor.class, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> hasEdgesByType(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(bind(HasEdgesByTypeInterceptor.class, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> getEdgesIteratorByTypeLimit(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetEdgesIteratorByTypeLimitInterceptor.class, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> getEdgesListByTypeLimit(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetEdgesListByTypeLimitInterceptor.class, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> getEdgesSetByTypeLimit(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(bind(GetEdgesSetByTypeLimitInterceptor.class, annotation));
     }
 
     private <E> DynamicType.Builder<E> removeEdge(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(RemoveEdgeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(invokeInterceptor(RemoveEdgeInterceptor.class));
+    }
+
+    private static Implementation bind(final Class<?> interceptor, final Annotation annotation) {
+        final Incidence incidence = (Incidence) annotation;
+        return invokeInterceptor(interceptor, incidence.label(), incidence.direction());
+    }
+
+    private static Implementation bindAdd(final Class<?> interceptor, final Method method, final Annotation annotation) {
+        if (((Incidence) annotation).direction() == Direction.BOTH)
+            return ExceptionMethod.throwing(IllegalStateException.class, method.getName() + " is annotated with direction BOTH, this is not allowed for add methods annotated with @Incidence.");
+        return bind(interceptor, annotation);
+    }
+
+    static <S> GraphTraversal<S, Edge> incident(final GraphTraversal<S, ? extends Vertex> input, final String label, final Direction direction) {
+        switch (direction) {
+            case BOTH:
+                return input.bothE(label);
+            case IN:
+                return input.inE(label);
+            case OUT:
+                return input.outE(label);
+            default:
+                throw new IllegalStateException("Direction not recognized.");
+        }
+    }
+
+    /**
+     * The template of the traversal to the edges incident along a label, built the first time it is needed.
+     */
+    static TraversalTemplate<Edge> incidentTemplate(final String label, final Direction direction) {
+        return INCIDENT_TEMPLATES.computeIfAbsent(direction.name() + ':' + label, key -> new TraversalTemplate<>(input -> incident(input, label, direction)));
+    }
+
+    static TraversalTemplate<Long> countTemplate(final String label, final Direction direction) {
+        return COUNT_TEMPLATES.computeIfAbsent(direction.name() + ':' + label, key -> new TraversalTemplate<>(input -> incident(input, label, direction).count()));
+    }
+
+    static Traversable<Vertex, Edge> traverseIncident(final VertexFrame thiz, final String label, final Direction direction) {
+        return new DefaultTraversable<>(incidentTemplate(label, direction).start(thiz.getGraph().getRawTraversal(), thiz.getElement()), thiz.getGraph());
     }
 
     public static final class AddEdgeDefaultInterceptor {
 
-        @RuntimeType
-        public static Object addEdge(@This final VertexFrame thiz, @Origin final Method method) {
+        public static Object addEdge(final VertexFrame thiz, final String label, final Direction direction) {
+            AdjacencyLoader.invalidate(label);
             final VertexFrame newVertex = thiz.getGraph().addFramedVertex();
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
 
             switch (direction) {
                 case BOTH:
-                    throw new IllegalStateException(method.getName() + " is annotated with direction BOTH, this is not allowed for add methods annotated with @Incidence.");
+                    throw new IllegalStateException("Direction BOTH is not allowed for add methods annotated with @Incidence.");
                 case IN:
                     return thiz.getGraph().addFramedEdge(newVertex, thiz, label);
                 case OUT:
                     return thiz.getGraph().addFramedEdge(thiz, newVertex, label);
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException("Direction not recognized.");
             }
         }
+
+        /**
+         * @deprecated Replaced by {@link #addEdge(VertexFrame, String, Direction)}.
+         */
+        @Deprecated
+        @RuntimeType
+        public static Object addEdge(@This final VertexFrame thiz, @Origin final Method method) {
+            final Incidence annotation = annotationOf(thiz, method, Incidence.class);
+            return addEdge(thiz, annotation.label(), annotation.direction());
+        }
     }
 
     public static final class AddEdgeByTypeUntypedEdgeInterceptor {
 
-        @RuntimeType
-        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(value = 0) final ClassInitializer vertexType) {
+        public static Object addVertex(final VertexFrame thiz, final String label, final Direction direction, final ClassInitializer vertexType) {
+            AdjacencyLoader.invalidate(label);
             final Object newNode = thiz.getGraph().addFramedVertex(vertexType);
             assert newNode instanceof VertexFrame;
             final VertexFrame newVertex = ((VertexFrame) newNode);
 
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
             assert vertexType.getInitializationType().isInstance(newNode);
 
             switch (direction) {
                 case BOTH:
-                    throw new IllegalStateException(method.getName() + " is annotated with direction BOTH, this is not allowed for add methods annotated with @Incidence.");
+                    throw new IllegalStateException("Direction BOTH is not allowed for add methods annotated with @Incidence.");
                 case IN:
                     return thiz.getGraph().addFramedEdge(newVertex, thiz, label);
                 case OUT:
                     return thiz.getGraph().addFramedEdge(thiz, newVertex, label);
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException("Direction not recognized.");
             }
         }
+
+        /**
+         * @deprecated Replaced by {@link #addVertex(VertexFrame, String, Direction, ClassInitializer)}.
+         */
+        @Deprecated
+        @RuntimeType
+        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final ClassInitializer vertexType) {
+            final Incidence annotation = annotationOf(thiz, method, Incidence.class);
+            return addVertex(thiz, annotation.label(), annotation.direction(), vertexType);
+        }
     }
 
     public static final class AddEdgeByTypeTypedEdgeInterceptor {
 
-        @RuntimeType
-        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final ClassInitializer vertexType, @RuntimeType @Argument(1) final ClassInitializer edgeType) {
+        public static Object addVertex(final VertexFrame thiz, final String label, final Direction direction, final ClassInitializer vertexType, final ClassInitializer edgeType) {
+            AdjacencyLoader.invalidate(label);
             final Object newNode = thiz.getGraph().addFramedVertex(vertexType);
             assert newNode instanceof VertexFrame;
             final VertexFrame newVertex = ((VertexFrame) newNode);
 
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
             assert vertexType.getInitializationType().isInstance(newNode);
 
             switch (direction) {
                 case BOTH:
-                    throw new IllegalStateException(method.getName() + " is annotated with direction BOTH, this is not allowed for add methods annotated with @Incidence.");
+                    throw new IllegalStateException("Direction BOTH is not allowed for add methods annotated with @Incidence.");
                 case IN:
                     return thiz.getGraph().addFramedEdge(newVertex, thiz, label, edgeType);
                 case OUT:
                     return thiz.getGraph().addFramedEdge(thiz, newVertex, label, edgeType);
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException("Direction not recognized.");
             }
         }
+
+        /**
+         * @deprecated Replaced by {@link #addVertex(VertexFrame, String, Direction, ClassInitializer, ClassInitializer)}.
+         */
+        @Deprecated
+        @RuntimeType
+        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final ClassInitializer vertexType, @RuntimeType @Argument(1) final ClassInitializer edgeType) {
+            final Incidence annotation = annotationOf(thiz, method, Incidence.class);
+            return addVertex(thiz, annotation.label(), annotation.direction(), vertexType, edgeType);
+        }
     }
 
     public static final class AddEdgeByObjectUntypedEdgeInterceptor {
 
-        @RuntimeType
-        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final VertexFrame newVertex) {
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
+        public static Object addVertex(final VertexFrame thiz, final String label, final Direction direction, final VertexFrame newVertex) {
+            AdjacencyLoader.invalidate(label);
             switch (direction) {
                 case BOTH:
-                    throw new IllegalStateException(method.getName() + " is annotated with direction BOTH, this is not allowed for add methods annotated with @Incidence.");
+                    throw new IllegalStateException("Direction BOTH is not allowed for add methods annotated with @Incidence.");
                 case IN:
                     return thiz.getGraph().addFramedEdge(newVertex, thiz, label);
                 case OUT:
                     return thiz.getGraph().addFramedEdge(thiz, newVertex, label);
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException("Direction not recognized.");
             }
         }
+
+        /**
+         * @deprecated Replaced by {@link #addVertex(VertexFrame, String, Direction, VertexFrame)}.
+         */
+        @Deprecated
+        @RuntimeType
+        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final VertexFrame newVertex) {
+            final Incidence annotation = annotationOf(thiz, method, Incidence.class);
+            return addVertex(thiz, annotation.label(), annotation.direction(), newVertex);
+        }
     }
 
     public static final class AddEdgeByObjectTypedEdgeInterceptor {
 
-        @RuntimeType
-        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final VertexFrame newVertex, @RuntimeType @Argument(1) final ClassInitializer edgeType) {
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
+        public static Object addVertex(final VertexFrame thiz, final String label, final Direction direction, final VertexFrame newVertex, final ClassInitializer edgeType) {
+            AdjacencyLoader.invalidate(label);
             switch (direction) {
                 case BOTH:
-                    throw new IllegalStateException(method.getName() + " is annotated with direction BOTH, this is not allowed for add methods annotated with @Incidence.");
+                    throw new IllegalStateException("Direction BOTH is not allowed for add methods annotated with @Incidence.");
                 case IN:
                     return thiz.getGraph().addFramedEdge(newVertex, thiz, label, edgeType);
                 case OUT:
                     return thiz.getGraph().addFramedEdge(thiz, newVertex, label, edgeType);
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException("Direction not recognized.");
             }
         }
+
+        /**
+         * @deprecated Replaced by {@link #addVertex(VertexFrame, String, Direction, VertexFrame, ClassInitializer)}.
+         */
+        @Deprecated
+        @RuntimeType
+        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final VertexFrame newVertex, @RuntimeType @Argument(1) final ClassInitializer edgeType) {
+            final Incidence annotation = annotationOf(thiz, method, Incidence.class);
+            return addVertex(thiz, annotation.label(), annotation.direction(), newVertex, edgeType);
+        }
     }
 
     public static final class GetEdgesIteratorDefaultInterceptor {
 
+        public static Iterator getEdges(final VertexFrame thiz, final String label, final Direction direction) {
+            return traverseIncident(thiz, label, direction).frame(VertexFrame.class);
+        }
+
+        /**
+         * @deprecated Replaced by {@link #getEdges(VertexFrame, String, Direction)}.
+         */
+        @Deprecated
         @RuntimeType
         public static Iterator getEdges(@This final VertexFrame thiz, @Origin final Method method) {
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
-            switch (direction) {
-                case BOTH:
-                    return thiz.traverse(input -> input.bothE(label)).frame(VertexFrame.class);
-                case IN:
-                    return thiz.traverse(input -> input.inE(label)).frame(VertexFrame.class);
-                case OUT:
-                    return thiz.traverse(input -> input.outE(label)).frame(VertexFrame.class);
-                default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
-            }
+            final Incidence annotation = annotationOf(thiz, method, Incidence.class);
+            return getEdges(thiz, annotation.label(), annotation.direction());
         }
     }
 
     public static final class GetEdgesListDefaultInterceptor {
 
+        public static List getEdges(final VertexFrame thiz, final String label, final Direction direction) {
+            return traverseIncident(thiz, label, direction).toList(VertexFrame.class);
+        }
+
+        /**
+         * @deprecated Replaced by {@link #getEdges(VertexFrame, String, Direction)}.
+         */
+        @Deprecated
         @RuntimeType
         public static List getEdges(@This final VertexFrame thiz, @Origin final Method method) {
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
-            switch (direction) {
-                case BOTH:
-                    return thiz.traverse(input -> input.bothE(label)).toList(VertexFrame.class);
-                case IN:
-                    return thiz.traverse(input -> input.inE(label)).toList(VertexFrame.class);
-                case OUT:
-                    return thiz.traverse(input -> input.outE(label)).toList(VertexFrame.class);
-                default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
-            }
+            final Incidence annotation = annotationOf(thiz, method, Incidence.class);
+            return getEdges(thiz, annotation.label(), annotation.direction());
         }
     }
 
     public static final class GetEdgesSetDefaultInterceptor {
 
+        public static Set getEdges(final VertexFrame thiz, final String label, final Direction direction) {
+            return traverseIncident(thiz, label, direction).toSet(VertexFrame.class);
+        }
+
+        /**
+         * @deprecated Replaced by {@link #getEdges(VertexFrame, String, Direction)}.
+         */
+        @Deprecated
         @RuntimeType
         public static Set getEdges(@This final VertexFrame thiz, @Origin final Method method) {
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
-            switch (direction) {
-                case BOTH:
-                    return thiz.traverse(input -> input.bothE(label)).toSet(VertexFrame.class);
-                case IN:
-                    return thiz.traverse(input -> input.inE(label)).toSet(VertexFrame.class);
-                case OUT:
-                    return thiz.traverse(input -> input.outE(label)).toSet(VertexFrame.class);
-                default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
-            }
+            final Incidence annotation = annotationOf(thiz, method, Incidence.class);
+            return getEdges(thiz, annotation.label(), annotation.direction());
         }
     }
 
     public static final class GetEdgesIteratorByTypeInterceptor {
 
-        @RuntimeType
-        public static Iterator getEdges(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Class type) {
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
+        public static Iterator getEdges(final VertexFrame thiz, final String label, final Direction direction, final Class type) {
             final TypeResolver resolver = thiz.getGraph().getTypeResolver();
 
             switch (direction) {
@@ -368,19 +504,24 @@ public class IncidenceMethodHandler extends AbstractMethodHandler {
                 case OUT:
                     return thiz.traverse(input -> resolver.hasType(input.outE(label), type)).frame(type);
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException("Direction not recognized.");
             }
         }
+
+        /**
+         * @deprecated Replaced by {@link #getEdges(VertexFrame, String, Direction, Class)}.
+         */
+        @Deprecated
+        @RuntimeType
+        public static Iterator getEdges(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Class type) {
+            final Incidence annotation = annotationOf(thiz, method, Incidence.class);
+            return getEdges(thiz, annotation.label(), annotation.direction(), type);
+        }
     }
 
     public static final class GetEdgesListByTypeInterceptor {
 
-        @RuntimeType
-        public static List getEdges(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Class type) {
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
+        public static List getEdges(final VertexFrame thiz, final String label, final Direction direction, final Class type) {
             final TypeResolver resolver = thiz.getGraph().getTypeResolver();
 
             switch (direction) {
@@ -391,19 +532,24 @@ public class IncidenceMethodHandler extends AbstractMethodHandler {
                 case OUT:
                     return thiz.traverse(input -> resolver.hasType(input.outE(label), type)).toList(type);
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException("Direction not recognized.");
             }
         }
+
+        /**
+         * @deprecated Replaced by {@link #getEdges(VertexFrame, String, Direction, Class)}.
+         */
+        @Deprecated
+        @RuntimeType
+        public static List getEdges(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Class type) {
+            final Incidence annotation = annotationOf(thiz, method, Incidence.class);
+            return getEdges(thiz, annotation.label(), annotation.direction(), type);
+        }
     }
 
     public static final class GetEdgesSetByTypeInterceptor {
 
-        @RuntimeType
-        public static Set getEdges(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Class type) {
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
+        public static Set getEdges(final VertexFrame thiz, final String label, final Direction direction, final Class type) {
             final TypeResolver resolver = thiz.getGraph().getTypeResolver();
 
             switch (direction) {
@@ -414,41 +560,41 @@ public class IncidenceMethodHandler extends AbstractMethodHandler {
                 case OUT:
                     return thiz.traverse(input -> resolver.hasType(input.outE(label), type)).toSet(type);
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException("Direction not recognized.");
             }
         }
+
+        /**
+         * @deprecated Replaced by {@link #getEdges(VertexFrame, String, Direction, Class)}.
+         */
+        @Deprecated
+        @RuntimeType
+        public static Set getEdges(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Class type) {
+            final Incidence annotation = annotationOf(thiz, method, Incidence.class);
+            return getEdges(thiz, annotation.label(), annotation.direction(), type);
+        }
     }
 
     public static final class GetEdgeDefaultInterceptor {
 
+        public static Object getEdges(final VertexFrame thiz, final String label, final Direction direction) {
+            return traverseIncident(thiz, label, direction).next(VertexFrame.class);
+        }
+
+        /**
+         * @deprecated Replaced by {@link #getEdges(VertexFrame, String, Direction)}.
+         */
+        @Deprecated
         @RuntimeType
         public static Object getEdges(@This final VertexFrame thiz, @Origin final Method method) {
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
-            switch (direction) {
-                case BOTH:
-                    return thiz.traverse(input -> input.bothE(label)).next(VertexFrame.class);
-                case IN:
-                    return thiz.traverse(input -> input.inE(label)).next(VertexFrame.class);
-                case OUT:
-                    return thiz.traverse(input -> input.outE(label)).next(VertexFrame.class);
-                default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
-            }
+            final Incidence annotation = annotationOf(thiz, method, Incidence.class);
+            return getEdges(thiz, annotation.label(), annotation.direction());
         }
     }
 
     public static final class GetEdgeByTypeInterceptor {
 
-        @RuntimeType
-        public static Object getEdge(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Class type) {
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
+        public static Object getEdge(final VertexFrame thiz, final String label, final Direction direction, final Class type) {
             final TypeResolver resolver = thiz.getGraph().getTypeResolver();
 
             switch (direction) {
@@ -459,16 +605,130 @@ public class IncidenceMethodHandler extends AbstractMethodHandler {
                 case OUT:
                     return thiz.traverse(input -> resolver.hasType(input.outE(label), type)).next(type);
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException("Direction not recognized.");
             }
         }
+
+        /**
+         * @deprecated Replaced by {@link #getEdge(VertexFrame, String, Direction, Class)}.
+         */
+        @Deprecated
+        @RuntimeType
+        public static Object getEdge(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Class type) {
+            final Incidence annotation = annotationOf(thiz, method, Incidence.class);
+            return getEdge(thiz, annotation.label(), annotation.direction(), type);
+        }
+    }
+
+    public static final class CountEdgesLongDefaultInterceptor {
+
+        public static long countEdges(final VertexFrame thiz, final String label, final Direction direction) {
+            return countTemplate(label, direction).start(thiz.getGraph().getRawTraversal(), thiz.getElement()).next();
+        }
+    }
+
+    public static final class CountEdgesIntDefaultInterceptor {
+
+        public static int countEdges(final VertexFrame thiz, final String label, final Direction direction) {
+            return Math.toIntExact(CountEdgesLongDefaultInterceptor.countEdges(thiz, label, direction));
+        }
+    }
+
+    public static final class HasEdgesDefaultInterceptor {
+
+        public static boolean hasEdges(final VertexFrame thiz, final String label, final Direction direction) {
+            return incidentTemplate(label, direction).start(thiz.getGraph().getRawTraversal(), thiz.getElement()).hasNext();
+        }
+    }
+
+    public static final class CountEdgesLongByTypeInterceptor {
+
+        public static long countEdges(final VertexFrame thiz, final String label, final Direction direction, final Class type) {
+            final TypeResolver resolver = thiz.getGraph().getTypeResolver();
+            return resolver.hasType(incident(thiz.getRawTraversal(), label, direction), type).count().next();
+        }
+    }
+
+    public static final class CountEdgesIntByTypeInterceptor {
+
+        public static int countEdges(final VertexFrame thiz, final String label, final Direction direction, final Class type) {
+            return Math.toIntExact(CountEdgesLongByTypeInterceptor.countEdges(thiz, label, direction, type));
+        }
+    }
+
+    public static final class HasEdgesByTypeInterceptor {
+
+        public static boolean hasEdges(final VertexFrame thiz, final String label, final Direction direction, final Class type) {
+            final TypeResolver resolver = thiz.getGraph().getTypeResolver();
+            return resolver.hasType(incident(thiz.getRawTraversal(), label, direction), type).hasNext();
+        }
+    }
+
+    public static final class GetEdgesIteratorLimitInterceptor {
+
+        public static Iterator getEdges(final VertexFrame thiz, final String label, final Direction direction, final int limit) {
+            AdjacencyMethodHandler.checkLimit(limit);
+            return thiz.traverse(input -> incident(input, label, direction).limit(limit)).frame(VertexFrame.class);
+        }
+    }
+
+    public static final class GetEdgesListLimitInterceptor {
+
+        public static List getEdges(final VertexFrame thiz, final String label, final Direction direction, final int limit) {
+            AdjacencyMethodHandler.checkLimit(limit);
+            return thiz.traverse(input -> incident(input, label, direction).limit(limit)).toList(VertexFrame.class);
+        }
+    }
+
+    public static final class GetEdgesSetLimitInterceptor {
+
+        public static Set getEdges(final VertexFrame thiz, final String label, final Direction direction, final int limit) {
+            AdjacencyMethodHandler.checkLimit(limit);
+            return thiz.traverse(input -> incident(input, label, direction).limit(limit)).toSet(VertexFrame.class);
+        }
+    }
+
+    public static final class GetEdgesIteratorByTypeLimitInterceptor {
+
+        public static Iterator getEdges(final VertexFrame thiz, final String label, final Direction direction, final Class type, final int limit) {
+            AdjacencyMethodHandler.checkLimit(limit);
+            final TypeResolver resolver = thiz.getGraph().getTypeResolver();
+            return thiz.traverse(input -> resolver.hasType(incident(input, label, direction), type).limit(limit)).frame(type);
+        }
+    }
+
+    public static final class GetEdgesListByTypeLimitInterceptor {
+
+        public static List getEdges(final VertexFrame thiz, final String label, final Direction direction, final Class type, final int limit) {
+            AdjacencyMethodHandler.checkLimit(limit);
+            final TypeResolver resolver = thiz.getGraph().getTypeResolver();
+            return thiz.traverse(input -> resolver.hasType(incident(input, label, direction), type).limit(limit)).toList(type);
+        }
+    }
+
+    public static final class GetEdgesSetByTypeLimitInterceptor {
+
+        public static Set getEdges(final VertexFrame thiz, final String label, final Direction direction, final Class type, final int limit) {
+            AdjacencyMethodHandler.checkLimit(limit);
+            final TypeResolver resolver = thiz.getGraph().getTypeResolver();
+            return thiz.traverse(input -> resolver.hasType(incident(input, label, direction), type).limit(limit)).toSet(type);
+        }
     }
 
     public static final class RemoveEdgeInterceptor {
 
+        public static void removeEdge(final VertexFrame thiz, final EdgeFrame edge) {
+            AdjacencyLoader.invalidate(edge.getLabel());
+            edge.remove();
+        }
+
+        /**
+         * @deprecated Replaced by {@link #removeEdge(VertexFrame, EdgeFrame)}.
+         */
+        @Deprecated
         @RuntimeType
         public static void removeEdge(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final EdgeFrame edge) {
-            edge.remove();
+            removeEdge(thiz, edge);
         }
     }
 }
@@ -19,16 +19,14 @@ import java.util.function.Function;
 import com.syncleus.ferma.EdgeFrame;
 import com.syncleus.ferma.annotations.OutVertex;
 import net.bytebuddy.dynamic.DynamicType;
-import net.bytebuddy.implementation.MethodDelegation;
-import net.bytebuddy.implementation.bind.annotation.Origin;
-import net.bytebuddy.implementation.bind.annotation.RuntimeType;
-import net.bytebuddy.implementation.bind.annotation.This;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.Iterator;
 
 import net.bytebuddy.matcher.ElementMatchers;
-import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import net.bytebuddy.implementation.bind.annotation.Origin;
+import net.bytebuddy.implementation.bind.annotation.RuntimeType;
+import net.bytebuddy.implementation.bind.annotation.This;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 
@@ -60,14 +58,22 @@ public class OutVertexMethodHandler extends AbstractMethodHandler {
     }
 
     private <E> DynamicType.Builder<E> getNode(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(getVertexInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(invokeInterceptor(getVertexInterceptor.class, method.getReturnType()));
     }
 
     public static final class getVertexInterceptor {
 
+        public static Object getVertex(final EdgeFrame thiz, final Class<?> type) {
+            return thiz.getOutVertex(type);
+        }
+
+        /**
+         * @deprecated Replaced by {@link #getVertex(EdgeFrame, Class)}.
+         */
+        @Deprecated
         @RuntimeType
         public static Object getVertex(@This final EdgeFrame thiz, @Origin final Method method) {
-            return thiz.traverse(GraphTraversal::outV).next(method.getReturnType());
+            return getVertex(thiz, method.getReturnType());
         }
     }
 }
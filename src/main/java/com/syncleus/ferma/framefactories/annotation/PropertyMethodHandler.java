@@ -20,12 +20,11 @@ import com.syncleus.ferma.annotations.Property;
 import net.bytebuddy.dynamic.DynamicType;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import net.bytebuddy.implementation.MethodDelegation;
+import net.bytebuddy.matcher.ElementMatchers;
 import net.bytebuddy.implementation.bind.annotation.Argument;
 import net.bytebuddy.implementation.bind.annotation.Origin;
 import net.bytebuddy.implementation.bind.annotation.RuntimeType;
 import net.bytebuddy.implementation.bind.annotation.This;
-import net.bytebuddy.matcher.ElementMatchers;
 
 /**
  * A method handler that implemented the Property Annotation.
@@ -65,19 +64,19 @@ public class PropertyMethodHandler extends AbstractMethodHandler {
     }
 
     private <E> DynamicType.Builder<E> setProperty(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(SetPropertyInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(invokeInterceptor(SetPropertyInterceptor.class, ((Property) annotation).value()));
     }
 
     private <E> DynamicType.Builder<E> getProperty(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetPropertyInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(invokeInterceptor(GetPropertyInterceptor.class, ((Property) annotation).value(), method.getReturnType()));
     }
 
     private <E> DynamicType.Builder<E> removeProperty(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(RemovePropertyInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(invokeInterceptor(RemovePropertyInterceptor.class, ((Property) annotation).value()));
     }
 
-    private static Enum getValueAsEnum(final Method method, final Object value) {
-        final Class<Enum> en = (Class<Enum>) method.getReturnType();
+    private static Enum getValueAsEnum(final Class<?> type, final Object value) {
+        final Class<Enum> en = (Class<Enum>) type;
         if (value != null)
             return Enum.valueOf(en, value.toString());
 
@@ -86,43 +85,55 @@ public class PropertyMethodHandler extends AbstractMethodHandler {
 
     public static final class GetPropertyInterceptor {
 
-        @RuntimeType
-        public static Object getProperty(@This final ElementFrame thiz, @Origin final Method method) {
-            assert thiz instanceof CachesReflection;
-            final Property annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Property.class);
-            final String value = annotation.value();
-
-            final Object obj = thiz.getProperty(value);
-            if (method.getReturnType().isEnum())
-                return getValueAsEnum(method, obj);
+        public static Object getProperty(final ElementFrame thiz, final String key, final Class<?> type) {
+            final Object obj = thiz.getProperty(key);
+            if (type.isEnum())
+                return getValueAsEnum(type, obj);
             else
                 return obj;
         }
+
+        /**
+         * @deprecated Replaced by {@link #getProperty(ElementFrame, String, Class)}.
+         */
+        @Deprecated
+        @RuntimeType
+        public static Object getProperty(@This final ElementFrame thiz, @Origin final Method method) {
+            return getProperty(thiz, annotationOf(thiz, method, Property.class).value(), method.getReturnType());
+        }
     }
 
     public static final class SetPropertyInterceptor {
 
-        @RuntimeType
-        public static void setProperty(@This final ElementFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Object obj) {
-            assert thiz instanceof CachesReflection;
-            final Property annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Property.class);
-            final String value = annotation.value();
-
+        public static void setProperty(final ElementFrame thiz, final String key, final Object obj) {
             if ((obj != null) && (obj.getClass().isEnum()))
-                thiz.setProperty(value, ((Enum<?>) obj).name());
+                thiz.setProperty(key, ((Enum<?>) obj).name());
             else
-                thiz.setProperty(value, obj);
+                thiz.setProperty(key, obj);
+        }
+
+        /**
+         * @deprecated Replaced by {@link #setProperty(ElementFrame, String, Object)}.
+         */
+        @Deprecated
+        @RuntimeType
+        public static void setProperty(@This final ElementFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Object obj) {
+            setProperty(thiz, annotationOf(thiz, method, Property.class).value(), obj);
         }
     }
 
     public static final class RemovePropertyInterceptor {
 
-        public static void removeProperty(@This final ElementFrame thiz, @Origin final Method method) {
-            assert thiz instanceof CachesReflection;
-            final Property annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Property.class);
-            final String value = annotation.value();
+        public static void removeProperty(final ElementFrame thiz, final String key) {
+            thiz.getElement().property(key).remove();
+        }
 
-            thiz.getElement().property(value).remove();
+        /**
+         * @deprecated Replaced by {@link #removeProperty(ElementFrame, String)}.
+         */
+        @Deprecated
+        public static void removeProperty(@This final ElementFrame thiz, @Origin final Method method) {
+            removeProperty(thiz, annotationOf(thiz, method, Property.class).value());
         }
     }
 }
@@ -32,6 +32,8 @@ public class ReflectionUtility {
     private static final String ADD = "add";
     private static final String IS = "is";
     private static final String CAN = "can";
+    private static final String HAS = "has";
+    private static final String COUNT = "count";
 
     public static boolean isGetMethod(final Method method) {
         final Property propertyAnnotation = method.getAnnotation(Property.class);
@@ -68,7 +70,7 @@ public class ReflectionUtility {
         }
 
         final Class<?> returnType = method.getReturnType();
-        return (method.getName().startsWith(GET) || (returnType == Boolean.class || returnType == Boolean.TYPE) && (method.getName().startsWith(IS) || method.getName().startsWith(CAN)));
+        return (method.getName().startsWith(GET) || method.getName().startsWith(COUNT) || (returnType == Boolean.class || returnType == Boolean.TYPE) && (method.getName().startsWith(IS) || method.getName().startsWith(CAN) || method.getName().startsWith(HAS)));
     }
 
     public static boolean isSetMethod(final Method method) {
@@ -172,6 +174,23 @@ public class ReflectionUtility {
         return (parameterIndex + 1) == method.getParameterTypes().length && VertexFrame.class.isAssignableFrom(method.getParameterTypes()[parameterIndex]);
     }
 
+    public static boolean acceptsInt(final Method method, int parameterIndex) {
+        final Class<?> parameterType = method.getParameterTypes()[parameterIndex];
+        return parameterType == Integer.TYPE || parameterType == Integer.class;
+    }
+
+    public static boolean returnsLong(final Method method) {
+        return method.getReturnType() == Long.TYPE || method.getReturnType() == Long.class;
+    }
+
+    public static boolean returnsInt(final Method method) {
+        return method.getReturnType() == Integer.TYPE || method.getReturnType() == Integer.class;
+    }
+
+    public static boolean returnsBoolean(final Method method) {
+        return method.getReturnType() == Boolean.TYPE || method.getReturnType() == Boolean.class;
+    }
+
     public static boolean returnsIterator(final Method method) {
         return Iterator.class.isAssignableFrom(method.getReturnType());
     }
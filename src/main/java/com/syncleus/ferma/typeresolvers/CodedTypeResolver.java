@@ -0,0 +1,344 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.typeresolvers;
+
+import com.syncleus.ferma.AbstractEdgeFrame;
+import com.syncleus.ferma.AbstractVertexFrame;
+import com.syncleus.ferma.EdgeFrame;
+import com.syncleus.ferma.ReflectionCache;
+import com.syncleus.ferma.VertexFrame;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Transaction;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * A type resolver which stores a small integer code in the type property of each element rather than the name of its
+ * class, which keeps the property and any index on it compact. The code is stored as a string of its decimal digits,
+ * so the property holds strings alone whether an element carries a code or a class name. The codes are assigned the
+ * first time a type is stored and are persisted as variables of the graph, which keeps the registry out of the
+ * elements of the graph. The registry is held in memory as a two-way map, so translating between codes and classes
+ * never touches the graph.
+ *
+ * Elements whose type property holds a class name, as written by the {@link PolymorphicTypeResolver}, are still
+ * resolved and matched, so graphs written before switching resolvers remain readable. Class names never start with a
+ * digit, so they can not be mistaken for a code. Codes are assigned by this
+ * resolver alone, multiple processes writing new types to the same graph at the same time are not coordinated.
+ *
+ * On a transactional graph a new code is only used once its registry entry is committed. Graphs with threaded
+ * transactions commit the entry in a transaction of its own before the code is returned. Other transactional graphs
+ * write the entry in the transaction of the caller, the code is then only seen by that thread until the transaction
+ * commits, and forgotten if it rolls back, so no committed element carries an unregistered code.
+ *
+ * @since 3.3.1
+ */
+public class CodedTypeResolver implements TypeResolver {
+    public final static String TYPE_RESOLUTION_KEY = PolymorphicTypeResolver.TYPE_RESOLUTION_KEY;
+    public final static String REGISTRY_KEY_PREFIX = "ferma_type_code_";
+
+    private final Graph graph;
+    private final ReflectionCache reflectionCache;
+    private final String typeResolutionKey;
+    private final Map<String, Integer> codesByName = new ConcurrentHashMap<>();
+    private final Map<Integer, String> namesByCode = new ConcurrentHashMap<>();
+    private final ThreadLocal<Map<String, Integer>> uncommitted = ThreadLocal.withInitial(HashMap::new);
+    private final ThreadLocal<RegistryListener> listener = new ThreadLocal<>();
+    private int nextCode = 0;
+
+    /**
+     * Creates a type resolver for the given graph, reading the type codes already registered in it.
+     *
+     * @param graph The graph the type registry is stored in, the same graph this resolver types the elements of.
+     * @param reflectionCache the ReflectionCache used to examine the type hierarchy and do general reflection.
+     * @throws IllegalArgumentException if the graph does not support variables.
+     */
+    public CodedTypeResolver(final Graph graph, final ReflectionCache reflectionCache) {
+        this(graph, reflectionCache, TYPE_RESOLUTION_KEY);
+    }
+
+    /**
+     * Creates a type resolver for the given graph, reading the type codes already registered in it.
+     *
+     * @param graph The graph the type registry is stored in, the same graph this resolver types the elements of.
+     * @param reflectionCache the ReflectionCache used to examine the type hierarchy and do general reflection.
+     * @param typeResolutionKey The key used to identfy a element's type.
+     * @throws IllegalArgumentException if the graph does not support variables.
+     */
+    public CodedTypeResolver(final Graph graph, final ReflectionCache reflectionCache, final String typeResolutionKey) {
+        if (graph == null)
+            throw new IllegalArgumentException("graph can not be null");
+        if (!graph.features().graph().variables().supportsVariables())
+            throw new IllegalArgumentException("graph must support variables to hold the type registry");
+        if (reflectionCache == null)
+            throw new IllegalArgumentException("reflectionCache can not be null");
+        if (typeResolutionKey == null)
+            throw new IllegalArgumentException("typeResolutionKey can not be null");
+
+        this.graph = graph;
+        this.reflectionCache = reflectionCache;
+        this.typeResolutionKey = typeResolutionKey;
+        this.loadRegistry();
+    }
+
+    /**
+     * The code stored on elements of the given type, registering a new code if the type has none yet.
+     *
+     * @param type The type.
+     * @return The code of the type.
+     */
+    public int getCode(final Class<?> type) {
+        final Integer code = this.codesByName.get(type.getName());
+        if (code != null)
+            return code;
+        final Integer uncommittedCode = this.uncommitted.get().get(type.getName());
+        if (uncommittedCode != null)
+            return uncommittedCode;
+        return this.register(type.getName());
+    }
+
+    /**
+     * The type a code stands for.
+     *
+     * @param code The code.
+     * @return The type the code was registered for.
+     * @throws IllegalStateException if the code is not registered.
+     */
+    public Class<?> getType(final int code) {
+        String typeName = this.namesByCode.get(code);
+        if (typeName == null)
+            typeName = this.uncommittedName(code);
+        if (typeName == null) {
+            // another process may have registered it since the registry was read
+            this.loadRegistry();
+            typeName = this.namesByCode.get(code);
+            if (typeName == null)
+                throw new IllegalStateException("The type code " + code + " is not registered");
+        }
+        return this.reflectionCache.forName(typeName);
+    }
+
+    private synchronized int register(final String typeName) {
+        final Integer existing = this.codesByName.get(typeName);
+        if (existing != null)
+            return existing;
+
+        final int code = this.nextCode++;
+        final Graph.Features.GraphFeatures features = this.graph.features().graph();
+        if (!features.supportsTransactions())
+            this.writeRegistry(this.graph, code, typeName);
+        else if (features.supportsThreadedTransactions()) {
+            final Graph registryTransaction = this.graph.tx().createThreadedTx();
+            try {
+                this.writeRegistry(registryTransaction, code, typeName);
+                registryTransaction.tx().commit();
+            }
+            catch (final RuntimeException caught) {
+                registryTransaction.tx().rollback();
+                throw caught;
+            }
+        }
+        else {
+            // the entry commits or rolls back along with the elements of the caller carrying the code
+            this.writeRegistry(this.graph, code, typeName);
+            this.uncommitted.get().put(typeName, code);
+            this.listenToTransaction();
+            return code;
+        }
+
+        this.namesByCode.put(code, typeName);
+        this.codesByName.put(typeName, code);
+        return code;
+    }
+
+    private void writeRegistry(final Graph registryGraph, final int code, final String typeName) {
+        registryGraph.variables().set(REGISTRY_KEY_PREFIX + code, typeName);
+    }
+
+    /**
+     * Adds a listener to the transaction of the current thread, unless one is already waiting for it to complete.
+     * A listener which was notified is removed first, it could not remove itself while the transaction was notifying.
+     */
+    private void listenToTransaction() {
+        final RegistryListener current = this.listener.get();
+        if (current != null && !current.isCompleted())
+            return;
+        if (current != null)
+            this.graph.tx().removeTransactionListener(current);
+
+        final RegistryListener added = new RegistryListener(this);
+        this.graph.tx().addTransactionListener(added);
+        this.listener.set(added);
+    }
+
+    /**
+     * Publishes the codes registered in the transaction of the current thread once it commits, and forgets them,
+     * along with anything read back from the uncommitted registry, if it rolls back.
+     */
+    private synchronized void transactionCompleted(final Transaction.Status status) {
+        final Map<String, Integer> codes = this.uncommitted.get();
+        for (final Map.Entry<String, Integer> code : codes.entrySet()) {
+            if (status == Transaction.Status.COMMIT) {
+                this.namesByCode.put(code.getValue(), code.getKey());
+                this.codesByName.put(code.getKey(), code.getValue());
+            }
+            else {
+                this.namesByCode.remove(code.getValue(), code.getKey());
+                this.codesByName.remove(code.getKey(), code.getValue());
+            }
+        }
+        codes.clear();
+    }
+
+    private String uncommittedName(final int code) {
+        for (final Map.Entry<String, Integer> uncommittedCode : this.uncommitted.get().entrySet())
+            if (uncommittedCode.getValue() == code)
+                return uncommittedCode.getKey();
+        return null;
+    }
+
+    private synchronized void loadRegistry() {
+        for (final String key : this.graph.variables().keys())
+            this.loadCode(key, this.graph.variables().get(key).orElse(null));
+    }
+
+    private void loadCode(final String key, final Object typeName) {
+        if (!key.startsWith(REGISTRY_KEY_PREFIX) || !(typeName instanceof String))
+            return;
+
+        final int code;
+        try {
+            code = Integer.parseInt(key.substring(REGISTRY_KEY_PREFIX.length()));
+        }
+        catch (final NumberFormatException caught) {
+            return;
+        }
+        this.namesByCode.put(code, (String) typeName);
+        this.codesByName.put((String) typeName, code);
+        this.nextCode = Math.max(this.nextCode, code + 1);
+    }
+
+    /**
+     * Translates the value of a type property, a code or a class name, to the type.
+     */
+    private Class<?> typeOf(final Object typeValue) {
+        final String value = typeValue.toString();
+        if (!value.isEmpty() && Character.isDigit(value.charAt(0)))
+            return this.getType(Integer.parseInt(value));
+        return this.reflectionCache.forName(value);
+    }
+
+    /**
+     * The codes and names an element of the given type, or any of its subtypes, can have as its type property.
+     */
+    private Set<String> typeValuesOf(final Class<?> type) {
+        final Set<? extends String> typeNames = this.reflectionCache.getSubTypeNames(type.getName());
+        final Set<String> typeValues = new HashSet<>(typeNames);
+        // two threads registering the same type in transactions of their own can each commit a code for it
+        for (final Map.Entry<Integer, String> code : this.namesByCode.entrySet())
+            if (typeNames.contains(code.getValue()))
+                typeValues.add(code.getKey().toString());
+        for (final String typeName : typeNames) {
+            final Integer uncommittedCode = this.uncommitted.get().get(typeName);
+            if (uncommittedCode != null)
+                typeValues.add(uncommittedCode.toString());
+        }
+        return typeValues;
+    }
+
+    @Override
+    public <T> Class<? extends T> resolve(final Element element, final Class<T> kind) {
+        final Property<Object> typeProperty = element.property(this.typeResolutionKey);
+        if (!typeProperty.isPresent())
+            return kind;
+
+        final Class<T> nodeKind = (Class<T>) this.typeOf(typeProperty.value());
+        if (kind.isAssignableFrom(nodeKind) || kind.equals(VertexFrame.class) || kind.equals(EdgeFrame.class) || kind.equals(AbstractVertexFrame.class) || kind.equals(AbstractEdgeFrame.class) || kind.
+              equals(Object.class))
+            return nodeKind;
+        else
+            return kind;
+    }
+
+    @Override
+    public Class<?> resolve(final Element element) {
+        final Property<Object> typeProperty = element.property(this.typeResolutionKey);
+        if (typeProperty.isPresent())
+            return this.typeOf(typeProperty.value());
+        else
+            return null;
+    }
+
+    @Override
+    public void init(final Element element, final Class<?> kind) {
+        element.property(this.typeResolutionKey, Integer.toString(this.getCode(kind)));
+    }
+
+    @Override
+    public Map<String, Object> propertiesOf(final Class<?> kind) {
+        return Collections.singletonMap(this.typeResolutionKey, Integer.toString(this.getCode(kind)));
+    }
+
+    @Override
+    public void deinit(final Element element) {
+        element.property(this.typeResolutionKey).remove();
+    }
+
+    @Override
+    public <P extends Element, T extends Element> GraphTraversal<P, T> hasType(final GraphTraversal<P, T> traverser, final Class<?> type) {
+        return traverser.has(this.typeResolutionKey, org.apache.tinkerpop.gremlin.process.traversal.P.within(this.typeValuesOf(type)));
+    }
+
+    @Override
+    public <P extends Element, T extends Element> GraphTraversal<P, T> hasNotType(final GraphTraversal<P, T> traverser, final Class<?> type) {
+        return traverser.or(__.hasNot(this.typeResolutionKey), __.has(this.typeResolutionKey, org.apache.tinkerpop.gremlin.process.traversal.P.without(this.typeValuesOf(type))));
+    }
+
+    /**
+     * Publishes or forgets the codes registered in a transaction once it completes. Transactions notify their listeners
+     * while iterating over them, so a listener can not remove itself. Once notified it lets go of the resolver, so it
+     * does not keep the resolver reachable from the transaction, and is removed before the next listener is added.
+     */
+    private static final class RegistryListener implements Consumer<Transaction.Status> {
+        private volatile CodedTypeResolver resolver;
+
+        RegistryListener(final CodedTypeResolver resolver) {
+            this.resolver = resolver;
+        }
+
+        boolean isCompleted() {
+            return this.resolver == null;
+        }
+
+        @Override
+        public void accept(final Transaction.Status status) {
+            final CodedTypeResolver completed = this.resolver;
+            if (completed == null)
+                return;
+            this.resolver = null;
+            completed.transactionCompleted(status);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.typeresolvers;
+
+import com.syncleus.ferma.AbstractEdgeFrame;
+import com.syncleus.ferma.AbstractVertexFrame;
+import com.syncleus.ferma.EdgeFrame;
+import com.syncleus.ferma.ReflectionCache;
+import com.syncleus.ferma.VertexFrame;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A type resolver which uses the label of an element as its type, vertices are created with the name of their frame
+ * type as their label. Graph providers index labels natively, so filtering by type needs no index of its own and
+ * resolving the type of an element reads no property.
+ *
+ * Labels can not be changed once an element exists, so {@link #init(Element, Class)} and {@link #deinit(Element)} do
+ * nothing and the type of a vertex is fixed when it is created. Edges keep the label they are created with, an edge is
+ * only typed by this resolver when that label is the name of its frame type. Elements whose label is not the name of a
+ * class, such as the default label of the graph, resolve to the kind requested.
+ *
+ * @since 3.3.1
+ */
+public class LabelTypeResolver implements TypeResolver {
+    private final ReflectionCache reflectionCache;
+    private final Map<String, Optional<Class<?>>> typesByLabel = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a type resolver which recognizes the types in the given cache.
+     *
+     * @param reflectionCache the ReflectionCache used to examine the type hierarchy and do general reflection.
+     */
+    public LabelTypeResolver(final ReflectionCache reflectionCache) {
+        if (reflectionCache == null)
+            throw new IllegalArgumentException("reflectionCache can not be null");
+
+        this.reflectionCache = reflectionCache;
+    }
+
+    /**
+     * The type a label names, looked up once per label so labels which are not class names cost no exception after the
+     * first time they are seen.
+     */
+    private Class<?> typeOf(final String label) {
+        Optional<Class<?>> type = this.typesByLabel.get(label);
+        if (type == null)
+            type = this.typesByLabel.computeIfAbsent(label, key -> {
+                try {
+                    return Optional.of(this.reflectionCache.forName(key));
+                }
+                catch (final IllegalStateException caught) {
+                    return Optional.empty();
+                }
+            });
+        return type.orElse(null);
+    }
+
+    @Override
+    public <T> Class<? extends T> resolve(final Element element, final Class<T> kind) {
+        final Class<T> nodeKind = (Class<T>) this.typeOf(element.label());
+        if (nodeKind == null)
+            return kind;
+
+        if (kind.isAssignableFrom(nodeKind) || kind.equals(VertexFrame.class) || kind.equals(EdgeFrame.class) || kind.equals(AbstractVertexFrame.class) || kind.equals(AbstractEdgeFrame.class) || kind.
+              equals(Object.class))
+            return nodeKind;
+        else
+            return kind;
+    }
+
+    @Override
+    public Class<?> resolve(final Element element) {
+        return this.typeOf(element.label());
+    }
+
+    @Override
+    public void init(final Element element, final Class<?> kind) {
+        // the label was set when the element was created
+    }
+
+    @Override
+    public String labelOf(final Class<?> kind) {
+        return kind.getName();
+    }
+
+    @Override
+    public void deinit(final Element element) {
+        // labels can not be removed
+    }
+
+    @Override
+    public <P extends Element, T extends Element> GraphTraversal<P, T> hasType(final GraphTraversal<P, T> traverser, final Class<?> type) {
+        final Collection<String> allAllowedValues = (Collection<String>) this.reflectionCache.getSubTypeNames(type.getName());
+        return traverser.hasLabel(org.apache.tinkerpop.gremlin.process.traversal.P.within(allAllowedValues));
+    }
+
+    @Override
+    public <P extends Element, T extends Element> GraphTraversal<P, T> hasNotType(final GraphTraversal<P, T> traverser, final Class<?> type) {
+        final Collection<String> allAllowedValues = (Collection<String>) this.reflectionCache.getSubTypeNames(type.getName());
+        return traverser.hasLabel(org.apache.tinkerpop.gremlin.process.traversal.P.without(allAllowedValues));
+    }
+}
@@ -21,14 +21,15 @@ import com.syncleus.ferma.EdgeFrame;
 import com.syncleus.ferma.ReflectionCache;
 import com.syncleus.ferma.VertexFrame;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
-import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Property;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
 
 /**
  * This type resolver will use the Java class stored in the 'java_class' on
@@ -124,6 +125,11 @@ public class PolymorphicTypeResolver implements TypeResolver {
     public void init(final Element element, final Class<?> kind) {
         element.property(this.typeResolutionKey, kind.getName());
     }
+
+    @Override
+    public Map<String, Object> propertiesOf(final Class<?> kind) {
+        return Collections.singletonMap(this.typeResolutionKey, kind.getName());
+    }
     
     @Override
     public void deinit(final Element element) {
@@ -139,20 +145,7 @@ public class PolymorphicTypeResolver implements TypeResolver {
     @Override
     public <P extends Element, T extends Element> GraphTraversal<P, T> hasNotType(final GraphTraversal<P, T> traverser, final Class<?> type) {
         final Set<? extends String> allAllowedValues = this.reflectionCache.getSubTypeNames(type.getName());
-        return traverser.filter(new Predicate<Traverser<T>>() {
-            @Override
-            public boolean test(final Traverser<T> toCheck) {
-                final Property<String> property = toCheck.get().property(typeResolutionKey);
-                if( !property.isPresent() )
-                    return true;
-
-                final String resolvedType = property.value();
-                if( allAllowedValues.contains(resolvedType) )
-                    return false;
-                else
-                    return true;
-            }
-        });
+        return traverser.or(__.hasNot(typeResolutionKey), __.has(typeResolutionKey, org.apache.tinkerpop.gremlin.process.traversal.P.without(allAllowedValues)));
     }
 
 }
@@ -28,6 +28,9 @@ import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * Type resolvers resolve the frame type from the element being requested and
  * may optionally store metadata about the frame type on the element.
@@ -63,7 +66,34 @@ public interface TypeResolver {
      *            The kind of frame that was resolved.
      */
     void init(Element element, Class<?> kind);
-    
+
+    /**
+     * The label new vertices of a kind are created with. Labels can not be changed once an element exists, so a type
+     * resolver which keeps type information in the label must provide it here rather than in
+     * {@link #init(Element, Class)}.
+     *
+     * @param kind
+     *            The kind of frame the vertex is created for.
+     * @return The label, null to create the vertex with the default label of the graph.
+     * @since 3.3.1
+     */
+    default String labelOf(final Class<?> kind) {
+        return null;
+    }
+
+    /**
+     * The type resolution properties new elements of a kind are created with, so they are written in the same call
+     * which creates the element. {@link #init(Element, Class)} is not called on elements created with properties.
+     *
+     * @param kind
+     *            The kind of frame the element is created for.
+     * @return The properties by key, empty if the resolver only writes them in {@link #init(Element, Class)}.
+     * @since 3.3.1
+     */
+    default Map<String, Object> propertiesOf(final Class<?> kind) {
+        return Collections.emptyMap();
+    }
+
     /**
      * Called to remove the type resolution properties from an element
      * 
@@ -17,17 +17,26 @@ package com.syncleus.ferma;
 
 import com.syncleus.ferma.annotations.NetworkGraphTestHelper;
 import com.syncleus.ferma.graphtypes.network.ComputerVertex;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.util.function.TriFunction;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 /**
  *
@@ -154,6 +163,177 @@ public abstract class AbstractTraversableTest extends NetworkGraphTestHelper {
         }
     }
     
+    @Test
+    public void testToListFramesOnce() {
+        List<? extends ComputerVertex> l = createAdjacentVerticesTraversable(dev2).toList(ComputerVertex.class);
+        Assert.assertEquals(2, l.size());
+        Assert.assertSame(l.get(0), l.get(0));
+        Assert.assertSame(l.get(1), l.get(1));
+    }
+    
+    @Test
+    public void testToLazyList() {
+        assertLazyList(createAdjacentVerticesTraversable(dev2).toLazyList(ComputerVertex.class));
+    }
+    
+    @Test
+    public void testToLazyListExplicit() {
+        assertLazyList(createAdjacentVerticesTraversable(dev2).toLazyListExplicit(ComputerVertex.class));
+    }
+    
+    private void assertLazyList(List<? extends ComputerVertex> l) {
+        Assert.assertEquals(2, l.size());
+        Assert.assertSame(l.get(1), l.get(1));
+        Set<String> dev2Adj = new HashSet<>(dev2AdjacentVerticesNames);
+        for (ComputerVertex v : l) {
+            Assert.assertTrue(dev2Adj.remove(v.getName()));
+        }
+        Assert.assertTrue(dev2Adj.isEmpty());
+    }
+    
+    @Test
+    public void testToSet() {
+        Set<? extends ComputerVertex> s = createAdjacentVerticesTraversable(dev2).toSet(ComputerVertex.class);
+        Assert.assertEquals(2, s.size());
+        Set<String> names = new HashSet<>();
+        for (ComputerVertex v : s) {
+            names.add(v.getName());
+        }
+        Assert.assertEquals(dev2AdjacentVerticesNames, names);
+        Assert.assertEquals(s, createAdjacentVerticesTraversable(dev2).toSetExplicit(ComputerVertex.class));
+    }
+    
+    @Test
+    public void testStream() {
+        Set<String> names = createAdjacentVerticesTraversable(dev2).stream(ComputerVertex.class).map(ComputerVertex::getName).collect(Collectors.toSet());
+        Assert.assertEquals(dev2AdjacentVerticesNames, names);
+    }
+    
+    @Test
+    public void testStreamExplicit() {
+        Set<String> names = createAdjacentVerticesTraversable(dev2).streamExplicit(ComputerVertex.class).map(ComputerVertex::getName).collect(Collectors.toSet());
+        Assert.assertEquals(dev2AdjacentVerticesNames, names);
+    }
+    
+    @Test
+    public void testParallelStream() {
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            ComputerVertex v = graph.addFramedVertex(ComputerVertex.class);
+            v.setName("BULK" + i);
+            expected.add(v.getName());
+        }
+        Traversable<?, ?> t = createNewTraversable(graph, graph.getRawTraversal().V().has("name", P.between("BULK", "BULL")));
+        try (Stream<ComputerVertex> frames = t.stream(ComputerVertex.class)) {
+            List<String> names = frames.parallel().map(ComputerVertex::getName).collect(Collectors.toList());
+            Assert.assertEquals(500, names.size());
+            Assert.assertEquals(expected, new HashSet<>(names));
+        }
+    }
+    
+    @Test
+    public void testStreamClosesTraversal() throws Exception {
+        GraphTraversal<?, ?> traversal = Mockito.mock(GraphTraversal.class);
+        createNewTraversable(graph, traversal).stream(ComputerVertex.class).close();
+        Mockito.verify(traversal).close();
+    }
+    
+    @Test
+    public void testPage() {
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < 25; i++) {
+            ComputerVertex v = graph.addFramedVertex(ComputerVertex.class);
+            v.setName("PAGE" + i);
+            expected.add(v.getName());
+        }
+        
+        Set<String> names = new HashSet<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            Page<ComputerVertex> page = createNewTraversable(graph, graph.getRawTraversal().V().has("name", P.between("PAGE", "PAGF")))
+                    .page(ComputerVertex.class, 10, cursor, true);
+            pageSizes.add(page.getFrames().size());
+            for (ComputerVertex v : page.getFrames()) {
+                Assert.assertTrue(names.add(v.getName()));
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        
+        Assert.assertEquals(Arrays.asList(10, 10, 5), pageSizes);
+        Assert.assertEquals(expected, names);
+    }
+    
+    @Test
+    public void testPageIdFilterFollowsStart() {
+        ComputerVertex first = graph.addFramedVertex(ComputerVertex.class);
+        first.setName("PAGE");
+        GraphTraversal<?, ?> traversal = graph.getRawTraversal().V().has("name", "PAGE");
+        createNewTraversable(graph, traversal).page(ComputerVertex.class, 10, Page.encodeCursor(first.getId()));
+
+        Step<?, ?> start = traversal.asAdmin().getStartStep();
+        Assert.assertTrue(start instanceof HasContainerHolder);
+        Assert.assertTrue(((HasContainerHolder) start).getHasContainers().stream().anyMatch(container -> container.getKey().equals(T.id.getAccessor())));
+    }
+
+    @Test
+    public void testPageAdjacent() {
+        ComputerVertex root = graph.addFramedVertex(ComputerVertex.class);
+        Set<Object> expected = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            ComputerVertex v = graph.addFramedVertex(ComputerVertex.class);
+            root.getElement().addEdge("pages", v.getElement());
+            expected.add(v.getId());
+        }
+
+        Set<Object> ids = new HashSet<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            Page<ComputerVertex> page = createNewTraversable(graph, root.getRawTraversal().out("pages")).page(ComputerVertex.class, 2, cursor, true);
+            pageSizes.add(page.getFrames().size());
+            for (ComputerVertex v : page.getFrames())
+                Assert.assertTrue(ids.add(v.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        Assert.assertEquals(Arrays.asList(2, 2, 1), pageSizes);
+        Assert.assertEquals(expected, ids);
+    }
+
+    @Test
+    public void testPageUnsorted() {
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < 25; i++) {
+            ComputerVertex v = graph.addFramedVertex(ComputerVertex.class);
+            v.setName("PAGE" + i);
+            expected.add(v.getName());
+        }
+
+        // the pipeline is already in id order, as the iteration order of some graphs is
+        Set<String> names = new HashSet<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            Page<ComputerVertex> page = createNewTraversable(graph, graph.getRawTraversal().V().has("name", P.between("PAGE", "PAGF")).order().by(T.id))
+                    .pageExplicit(ComputerVertex.class, 10, cursor);
+            pageSizes.add(page.getFrames().size());
+            for (ComputerVertex v : page.getFrames())
+                Assert.assertTrue(names.add(v.getName()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        Assert.assertEquals(Arrays.asList(10, 10, 5), pageSizes);
+        Assert.assertEquals(expected, names);
+    }
+
+    @Test
+    public void testPageExplicitExact() {
+        Page<ComputerVertex> page = createAdjacentVerticesTraversable(dev2).pageExplicit(ComputerVertex.class, 2, null);
+        Assert.assertEquals(2, page.getFrames().size());
+        Assert.assertFalse(page.hasNext());
+    }
+    
     private Traversable<?, ?> createAdjacentVerticesTraversable(ComputerVertex dev) {
         return createNewTraversable(graph, dev.traverse(input -> input.both().dedup()).getRawTraversal());
     }
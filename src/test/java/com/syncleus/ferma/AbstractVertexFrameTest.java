@@ -18,6 +18,9 @@ package com.syncleus.ferma;
 import com.syncleus.ferma.annotations.NetworkGraphTestHelper;
 import com.syncleus.ferma.graphtypes.network.ComputerVertex;
 import com.syncleus.ferma.graphtypes.network.NetworkConnectionEdge;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -71,4 +74,11 @@ public class AbstractVertexFrameTest extends NetworkGraphTestHelper {
         assertTwoWayConnection(dev6, dev5);
     }
     
+    @Test
+    public void testRawTraversalStartsFromElement() {
+        Assert.assertFalse(TraversalHelper.hasStepOfAssignableClass(GraphStep.class, dev5.getRawTraversal().asAdmin()));
+        Assert.assertEquals(dev5.getElement(), dev5.getRawTraversal().next());
+        Assert.assertEquals(3L, (long) dev5.getRawTraversal().inE("connects").count().next());
+    }
+    
 }
@@ -0,0 +1,170 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import com.syncleus.ferma.annotations.FatherEdge;
+import com.syncleus.ferma.annotations.God;
+import com.syncleus.ferma.annotations.GodAlternative;
+import com.syncleus.ferma.annotations.GodExtended;
+import com.syncleus.ferma.annotations.GodGraphLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AdjacencyLoaderTest {
+
+    private TinkerGraph graph;
+    private FramedGraph framedGraph;
+
+    @Before
+    public void setUp() {
+        graph = TinkerGraph.open();
+        GodGraphLoader.load(graph);
+        framedGraph = new DelegatingFramedGraph<>(graph, Arrays.asList(God.class, FatherEdge.class, GodExtended.class, GodAlternative.class));
+    }
+
+    @After
+    public void tearDown() {
+        graph.close();
+    }
+
+    private God god(final String name) {
+        return framedGraph.traverse(input -> input.V().has("name", name)).next(God.class);
+    }
+
+    @Test
+    public void testLoad() {
+        final List<God> gods = Arrays.asList(god("saturn"), god("jupiter"), god("hercules"));
+        final Map<God, List<? extends God>> sons = new AdjacencyLoader(framedGraph).load(gods, "father", Direction.IN, God.class);
+
+        Assert.assertEquals(gods, new ArrayList<>(sons.keySet()));
+        Assert.assertEquals(3, sons.get(gods.get(0)).size());
+        Assert.assertEquals(1, sons.get(gods.get(1)).size());
+        Assert.assertEquals("hercules", sons.get(gods.get(1)).get(0).getName());
+        Assert.assertTrue(sons.get(gods.get(1)).get(0) instanceof GodExtended);
+        Assert.assertTrue(sons.get(gods.get(2)).isEmpty());
+    }
+
+    @Test
+    public void testLoadExplicit() {
+        final God jupiter = god("jupiter");
+        final Map<God, List<? extends God>> sons = new AdjacencyLoader(framedGraph).loadExplicit(Collections.singletonList(jupiter), "father", Direction.IN, God.class);
+
+        Assert.assertFalse(sons.get(jupiter).get(0) instanceof GodExtended);
+    }
+
+    @Test
+    public void testLoadAnnotatedMethod() throws Exception {
+        final God hercules = god("hercules");
+        final Map<God, List<? extends God>> parents = new AdjacencyLoader(framedGraph).load(Collections.singletonList(hercules), God.class.getMethod("getParents"), God.class);
+
+        Assert.assertEquals("jupiter", parents.get(hercules).get(0).getName());
+    }
+
+    @Test
+    public void testSharedVertexFramedOnce() {
+        final God jupiter = god("jupiter");
+        final God neptune = god("neptune");
+        final Map<God, List<? extends God>> fathers = new AdjacencyLoader(framedGraph).load(Arrays.asList(jupiter, neptune), "father", Direction.OUT, God.class);
+
+        Assert.assertSame(fathers.get(jupiter).get(0), fathers.get(neptune).get(0));
+    }
+
+    @Test
+    public void testOpenLoaderAnswersGetters() throws Exception {
+        final God jupiter = god("jupiter");
+        final God saturn = god("saturn");
+        try (final AdjacencyLoader loader = new AdjacencyLoader(framedGraph).open()) {
+            Assert.assertSame(loader, AdjacencyLoader.current());
+            loader.load(Arrays.asList(jupiter, saturn), God.class.getMethod("getSonsList"), God.class);
+
+            // the getters answer from the loader, not from the graph
+            graph.traversal().E().hasLabel("father").drop().iterate();
+            Assert.assertEquals("hercules", jupiter.getSonsList().get(0).getName());
+            Assert.assertEquals(3, saturn.getSonsSet().size());
+            Assert.assertTrue(saturn.getSons().hasNext());
+            Assert.assertEquals("hercules", jupiter.getSon().getName());
+        }
+
+        Assert.assertNull(AdjacencyLoader.current());
+        Assert.assertTrue(jupiter.getSonsList().isEmpty());
+        Assert.assertNull(jupiter.getSon());
+    }
+
+    @Test
+    public void testWriteInvalidatesLoader() {
+        final God jupiter = god("jupiter");
+        try (final AdjacencyLoader loader = new AdjacencyLoader(framedGraph).open()) {
+            loader.load(Collections.singletonList(jupiter), "father", Direction.IN, God.class);
+            Assert.assertNotNull(loader.getLoaded(jupiter, "father", Direction.IN, God.class));
+
+            jupiter.addSon(God.DEFAULT_INITIALIZER);
+            Assert.assertNull(loader.getLoaded(jupiter, "father", Direction.IN, God.class));
+            Assert.assertEquals(2, jupiter.getSonsList().size());
+        }
+    }
+
+    @Test
+    public void testIncidenceWritesInvalidateLoader() {
+        final God jupiter = god("jupiter");
+        try (final AdjacencyLoader loader = new AdjacencyLoader(framedGraph).open()) {
+            loader.load(Collections.singletonList(jupiter), "father", Direction.IN, God.class);
+            jupiter.addSonEdge(framedGraph.addFramedVertex(God.DEFAULT_INITIALIZER));
+            Assert.assertNull(loader.getLoaded(jupiter, "father", Direction.IN, God.class));
+            Assert.assertEquals(2, jupiter.getSonsList().size());
+
+            loader.load(Collections.singletonList(jupiter), "father", Direction.IN, God.class);
+            jupiter.removeSonEdge(framedGraph.frameElementExplicit(jupiter.getSonEdgesList().get(0).getElement(), FatherEdge.class));
+            Assert.assertNull(loader.getLoaded(jupiter, "father", Direction.IN, God.class));
+            Assert.assertEquals(1, jupiter.getSonsList().size());
+        }
+    }
+
+    @Test
+    public void testNestedLoaders() {
+        final AdjacencyLoader outer = new AdjacencyLoader(framedGraph).open();
+        final AdjacencyLoader inner = new AdjacencyLoader(framedGraph).open();
+        Assert.assertSame(inner, AdjacencyLoader.current());
+        inner.close();
+        Assert.assertSame(outer, AdjacencyLoader.current());
+        outer.close();
+        Assert.assertNull(AdjacencyLoader.current());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testOpenTwice() {
+        final AdjacencyLoader loader = new AdjacencyLoader(framedGraph).open();
+        try {
+            loader.open();
+        }
+        finally {
+            loader.close();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotAnnotated() throws Exception {
+        new AdjacencyLoader(framedGraph).load(Collections.singletonList(god("jupiter")), God.class.getMethod("getName"), God.class);
+    }
+}
@@ -0,0 +1,160 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.mockito.Mockito.when;
+
+public class AsyncFramedGraphTest {
+
+    private ExecutorService executor;
+    private DelegatingFramedGraph<TinkerGraph> framedGraph;
+    private AsyncFramedGraph asyncGraph;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(2, runnable -> new Thread(runnable, "async-graph"));
+        framedGraph = new DelegatingFramedGraph<>(TinkerGraph.open(), true, Arrays.asList(Person.class, Programmer.class));
+        asyncGraph = new AsyncFramedGraph(framedGraph, executor, 2);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+        framedGraph.close();
+    }
+
+    @Test
+    public void testOperations() throws Exception {
+        Programmer programmer = asyncGraph.addFramedVertex(Programmer.class).get();
+        programmer.setName("Julia");
+        Person person = asyncGraph.getFramedVertex(Person.class, programmer.getId()).get();
+        Assert.assertTrue(person instanceof Programmer);
+
+        List<? extends Person> people = asyncGraph.traverse(input -> input.V().has("name", "Julia"), Person.class).get();
+        Assert.assertEquals(1, people.size());
+        Assert.assertEquals("Julia", people.get(0).getName());
+
+        Knows knows = asyncGraph.addFramedEdge(programmer, person, "knows", Knows.class).get();
+        Assert.assertEquals(programmer.getElement(), knows.getElement().outVertex());
+        Assert.assertEquals(0, asyncGraph.getInFlightCount());
+    }
+
+    @Test
+    public void testRunsOnExecutor() throws Exception {
+        Assert.assertEquals("async-graph", asyncGraph.submit(graph -> Thread.currentThread().getName()).get());
+    }
+
+    @Test
+    public void testFailure() throws InterruptedException {
+        CompletableFuture<Object> result = asyncGraph.submit(graph -> {
+            throw new IllegalStateException("failed");
+        });
+        try {
+            result.get();
+            Assert.fail();
+        }
+        catch (final ExecutionException caught) {
+            Assert.assertTrue(caught.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void testBoundedInFlight() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Object> first = asyncGraph.submit(graph -> await(release));
+        CompletableFuture<Object> second = asyncGraph.submit(graph -> await(release));
+        CompletableFuture<Object> rejected = asyncGraph.submit(graph -> "rejected");
+        Assert.assertEquals(2, asyncGraph.getInFlightCount());
+        Assert.assertTrue(rejected.isCompletedExceptionally());
+        try {
+            rejected.get();
+            Assert.fail();
+        }
+        catch (final ExecutionException caught) {
+            Assert.assertTrue(caught.getCause() instanceof RejectedExecutionException);
+        }
+
+        release.countDown();
+        first.get();
+        second.get();
+        Assert.assertEquals("accepted", asyncGraph.submit(graph -> "accepted").get());
+    }
+
+    @Test
+    public void testTransactionOnExecutingThread() throws Exception {
+        WrappedFramedGraph<Graph> txGraph = Mockito.mock(WrappedFramedGraph.class);
+        Graph baseGraph = Mockito.mock(Graph.class, Mockito.RETURNS_DEEP_STUBS);
+        WrappedTransaction transaction = Mockito.mock(WrappedTransaction.class);
+        when(txGraph.getBaseGraph()).thenReturn(baseGraph);
+        when(baseGraph.features().graph().supportsTransactions()).thenReturn(true);
+        when(txGraph.tx()).thenReturn(transaction);
+        AtomicReference<String> commitThread = new AtomicReference<>();
+        Mockito.doAnswer(invocation -> {
+            commitThread.set(Thread.currentThread().getName());
+            return null;
+        }).when(transaction).commit();
+
+        AsyncFramedGraph asyncTxGraph = new AsyncFramedGraph(txGraph, executor, 1);
+        Assert.assertEquals("done", asyncTxGraph.submit(graph -> "done").get());
+        Assert.assertEquals("async-graph", commitThread.get());
+        Mockito.verify(transaction).readWrite();
+        Mockito.verify(transaction, Mockito.never()).rollback();
+
+        CompletableFuture<Object> failed = asyncTxGraph.submit(graph -> {
+            throw new IllegalStateException();
+        });
+        try {
+            failed.get();
+            Assert.fail();
+        }
+        catch (final ExecutionException caught) {
+            Mockito.verify(transaction).rollback();
+            Mockito.verify(transaction, Mockito.times(1)).commit();
+        }
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testInvalidMaxInFlight() {
+        new AsyncFramedGraph(framedGraph, executor, 0);
+    }
+
+    private static Object await(CountDownLatch latch) {
+        try {
+            latch.await();
+        }
+        catch (final InterruptedException caught) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import com.syncleus.ferma.typeresolvers.PolymorphicTypeResolver;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BulkLoaderTest {
+
+    private TinkerGraph graph;
+    private DelegatingFramedGraph<TinkerGraph> framedGraph;
+
+    @Before
+    public void setUp() {
+        graph = TinkerGraph.open();
+        framedGraph = new DelegatingFramedGraph<>(graph, true, Arrays.asList(Person.class, Programmer.class, Knows.class));
+    }
+
+    @After
+    public void tearDown() {
+        graph.close();
+    }
+
+    private static ClassInitializer<Person> person(final int uid) {
+        return new GenericClassInitializer<>(Person.class, Collections.singletonMap("uid", uid));
+    }
+
+    @Test
+    public void testLoadVertices() {
+        final BulkLoader loader = new BulkLoader(framedGraph, 3, 10);
+
+        Assert.assertEquals(7, loader.loadVertices(IntStream.range(0, 7).mapToObj(BulkLoaderTest::person), "uid"));
+        Assert.assertEquals(7, loader.getProgress().getElements());
+        Assert.assertEquals(3, loader.getProgress().getBatches());
+        Assert.assertEquals(Long.valueOf(7), framedGraph.getRawTraversal().V().has(PolymorphicTypeResolver.TYPE_RESOLUTION_KEY, Person.class.getName()).count().next());
+    }
+
+    @Test
+    public void testLoadEdges() {
+        final BulkLoader loader = new BulkLoader(framedGraph);
+        loader.loadVertices(Stream.of(person(1), person(2), person(3)), "uid");
+
+        final long edges = loader.loadEdges(Stream.of(
+            new BulkLoader.EdgeSpec("knows", 1, 2, Knows.DEFAULT_INITIALIZER),
+            new BulkLoader.EdgeSpec("knows", 1, 3, new GenericClassInitializer<>(Knows.class, Collections.singletonMap("years", 15)))), "uid");
+
+        Assert.assertEquals(2, edges);
+        final Person first = framedGraph.traverse(input -> input.V().has("uid", 1)).next(Person.class);
+        Assert.assertEquals(2, first.traverse(input -> input.out("knows")).toList(Person.class).size());
+        Assert.assertEquals(15, framedGraph.traverse(input -> input.E().has("years")).next(Knows.class).getYears());
+    }
+
+    @Test
+    public void testEndpointsNotCached() {
+        // nothing fits in the cache, endpoints are looked up by their key
+        final BulkLoader loader = new BulkLoader(framedGraph, 2, 0);
+        loader.loadVertices(Stream.of(person(1), person(2)), "uid");
+
+        Assert.assertEquals(1, loader.loadEdges(Stream.of(new BulkLoader.EdgeSpec("knows", 2, 1, Knows.DEFAULT_INITIALIZER)), "uid"));
+        Assert.assertEquals(Long.valueOf(1), framedGraph.getRawTraversal().V().has("uid", 2).out("knows").has("uid", 1).count().next());
+    }
+
+    @Test
+    public void testProgressReportedPerBatch() {
+        final BulkLoader loader = new BulkLoader(framedGraph, 2, 10);
+        final List<Long> reported = new ArrayList<>();
+        loader.setProgressListener(progress -> reported.add(progress.getElements()));
+
+        loader.loadVertices(IntStream.range(0, 5).mapToObj(BulkLoaderTest::person), "uid");
+
+        Assert.assertEquals(Arrays.asList(2L, 4L, 5L), reported);
+        Assert.assertTrue(loader.getProgress().getElementsPerSecond() > 0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testMissingEndpoint() {
+        final BulkLoader loader = new BulkLoader(framedGraph);
+        loader.loadVertices(Stream.of(person(1)), "uid");
+        loader.loadEdges(Stream.of(new BulkLoader.EdgeSpec("knows", 1, 2, Knows.DEFAULT_INITIALIZER)), "uid");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBatchSizeTooSmall() {
+        new BulkLoader(framedGraph, 0, 10);
+    }
+}
@@ -228,5 +228,16 @@ public class DelegatingFrameGraphTest extends NetworkGraphTestHelper {
                 NetworkConnectionEdge.class);
         assertAllConnections(actual);
     }
-    
+
+    @Test
+    public void testPrewarm() {
+        graph.prewarm();
+        Iterator<? extends NetworkConnectionEdge> actual = graph.getFramedEdges(NetworkConnectionEdge.class);
+        assertAllConnections(actual);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testPrewarmNullPool() {
+        graph.prewarm(null);
+    }
 }
@@ -0,0 +1,171 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+public class FramePublisherTest {
+
+    private DelegatingFramedGraph<TinkerGraph> framedGraph;
+
+    @Before
+    public void setUp() {
+        framedGraph = new DelegatingFramedGraph<>(TinkerGraph.open());
+        for (int i = 0; i < 5; i++)
+            framedGraph.addFramedVertex().setProperty("index", i);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        framedGraph.close();
+    }
+
+    @Test
+    public void testFramesOnDemand() {
+        AtomicInteger framedCount = new AtomicInteger();
+        FramePublisher<Object> publisher = new FramePublisher<>(framedGraph.getRawTraversal().V(), element -> {
+            framedCount.incrementAndGet();
+            return element.value("index");
+        }, Runnable::run);
+        RecordingSubscriber<Object> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(subscriber);
+        Assert.assertEquals(0, framedCount.get());
+
+        subscriber.subscription.request(2);
+        Assert.assertEquals(2, framedCount.get());
+        Assert.assertEquals(2, subscriber.items.size());
+        Assert.assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(10);
+        Assert.assertEquals(5, subscriber.items.size());
+        Assert.assertTrue(subscriber.completed);
+        Assert.assertNull(subscriber.error);
+    }
+
+    @Test
+    public void testCancelClosesTraversal() throws Exception {
+        Vertex vertex = framedGraph.getBaseGraph().vertices().next();
+        GraphTraversal<?, ?> traversal = Mockito.mock(GraphTraversal.class);
+        Mockito.when(traversal.hasNext()).thenReturn(true);
+        Mockito.when(traversal.next()).thenReturn((Object) vertex);
+
+        RecordingSubscriber<TVertex> subscriber = new RecordingSubscriber<>();
+        new DefaultTraversable<>(traversal, framedGraph).publisher(TVertex.class, Runnable::run).subscribe(subscriber);
+        subscriber.subscription.request(3);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(3);
+
+        Assert.assertEquals(3, subscriber.items.size());
+        Mockito.verify(traversal).close();
+        Assert.assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void testInvalidRequest() {
+        RecordingSubscriber<TVertex> subscriber = new RecordingSubscriber<>();
+        framedGraph.traverse(input -> input.V()).publisherExplicit(TVertex.class, Runnable::run).subscribe(subscriber);
+        subscriber.subscription.request(0);
+        Assert.assertTrue(subscriber.error instanceof IllegalArgumentException);
+        Assert.assertTrue(subscriber.items.isEmpty());
+    }
+
+    @Test
+    public void testReactiveStreamsPublisher() {
+        Publisher<TVertex> publisher = framedGraph.traverse(input -> input.V()).publisher(TVertex.class, Runnable::run);
+        RecordingSubscriber<TVertex> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        Assert.assertEquals(5, subscriber.items.size());
+        Assert.assertTrue(subscriber.completed);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullSubscriber() {
+        framedGraph.traverse(input -> input.V()).publisher(TVertex.class, Runnable::run).subscribe(null);
+    }
+
+    @Test
+    public void testSingleSubscriber() {
+        FramePublisher<TVertex> publisher = framedGraph.traverse(input -> input.V()).publisher(TVertex.class, Runnable::run);
+        publisher.subscribe(new RecordingSubscriber<>());
+        RecordingSubscriber<TVertex> second = new RecordingSubscriber<>();
+        publisher.subscribe(second);
+        Assert.assertTrue(second.error instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testExecutor() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            RecordingSubscriber<TVertex> subscriber = new RecordingSubscriber<>();
+            framedGraph.traverse(input -> input.V()).publisher(TVertex.class, executor).subscribe(subscriber);
+            subscriber.subscription.request(Long.MAX_VALUE);
+            Assert.assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+            Assert.assertEquals(5, subscriber.items.size());
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    private static final class RecordingSubscriber<T> implements Subscriber<T> {
+        private final List<T> items = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch done = new CountDownLatch(1);
+        private Subscription subscription;
+        private volatile Throwable error;
+        private volatile boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            done.countDown();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FrameSpliteratorTest {
+
+    @Test
+    public void testSplitBatches() {
+        Graph graph = TinkerGraph.open();
+        List<Element> elements = new ArrayList<>();
+        for (int i = 0; i < 100; i++)
+            elements.add(graph.addVertex());
+
+        FrameSpliterator<Object> frames = new FrameSpliterator<>(elements.iterator(), Element::id, 10);
+        Spliterator<Object> first = frames.trySplit();
+        Assert.assertEquals(10, first.estimateSize());
+        Assert.assertEquals(20, frames.trySplit().estimateSize());
+
+        List<Object> ids = new ArrayList<>();
+        first.forEachRemaining(ids::add);
+        Assert.assertEquals(elements.get(0).id(), ids.get(0));
+        Assert.assertEquals(10, ids.size());
+
+        Assert.assertTrue(frames.tryAdvance(ids::add));
+        Assert.assertEquals(elements.get(30).id(), ids.get(10));
+        frames.forEachRemaining(ids::add);
+        Assert.assertEquals(80, ids.size());
+        Assert.assertNull(frames.trySplit());
+        Assert.assertFalse(frames.tryAdvance(ids::add));
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testInvalidBatchSize() {
+        new FrameSpliterator<>(new ArrayList<Element>().iterator(), Element::id, 0);
+    }
+}
@@ -70,6 +70,18 @@ public class FramedEdgeTest {
         Assert.assertEquals(p1, person);
     }
 
+    @Test
+    public void testGetInVertex() {
+        Assert.assertEquals(p2, e1.getInVertex(Person.class));
+        Assert.assertEquals(p2, e1.getInVertexExplicit(Person.class));
+    }
+
+    @Test
+    public void testGetOutVertex() {
+        Assert.assertEquals(p1, e1.getOutVertex(Person.class));
+        Assert.assertEquals("Bryn", e1.getOutVertexExplicit(Person.class).getName());
+    }
+
     @Test
     public void testBothV() {
         final Person person = e1.traverse(
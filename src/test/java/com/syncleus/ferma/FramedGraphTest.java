@@ -15,19 +15,31 @@
  */
 package com.syncleus.ferma;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import com.google.common.collect.Lists;
+import com.syncleus.ferma.framefactories.DefaultFrameFactory;
 import com.syncleus.ferma.framefactories.FrameFactory;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.MockitoAnnotations;
 import com.syncleus.ferma.typeresolvers.PolymorphicTypeResolver;
+import com.syncleus.ferma.typeresolvers.TypeResolver;
 
 
 public class FramedGraphTest {
@@ -427,4 +439,190 @@ public class FramedGraphTest {
         Assert.assertNotNull(p);
         Assert.assertEquals("Bryn", p.getName());
     }
+
+    @Test
+    public void testUpsertFramedVertex() {
+        final Graph g = TinkerGraph.open();
+        final FramedGraph fg = new DelegatingFramedGraph(g, true, Arrays.asList(Person.class, Programmer.class));
+
+        final Person added = fg.upsertFramedVertex(Person.class, "name", "Bryn", Programmer.DEFAULT_INITIALIZER);
+        final Person found = fg.upsertFramedVertex(Person.class, "name", "Bryn", Programmer.DEFAULT_INITIALIZER);
+
+        Assert.assertEquals(Programmer.class, added.getClass());
+        Assert.assertEquals(added, found);
+        Assert.assertEquals("Bryn", found.getName());
+        Assert.assertEquals((Long) 1L, fg.getRawTraversal().V().count().next());
+    }
+
+    @Test
+    public void testUpsertFramedVertexFiltersType() {
+        final Graph g = TinkerGraph.open();
+        final FramedGraph fg = new DelegatingFramedGraph(g, true, Arrays.asList(Person.class, Programmer.class));
+
+        final Person person = fg.upsertFramedVertex(Person.class, "name", "Bryn", Person.DEFAULT_INITIALIZER);
+        final Programmer programmer = fg.upsertFramedVertex(Programmer.class, "name", "Bryn", Programmer.DEFAULT_INITIALIZER);
+
+        Assert.assertNotEquals(person, programmer);
+        Assert.assertEquals(programmer, fg.upsertFramedVertex(Programmer.class, "name", "Bryn", Programmer.DEFAULT_INITIALIZER));
+        Assert.assertEquals((Long) 2L, fg.getRawTraversal().V().count().next());
+    }
+
+    @Test
+    public void testUpsertFramedVertexExplicit() {
+        final Graph g = TinkerGraph.open();
+        final FramedGraph fg = new DelegatingFramedGraph(g, true, false);
+
+        final Person added = fg.upsertFramedVertexExplicit(Person.class, "name", "Julia", Programmer.DEFAULT_INITIALIZER);
+        final Person found = fg.upsertFramedVertexExplicit(Person.class, "name", "Julia", Programmer.DEFAULT_INITIALIZER);
+
+        Assert.assertEquals(added.getElement(), found.getElement());
+        Assert.assertEquals(Person.class, found.getClass());
+        Assert.assertFalse(found.getElement().property(PolymorphicTypeResolver.TYPE_RESOLUTION_KEY).isPresent());
+        Assert.assertEquals((Long) 1L, fg.getRawTraversal().V().count().next());
+    }
+
+    @Test
+    public void testUpsertFramedVertexLocked() throws Exception {
+        final Graph g = TinkerGraph.open();
+        final DelegatingFramedGraph<Graph> fg = new DelegatingFramedGraph<>(g, true, Arrays.asList(Person.class, Programmer.class));
+        fg.setUpsertLockStripes(16);
+        Assert.assertEquals(16, fg.getUpsertLockStripes());
+
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<Person>> upserts = new ArrayList<>();
+            for (int i = 0; i < 32; i++)
+                upserts.add(executor.submit(() -> {
+                    start.await();
+                    return fg.upsertFramedVertex(Person.class, "name", "Bryn", Person.DEFAULT_INITIALIZER);
+                }));
+            start.countDown();
+            for (final Future<Person> upsert : upserts)
+                Assert.assertEquals("Bryn", upsert.get().getName());
+        }
+        finally {
+            executor.shutdown();
+        }
+
+        Assert.assertEquals((Long) 1L, fg.getRawTraversal().V().count().next());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUpsertLockStripesNegative() {
+        new DelegatingFramedGraph<>(TinkerGraph.open()).setUpsertLockStripes(-1);
+    }
+
+    @Test
+    public void testUpsertFramedVertexInitializerSetsKey() {
+        final Graph g = TinkerGraph.open();
+        final FramedGraph fg = new DelegatingFramedGraph(g, true, false);
+
+        try {
+            fg.upsertFramedVertex(Person.class, "name", "Bryn", new GenericClassInitializer<>(Person.class, Collections.singletonMap("name", "Julia")));
+            Assert.fail("an initializer setting the key to another value was accepted");
+        }
+        catch (final IllegalArgumentException expected) {
+            Assert.assertEquals((Long) 0L, fg.getRawTraversal().V().count().next());
+        }
+
+        final GenericClassInitializer<Person> sameName = new GenericClassInitializer<>(Person.class, Collections.singletonMap("name", "Bryn"));
+        final Person added = fg.upsertFramedVertexExplicit(Person.class, "name", "Bryn", sameName);
+        Assert.assertEquals(added.getElement(), fg.upsertFramedVertexExplicit(Person.class, "name", "Bryn", sameName).getElement());
+        Assert.assertEquals((Long) 1L, fg.getRawTraversal().V().count().next());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUpsertFramedVertexNullValue() {
+        new DelegatingFramedGraph<>(TinkerGraph.open()).upsertFramedVertex(Person.class, "name", null, Person.DEFAULT_INITIALIZER);
+    }
+
+    @Test
+    public void testAddFramedVertexSingleWrite() {
+        final Graph tinkerGraph = TinkerGraph.open();
+        final List<Object[]> addVertexCalls = new ArrayList<>();
+        final Graph g = (Graph) Proxy.newProxyInstance(Graph.class.getClassLoader(), new Class<?>[] {Graph.class}, (proxy, method, args) -> {
+            if (method.getName().equals("addVertex"))
+                addVertexCalls.add((Object[]) args[0]);
+            try {
+                return method.invoke(tinkerGraph, args);
+            }
+            catch (final InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+        final FramedGraph fg = new DelegatingFramedGraph(g, true, false);
+
+        final Person bryn = fg.addFramedVertex(new GenericClassInitializer<>(Person.class, Collections.singletonMap("name", "Bryn")), "age", 30);
+
+        Assert.assertEquals(1, addVertexCalls.size());
+        Assert.assertEquals(Arrays.asList("age", 30, PolymorphicTypeResolver.TYPE_RESOLUTION_KEY, Person.class.getName(), "name", "Bryn"), Arrays.asList(addVertexCalls.get(0)));
+        Assert.assertEquals("Bryn", bryn.getName());
+        Assert.assertEquals(Person.class, fg.getTypeResolver().resolve(bryn.getElement()));
+    }
+
+    @Test
+    public void testAddFramedVertexNotInitializedAgain() {
+        final List<String> calls = new ArrayList<>();
+        final TypeResolver polymorphic = new PolymorphicTypeResolver(new ReflectionCache());
+        final TypeResolver resolver = (TypeResolver) Proxy.newProxyInstance(TypeResolver.class.getClassLoader(), new Class<?>[] {TypeResolver.class}, (proxy, method, args) -> {
+            calls.add(method.getName());
+            try {
+                return method.invoke(polymorphic, args);
+            }
+            catch (final InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+        final FramedGraph fg = new DelegatingFramedGraph<>(TinkerGraph.open(), new DefaultFrameFactory(), resolver);
+
+        final Person bryn = fg.addFramedVertex(new GenericClassInitializer<>(Person.class, Collections.singletonMap("name", "Bryn")));
+
+        Assert.assertFalse(calls.contains("init"));
+        Assert.assertFalse(calls.contains("resolve"));
+        Assert.assertEquals("Bryn", bryn.getName());
+        Assert.assertEquals(Person.class.getName(), bryn.getProperty(PolymorphicTypeResolver.TYPE_RESOLUTION_KEY));
+    }
+
+    @Test
+    public void testAddFramedVertexInitializerSubclass() {
+        final Graph g = TinkerGraph.open();
+        final FramedGraph fg = new DelegatingFramedGraph(g, true, false);
+        final List<Person> initialized = new ArrayList<>();
+
+        final Person bryn = fg.addFramedVertex(new GenericClassInitializer<Person>(Person.class, Collections.singletonMap("name", "Bryn")) {
+            @Override
+            public void initalize(final Person frame) {
+                super.initalize(frame);
+                initialized.add(frame);
+            }
+        });
+
+        Assert.assertEquals(Collections.singletonList(bryn), initialized);
+        Assert.assertEquals("Bryn", bryn.getName());
+    }
+
+    @Test
+    public void testAddFramedVertexInitialPropertiesReplaceKeyValues() {
+        final Graph g = TinkerGraph.open();
+        final FramedGraph fg = new DelegatingFramedGraph(g, true, false);
+
+        final Person bryn = fg.addFramedVertex(new GenericClassInitializer<>(Person.class, Collections.singletonMap("name", "Bryn")), "name", "Julia");
+
+        Assert.assertEquals("Bryn", bryn.getName());
+        Assert.assertEquals(1, IteratorUtils.count(bryn.getElement().properties("name")));
+    }
+
+    @Test
+    public void testAddFramedEdgeSingleWrite() {
+        final Graph g = TinkerGraph.open();
+        final FramedGraph fg = new DelegatingFramedGraph(g, true, false);
+        final Person bryn = fg.addFramedVertex(Person.class);
+        final Person julia = fg.addFramedVertex(Person.class);
+
+        final Knows knows = fg.addFramedEdge(bryn, julia, "knows", new GenericClassInitializer<>(Knows.class, Collections.singletonMap("years", 15)));
+
+        Assert.assertEquals(15, knows.getYears());
+        Assert.assertEquals(Knows.class.getName(), knows.getProperty(PolymorphicTypeResolver.TYPE_RESOLUTION_KEY));
+    }
 }
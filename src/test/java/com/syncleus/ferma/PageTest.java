@@ -0,0 +1,47 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import java.util.UUID;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PageTest {
+
+    @Test
+    public void testCursorRoundTrip() {
+        Assert.assertEquals(42L, Page.decodeCursor(Page.encodeCursor(42L)));
+        Assert.assertEquals(42, Page.decodeCursor(Page.encodeCursor(42)));
+        Assert.assertEquals("a/b c", Page.decodeCursor(Page.encodeCursor("a/b c")));
+        UUID id = UUID.randomUUID();
+        Assert.assertEquals(id, Page.decodeCursor(Page.encodeCursor(id)));
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testInvalidCursor() {
+        Page.decodeCursor("not a cursor!");
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testUnknownCursorType() {
+        Page.decodeCursor("WDQy");
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testUnsupportedId() {
+        Page.encodeCursor(new Object());
+    }
+}
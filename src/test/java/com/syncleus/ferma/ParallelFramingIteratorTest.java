@@ -0,0 +1,117 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParallelFramingIteratorTest {
+
+    private DelegatingFramedGraph<TinkerGraph> framedGraph;
+    private List<Person> people;
+
+    @Before
+    public void setUp() {
+        framedGraph = new DelegatingFramedGraph<>(TinkerGraph.open(), true, Arrays.asList(Person.class, Programmer.class));
+        people = new ArrayList<>();
+        for (int i = 0; i < 1000; i++)
+            people.add(i % 2 == 0 ? framedGraph.addFramedVertex(Person.class) : framedGraph.addFramedVertex(Programmer.class));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        framedGraph.close();
+    }
+
+    @Test
+    public void testOrdered() {
+        Iterator<? extends Person> frames = framedGraph.frameParallel(framedGraph.getRawTraversal().V(), Person.class, 4, true);
+        List<Person> framed = new ArrayList<>();
+        frames.forEachRemaining(framed::add);
+        Assert.assertEquals(people, framed);
+        Assert.assertTrue(framed.get(1) instanceof Programmer);
+    }
+
+    @Test
+    public void testUnordered() {
+        Iterator<? extends Person> frames = framedGraph.frameParallelExplicit(framedGraph.getRawTraversal().V(), Person.class, 4, false);
+        List<Person> framed = new ArrayList<>();
+        frames.forEachRemaining(framed::add);
+        Assert.assertEquals(people.size(), framed.size());
+        Assert.assertEquals(people.stream().map(Person::getId).collect(Collectors.toSet()), framed.stream().map(Person::getId).collect(Collectors.toSet()));
+        Assert.assertFalse(framed.get(1) instanceof Programmer);
+    }
+
+    @Test
+    public void testBoundedLookahead() {
+        AtomicInteger framedCount = new AtomicInteger();
+        Iterator<Object> frames = new ParallelFramingIterator<>(framedGraph.getRawTraversal().V(), element -> framedCount.incrementAndGet(), Runnable::run, 3, 10, true);
+        Assert.assertTrue(frames.hasNext());
+        Assert.assertEquals(30, framedCount.get());
+        for (int i = 0; i < 10; i++)
+            frames.next();
+        Assert.assertEquals(30, framedCount.get());
+        frames.next();
+        Assert.assertEquals(40, framedCount.get());
+    }
+
+    @Test (expected = IllegalStateException.class)
+    public void testFramingFailure() {
+        Iterator<Object> frames = new ParallelFramingIterator<>(framedGraph.getRawTraversal().V(), element -> {
+            throw new IllegalStateException();
+        }, ForkJoinPool.commonPool(), 2, 10, false);
+        frames.next();
+    }
+
+    @Test
+    public void testExecutor() {
+        AtomicInteger submitted = new AtomicInteger();
+        Iterator<? extends Person> frames = framedGraph.frameParallel(framedGraph.getRawTraversal().V(), Person.class, 2, true, task -> {
+            submitted.incrementAndGet();
+            task.run();
+        });
+        List<Person> framed = new ArrayList<>();
+        frames.forEachRemaining(framed::add);
+        Assert.assertEquals(people, framed);
+        Assert.assertEquals((people.size() + ParallelFramingIterator.DEFAULT_BATCH_SIZE - 1) / ParallelFramingIterator.DEFAULT_BATCH_SIZE, submitted.get());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testNullExecutor() {
+        framedGraph.frameParallelExplicit(framedGraph.getRawTraversal().V(), Person.class, 2, true, null);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testInvalidParallelism() {
+        framedGraph.frameParallel(framedGraph.getRawTraversal().V(), Person.class, 0, true);
+    }
+
+    @Test
+    public void testEmpty() {
+        Assert.assertFalse(framedGraph.frameParallel(new ArrayList<Element>().iterator(), Person.class, 2, true).hasNext());
+    }
+}
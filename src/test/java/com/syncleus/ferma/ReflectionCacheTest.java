@@ -15,9 +15,13 @@
  */
 package com.syncleus.ferma;
 
+import com.syncleus.ferma.annotations.GraphElement;
+import com.syncleus.ferma.graphtypes.filesystem.DirectoryVertex;
+import com.syncleus.ferma.graphtypes.filesystem.FileVertex;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
@@ -46,6 +50,78 @@ public class ReflectionCacheTest {
         }
     }
     
+    @Test
+    public void testGetTypeNames() {
+        Assert.assertTrue(new ReflectionCache().getTypeNames().isEmpty());
+
+        List<Class<?>> lists = Arrays.asList(List.class, ArrayList.class, LinkedList.class);
+        Set<? extends String> typeNames = new ReflectionCache(lists).getTypeNames();
+        Assert.assertEquals(lists.size(), typeNames.size());
+        for (Class<?> list : lists) {
+            Assert.assertTrue(typeNames.contains(list.getName()));
+        }
+    }
+    
+    @Test
+    public void testAddTypes() {
+        ReflectionCache cache = new ReflectionCache(Collections.singletonList(List.class));
+        Assert.assertEquals(Collections.singleton(List.class.getName()), cache.getSubTypeNames(List.class));
+        Assert.assertEquals(Collections.singleton(Collection.class.getName()), cache.getSubTypeNames(Collection.class));
+
+        cache.addTypes(Arrays.asList(ArrayList.class, Collection.class));
+        Set<? extends String> listSubTypes = cache.getSubTypeNames(List.class);
+        Assert.assertEquals(2, listSubTypes.size());
+        Assert.assertTrue(listSubTypes.contains(ArrayList.class.getName()));
+        Assert.assertFalse(listSubTypes.contains(Collection.class.getName()));
+        Assert.assertEquals(3, cache.getSubTypeNames(Collection.class).size());
+        Assert.assertEquals(3, cache.getTypeNames().size());
+    }
+
+    @Test
+    public void testInterfaceSubTypeOfObject() {
+        ReflectionCache cache = new ReflectionCache(Arrays.asList(Object.class, List.class));
+        Assert.assertEquals(2, cache.getSubTypeNames(Object.class).size());
+    }
+
+    @Test
+    public void testModelIndexMatchesScan() {
+        for (String modelPackage : Arrays.asList("com.syncleus.ferma.graphtypes", "com.syncleus.ferma")) {
+            ReflectionCache indexed = new ReflectionCache(modelPackage);
+            ReflectionCache scanned = new ReflectionCache(modelPackage, false);
+            Assert.assertFalse(indexed.getTypeNames().isEmpty());
+            Assert.assertEquals(scanned.getTypeNames(), indexed.getTypeNames());
+            for (String typeName : scanned.getTypeNames())
+                Assert.assertEquals(scanned.getSubTypeNames(typeName), indexed.getSubTypeNames(typeName));
+            Assert.assertEquals(scanned.getSubTypeNames(Object.class), indexed.getSubTypeNames(Object.class));
+            Assert.assertEquals(scanned.getTypesAnnotatedWith(GraphElement.class), indexed.getTypesAnnotatedWith(GraphElement.class));
+        }
+    }
+
+    @Test
+    public void testModelIndexSkipsScan() {
+        ReflectionCache indexed = new ReflectionCache("com.syncleus.ferma.graphtypes");
+        Assert.assertTrue(indexed.getStore().keySet().isEmpty());
+        Set<Class<? extends VertexFrame>> vertexTypes = indexed.getSubTypesOf(VertexFrame.class);
+        Assert.assertTrue(vertexTypes.contains(DirectoryVertex.class));
+        Assert.assertFalse(vertexTypes.contains(VertexFrame.class));
+        Assert.assertEquals(new ReflectionCache("com.syncleus.ferma.graphtypes", false).getSubTypesOf(FileVertex.class), indexed.getSubTypesOf(FileVertex.class));
+    }
+
+    @Test
+    public void testModelIndexScansUnindexedEntries() {
+        // the main classes hold part of the package but were compiled without the index
+        ReflectionCache indexed = new ReflectionCache("com.syncleus.ferma");
+        Assert.assertFalse(indexed.getStore().keySet().isEmpty());
+        Assert.assertTrue(indexed.getSubTypesOf(VertexFrame.class).contains(TVertex.class));
+        Assert.assertTrue(indexed.getSubTypesOf(VertexFrame.class).contains(Person.class));
+    }
+
+    @Test
+    public void testModelIndexMissingPackage() {
+        ReflectionCache cache = new ReflectionCache("org.foo.goo");
+        Assert.assertTrue(cache.getTypeNames().isEmpty());
+    }
+    
     @Test
     public void testForName() {
         ReflectionCache cache = new ReflectionCache();
@@ -0,0 +1,166 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import org.apache.tinkerpop.gremlin.process.remote.RemoteConnection;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class TraversalTemplateTest {
+
+    private final TraversalTemplate<Vertex> knows = new TraversalTemplate<>(input -> input.out("knows"));
+    private TinkerGraph graph;
+    private Vertex julia;
+    private Vertex jeff;
+    private Vertex nobody;
+
+    @Before
+    public void setUp() {
+        graph = TinkerGraph.open();
+        julia = graph.addVertex("name", "Julia");
+        jeff = graph.addVertex("name", "Jeff");
+        nobody = graph.addVertex("name", "Nobody");
+        julia.addEdge("knows", jeff);
+        julia.addEdge("knows", nobody);
+        jeff.addEdge("knows", julia);
+    }
+
+    @After
+    public void tearDown() {
+        graph.close();
+    }
+
+    @Test
+    public void testStartFromEachVertex() {
+        Assert.assertEquals(new HashSet<>(Arrays.asList(jeff, nobody)), new HashSet<>(knows.start(graph.traversal(), julia).toList()));
+        Assert.assertEquals(Arrays.asList(julia), knows.start(graph.traversal(), jeff).toList());
+        Assert.assertFalse(knows.start(graph.traversal(), nobody).hasNext());
+    }
+
+    @Test
+    public void testStrategiesAppliedOnce() {
+        final GraphTraversal<Vertex, Vertex> traversal = knows.start(graph.traversal(), julia);
+        Assert.assertTrue(traversal.asAdmin().isLocked());
+        Assert.assertEquals(2, traversal.toList().size());
+    }
+
+    @Test
+    public void testCount() {
+        final TraversalTemplate<Long> count = new TraversalTemplate<>(input -> input.out("knows").count());
+        Assert.assertEquals(Long.valueOf(2), count.start(graph.traversal(), julia).next());
+        Assert.assertEquals(Long.valueOf(0), count.start(graph.traversal(), nobody).next());
+    }
+
+    @Test
+    public void testSharedBetweenGraphs() {
+        knows.start(graph.traversal(), julia).toList();
+
+        final TinkerGraph other = TinkerGraph.open();
+        try {
+            final Vertex first = other.addVertex();
+            final Vertex second = other.addVertex();
+            first.addEdge("knows", second);
+            Assert.assertEquals(Arrays.asList(second), knows.start(other.traversal(), first).toList());
+        }
+        finally {
+            other.close();
+        }
+    }
+
+    @Test
+    public void testStrategiesAppliedPerGraph() {
+        final GraphRecordingStrategy recording = new GraphRecordingStrategy();
+        final TinkerGraph other = TinkerGraph.open();
+        try {
+            final Vertex first = other.addVertex();
+            first.addEdge("knows", other.addVertex());
+            final GraphTraversalSource source = graph.traversal().withStrategies(recording);
+            knows.start(source, julia).toList();
+            knows.start(source, jeff).toList();
+            Assert.assertEquals(1, knows.start(other.traversal().withStrategies(recording), first).toList().size());
+            Assert.assertEquals(Arrays.asList(graph, other), recording.graphs);
+        }
+        finally {
+            other.close();
+        }
+    }
+
+    @Test
+    public void testGraphCollectable() throws InterruptedException {
+        final TraversalTemplate<Vertex> template = new TraversalTemplate<>(input -> input.out("knows"));
+        TinkerGraph first = TinkerGraph.open();
+        Vertex firstVertex = first.addVertex();
+        firstVertex.addEdge("knows", first.addVertex());
+        Assert.assertEquals(1, template.start(first.traversal(), firstVertex).toList().size());
+
+        final WeakReference<TinkerGraph> collected = new WeakReference<>(first);
+        first = null;
+        firstVertex = null;
+        for (int attempt = 0; attempt < 50 && collected.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assert.assertNull(collected.get());
+        Assert.assertEquals(new HashSet<>(Arrays.asList(jeff, nobody)), new HashSet<>(template.start(graph.traversal(), julia).toList()));
+    }
+
+    @Test
+    public void testRemoteSourceStartsFromVertex() {
+        final GraphTraversalSource remote = graph.traversal().withRemote(Mockito.mock(RemoteConnection.class));
+        final GraphTraversal<Vertex, Vertex> traversal = knows.start(remote, julia);
+
+        final List<Bytecode.Instruction> steps = traversal.asAdmin().getBytecode().getStepInstructions();
+        Assert.assertEquals("V", steps.get(0).getOperator());
+        Assert.assertEquals(julia.id(), steps.get(0).getArguments()[0]);
+        Assert.assertEquals("out", steps.get(1).getOperator());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullDefinition() {
+        new TraversalTemplate<>(null);
+    }
+
+    /**
+     * Records the graph of every traversal it is applied to.
+     */
+    private static final class GraphRecordingStrategy extends AbstractTraversalStrategy<TraversalStrategy.DecorationStrategy> implements TraversalStrategy.DecorationStrategy {
+        private final List<Graph> graphs = new ArrayList<>();
+
+        @Override
+        public void apply(final Traversal.Admin<?, ?> traversal) {
+            if (traversal.getParent() instanceof EmptyStep)
+                this.graphs.add(traversal.getGraph().orElse(null));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import org.apache.tinkerpop.gremlin.process.remote.RemoteConnection;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class TraversalsTest {
+
+    private TinkerGraph graph;
+    private GraphTraversalSource remote;
+    private FramedGraph remoteFramedGraph;
+    private Vertex julia;
+    private Edge knows;
+
+    @Before
+    public void setUp() {
+        graph = TinkerGraph.open();
+        julia = graph.addVertex();
+        knows = julia.addEdge("knows", graph.addVertex());
+        remote = graph.traversal().withRemote(Mockito.mock(RemoteConnection.class));
+        // a graph whose traversal source sends its traversals to a remote connection
+        final Graph remoteGraph = (Graph) Proxy.newProxyInstance(Graph.class.getClassLoader(), new Class<?>[] {Graph.class},
+                (proxy, method, args) -> "traversal".equals(method.getName()) && method.getParameterCount() == 0 ? remote : method.invoke(graph, args));
+        remoteFramedGraph = new DelegatingFramedGraph<>(remoteGraph);
+    }
+
+    @Test
+    public void testEmbeddedSourceInjectsElement() {
+        Assert.assertFalse(Traversals.isRemote(graph.traversal()));
+        Assert.assertEquals("inject", stepsOf(Traversals.startFrom(graph.traversal(), julia)).get(0).getOperator());
+        Assert.assertEquals("inject", stepsOf(Traversals.startFrom(graph.traversal(), knows)).get(0).getOperator());
+        Assert.assertEquals(julia, Traversals.startFrom(graph.traversal(), julia).next());
+    }
+
+    @Test
+    public void testRemoteSourceStartsFromId() {
+        Assert.assertTrue(Traversals.isRemote(remote));
+        assertStartsFrom("V", julia, Traversals.startFrom(remote, julia));
+        assertStartsFrom("E", knows, Traversals.startFrom(remote, knows));
+    }
+
+    @Test
+    public void testRemoteVertexFrameTraversal() {
+        final TVertex frame = remoteFramedGraph.frameElementExplicit(julia, TVertex.class);
+        assertStartsFrom("V", julia, frame.getRawTraversal().out("knows"));
+        final Traversable<?, ?> traversable = frame.traverse(input -> input.out("knows"));
+        final List<Bytecode.Instruction> steps = assertStartsFrom("V", julia, traversable.getRawTraversal());
+        Assert.assertEquals("out", steps.get(1).getOperator());
+    }
+
+    @Test
+    public void testRemoteEdgeFrameTraversal() {
+        final TEdge frame = remoteFramedGraph.frameElementExplicit(knows, TEdge.class);
+        assertStartsFrom("E", knows, frame.getRawTraversal().inV());
+        final Traversable<?, ?> traversable = frame.traverse(input -> input.inV());
+        final List<Bytecode.Instruction> steps = assertStartsFrom("E", knows, traversable.getRawTraversal());
+        Assert.assertEquals("inV", steps.get(1).getOperator());
+    }
+
+    private static List<Bytecode.Instruction> assertStartsFrom(final String operator, final Element start, final Traversal<?, ?> traversal) {
+        final List<Bytecode.Instruction> steps = stepsOf(traversal);
+        Assert.assertEquals(operator, steps.get(0).getOperator());
+        Assert.assertEquals(start.id(), steps.get(0).getArguments()[0]);
+        return steps;
+    }
+
+    private static List<Bytecode.Instruction> stepsOf(final Traversal<?, ?> traversal) {
+        return traversal.asAdmin().getBytecode().getStepInstructions();
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TypeHierarchyTest {
+
+    @Test
+    public void testSubTypeAddedBeforeSuperType() {
+        TypeHierarchy hierarchy = new TypeHierarchy();
+        hierarchy.add("Child", Arrays.asList("Parent", "Root"));
+        Assert.assertEquals(Collections.singleton("Parent"), hierarchy.getSubTypeNames("Parent"));
+
+        hierarchy.add("Parent", Collections.singleton("Root"));
+        hierarchy.add("Root", Collections.emptySet());
+        Assert.assertEquals(new HashSet<>(Arrays.asList("Parent", "Child")), hierarchy.getSubTypeNames("Parent"));
+        Assert.assertEquals(new HashSet<>(Arrays.asList("Root", "Parent", "Child")), hierarchy.getSubTypeNames("Root"));
+        Assert.assertEquals(Collections.singleton("Child"), hierarchy.getSubTypeNames("Child"));
+    }
+
+    @Test
+    public void testSubTypeNamesAreSnapshots() {
+        TypeHierarchy hierarchy = new TypeHierarchy();
+        hierarchy.add("Root", Collections.emptySet());
+        Set<String> subTypes = hierarchy.getSubTypeNames("Root");
+        hierarchy.add("Child", Collections.singleton("Root"));
+        Assert.assertEquals(1, subTypes.size());
+        Assert.assertFalse(subTypes.contains("Child"));
+        Assert.assertFalse(subTypes.contains(null));
+        Assert.assertTrue(hierarchy.getSubTypeNames("Root").contains("Child"));
+    }
+
+    @Test
+    public void testUnknownType() {
+        TypeHierarchy hierarchy = new TypeHierarchy();
+        Assert.assertEquals(Collections.singleton("Missing"), hierarchy.getSubTypeNames("Missing"));
+        Assert.assertTrue(hierarchy.getTypeNames().isEmpty());
+    }
+}
@@ -15,12 +15,15 @@
  */
 package com.syncleus.ferma.annotations;
 
+import com.syncleus.ferma.EdgeFrame;
 import com.syncleus.ferma.VertexFrame;
 import com.syncleus.ferma.graphtypes.network.NetworkConnectionEdge;
+import org.junit.Assert;
 import org.junit.Test;
 import com.syncleus.ferma.graphtypes.network.ComputerVertex;
 import com.syncleus.ferma.graphtypes.network.RouterVertex;
 import java.util.Arrays;
+import java.util.Iterator;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 
@@ -211,5 +214,38 @@ public class AdjacencyHandlerWithNetworkGraphTest extends NetworkGraphTestHelper
         assertOneWayExclusiveConnection(dev4, dev1);
         assertNoConnection(dev1, dev5);
     }
-    
+
+    @Test
+    public void testCountAndHas() {
+        Assert.assertEquals(dev1OutConnections.size(), dev1.countOutConnections());
+        Assert.assertTrue(dev1.hasInConnections());
+        Assert.assertEquals(dev1OutConnections.size(), dev1.countOutConnectionEdges());
+        Assert.assertTrue(dev1.hasOutConnectionEdges());
+
+        ComputerVertex newDev = graph.addFramedVertex(ComputerVertex.DEFAULT_INITIALIZER);
+        Assert.assertEquals(0, newDev.countOutConnections());
+        Assert.assertFalse(newDev.hasInConnections());
+        Assert.assertFalse(newDev.hasOutConnectionEdges());
+    }
+
+    @Test
+    public void testGetWithLimit() {
+        Assert.assertEquals(2, dev1.getOutConnections(2).size());
+        Assert.assertEquals(dev1OutConnections.size(), dev1.getOutConnections(10).size());
+        Assert.assertTrue(dev1.getOutConnections(ComputerVertex.class, 5).isEmpty());
+        dev1.addAndConnectOut(graph.addFramedVertex(ComputerVertex.DEFAULT_INITIALIZER));
+        dev1.addAndConnectOut(graph.addFramedVertex(ComputerVertex.DEFAULT_INITIALIZER));
+        Assert.assertEquals(1, dev1.getOutConnections(ComputerVertex.class, 1).size());
+        Assert.assertTrue(dev1.getOutConnections(0).isEmpty());
+
+        Iterator<? extends EdgeFrame> edges = dev1.getOutConnectionEdges(1);
+        Assert.assertTrue(edges.hasNext());
+        edges.next();
+        Assert.assertFalse(edges.hasNext());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetWithNegativeLimit() {
+        dev1.getOutConnections(-1);
+    }
 }
@@ -783,6 +783,49 @@ public class AdjacencyMethodHandlerTest {
         final BadGetSonsArgumentInterface father = gods.iterator().next();
     }
 
+    @Test
+    public void testCountAndHasSons() {
+        GodGraphLoader.load(godGraph);
+
+        final FramedGraph framedGraph = new DelegatingFramedGraph(godGraph, TEST_TYPES);
+        final God saturn = framedGraph.traverse(input -> input.V().has("name", "saturn")).next(God.class);
+        final God jupiter = framedGraph.traverse(input -> input.V().has("name", "jupiter")).next(God.class);
+        final God hercules = framedGraph.traverse(input -> input.V().has("name", "hercules")).next(God.class);
+
+        Assert.assertEquals(3, saturn.countSons());
+        Assert.assertEquals(0, saturn.countSons(GodExtended.class));
+        Assert.assertEquals(1, jupiter.countSons(GodExtended.class));
+        Assert.assertTrue(jupiter.hasSons());
+        Assert.assertTrue(jupiter.hasSons(GodExtended.class));
+        Assert.assertFalse(saturn.hasSons(GodExtended.class));
+        Assert.assertFalse(hercules.hasSons());
+    }
+
+    @Test
+    public void testGetSonsWithLimit() {
+        GodGraphLoader.load(godGraph);
+
+        final FramedGraph framedGraph = new DelegatingFramedGraph(godGraph, TEST_TYPES);
+        final God saturn = framedGraph.traverse(input -> input.V().has("name", "saturn")).next(God.class);
+        final God jupiter = framedGraph.traverse(input -> input.V().has("name", "jupiter")).next(God.class);
+
+        Assert.assertEquals(2, saturn.getSonsList(2).size());
+        Assert.assertEquals(3, saturn.getSonsList(5).size());
+        Assert.assertFalse(saturn.getSons(GodExtended.class, 5).hasNext());
+
+        final Iterator<? extends GodExtended> sons = jupiter.getSons(GodExtended.class, 1);
+        Assert.assertEquals("hercules", sons.next().getName());
+        Assert.assertFalse(sons.hasNext());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetSonsWithNegativeLimit() {
+        GodGraphLoader.load(godGraph);
+
+        final FramedGraph framedGraph = new DelegatingFramedGraph(godGraph, TEST_TYPES);
+        framedGraph.traverse(input -> input.V().has("name", "saturn")).next(God.class).getSonsList(-1);
+    }
+
     public interface BadSonMethodName extends VertexFrame {
 
         @Adjacency(label = "Father", direction = Direction.IN)
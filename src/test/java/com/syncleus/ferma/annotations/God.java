@@ -143,6 +143,9 @@ public interface God extends VertexFrame {
     @Incidence(label = "father", direction = Direction.IN)
     void removeSonEdge(FatherEdge edge);
 
+    @Incidence(label = "father", direction = Direction.IN, operation = Incidence.Operation.ADD)
+    EdgeFrame addSonEdge(God son);
+
     @Adjacency(label = "father", direction = Direction.IN)
     void removeEverySon();
 
@@ -154,4 +157,34 @@ public interface God extends VertexFrame {
 
     @Incidence(label = "father", direction = Direction.IN, operation = Incidence.Operation.ADD)
     void includeSonEdge(God son, ClassInitializer<? extends FatherEdge> type);
+
+    @Adjacency(label = "father", direction = Direction.IN)
+    long countSons();
+
+    @Adjacency(label = "father", direction = Direction.IN)
+    <N extends God> int countSons(Class<? extends N> type);
+
+    @Adjacency(label = "father", direction = Direction.IN)
+    boolean hasSons();
+
+    @Adjacency(label = "father", direction = Direction.IN)
+    <N extends God> Boolean hasSons(Class<? extends N> type);
+
+    @Adjacency(label = "father", direction = Direction.IN)
+    List<? extends God> getSonsList(int limit);
+
+    @Adjacency(label = "father", direction = Direction.IN)
+    <N extends God> Iterator<? extends N> getSons(Class<? extends N> type, int limit);
+
+    @Incidence(label = "father", direction = Direction.IN)
+    int countSonEdges();
+
+    @Incidence(label = "father", direction = Direction.IN)
+    boolean hasSonEdges();
+
+    @Incidence(label = "father", direction = Direction.IN)
+    Set<? extends EdgeFrame> getSonEdgesSet(int limit);
+
+    @Incidence(label = "father", direction = Direction.IN)
+    <N extends FatherEdge> List<? extends N> getSonEdgesList(Class<? extends N> type, int limit);
 }
@@ -332,4 +332,34 @@ public class IncidenceMethodHandlerTest {
         father.includeSonEdge(child, FatherEdge.DEFAULT_INITIALIZER);
         Assert.assertTrue(father.getSonEdges(FatherEdge.class).hasNext());
     }
+
+    @Test
+    public void testCountAndHasSonEdges() {
+        final TinkerGraph godGraph = TinkerGraph.open();
+        GodGraphLoader.load(godGraph);
+
+        final FramedGraph framedGraph = new DelegatingFramedGraph(godGraph, TEST_TYPES);
+        final God saturn = framedGraph.traverse(input -> input.V().has("name", "saturn")).next(God.class);
+        final God hercules = framedGraph.traverse(input -> input.V().has("name", "hercules")).next(God.class);
+
+        Assert.assertEquals(3, saturn.countSonEdges());
+        Assert.assertTrue(saturn.hasSonEdges());
+        Assert.assertEquals(0, hercules.countSonEdges());
+        Assert.assertFalse(hercules.hasSonEdges());
+    }
+
+    @Test
+    public void testGetSonEdgesWithLimit() {
+        final TinkerGraph godGraph = TinkerGraph.open();
+        GodGraphLoader.load(godGraph);
+
+        final FramedGraph framedGraph = new DelegatingFramedGraph(godGraph, TEST_TYPES);
+        final God saturn = framedGraph.traverse(input -> input.V().has("name", "saturn")).next(God.class);
+        final God jupiter = framedGraph.traverse(input -> input.V().has("name", "jupiter")).next(God.class);
+
+        Assert.assertEquals(2, saturn.getSonEdgesSet(2).size());
+        Assert.assertEquals(3, saturn.getSonEdgesList(FatherEdge.class, 3).size());
+        Assert.assertTrue(saturn.getSonEdgesList(FatherEdgeExtended.class, 3).isEmpty());
+        Assert.assertEquals(1, jupiter.getSonEdgesList(FatherEdgeExtended.class, 3).size());
+    }
 }
@@ -18,6 +18,7 @@ package com.syncleus.ferma.annotations;
 import com.syncleus.ferma.DelegatingFramedGraph;
 import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.VertexFrame;
+import com.syncleus.ferma.framefactories.annotation.PropertyMethodHandler;
 import com.syncleus.ferma.graphtypes.javaclass.JavaAccessModifier;
 import com.syncleus.ferma.graphtypes.javaclass.JavaGraphLoader;
 import com.syncleus.ferma.graphtypes.javaclass.JavaTypeVertex;
@@ -201,4 +202,20 @@ public class PropertyMethodHandlerTest {
         FramedGraph javaTypesGraph = JavaGraphLoader.INSTANCE.load();
         javaTypesGraph.addFramedVertex(UnresolvablePropertyAccessor.class);
     }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedInterceptors() throws NoSuchMethodException {
+        final Graph godGraph = TinkerGraph.open();
+        GodGraphLoader.load(godGraph);
+
+        final FramedGraph framedGraph = new DelegatingFramedGraph(godGraph, TEST_TYPES);
+        final God father = framedGraph.traverse(input -> input.V().has("name", "jupiter")).next(God.class);
+
+        Assert.assertEquals("jupiter", PropertyMethodHandler.GetPropertyInterceptor.getProperty(father, God.class.getMethod("getName")));
+        PropertyMethodHandler.SetPropertyInterceptor.setProperty(father, God.class.getMethod("setName", String.class), "joker");
+        Assert.assertEquals("joker", father.getName());
+        PropertyMethodHandler.RemovePropertyInterceptor.removeProperty(father, God.class.getMethod("removeName"));
+        Assert.assertNull(father.getName());
+    }
 }
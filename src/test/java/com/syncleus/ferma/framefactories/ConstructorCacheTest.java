@@ -0,0 +1,85 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.framefactories;
+
+import com.syncleus.ferma.AbstractVertexFrame;
+import com.syncleus.ferma.Person;
+import com.syncleus.ferma.graphtypes.javaclass.invalid.OneArgConstructorVertex;
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.function.Supplier;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Ownership;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.loading.InjectionClassLoader;
+import net.bytebuddy.implementation.MethodCall;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConstructorCacheTest {
+
+    @Test
+    public void testGetConstructor() {
+        ConstructorCache cache = new ConstructorCache();
+        Supplier<Person> constructor = cache.getConstructor(Person.class);
+        Person first = constructor.get();
+        Person second = constructor.get();
+        Assert.assertEquals(Person.class, first.getClass());
+        Assert.assertNotSame(first, second);
+        Assert.assertSame(constructor, cache.getConstructor(Person.class));
+    }
+
+    @Test
+    public void testChildClassLoaderConstructor() {
+        Class<? extends Person> childType = new ByteBuddy().subclass(Person.class).make()
+                .load(Person.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+        Person person = new ConstructorCache().getConstructor(childType).get();
+        Assert.assertEquals(childType, person.getClass());
+    }
+
+    @Test
+    public void testChildClassLoaderLookup() throws ReflectiveOperationException {
+        ByteArrayClassLoader loader = new ByteArrayClassLoader(Person.class.getClassLoader(), false, Collections.emptyMap());
+        Class<?> lookupClass = new ByteBuddy().subclass(Object.class)
+                .defineMethod("lookup", MethodHandles.Lookup.class, Visibility.PUBLIC, Ownership.STATIC)
+                .intercept(MethodCall.invoke(MethodHandles.class.getMethod("lookup")))
+                .make().load(loader, InjectionClassLoader.Strategy.INSTANCE).getLoaded();
+        Class<? extends Person> childType = new ByteBuddy().subclass(Person.class).make()
+                .load(loader, InjectionClassLoader.Strategy.INSTANCE).getLoaded();
+
+        Supplier<? extends Person> constructor = new ConstructorCache((MethodHandles.Lookup) lookupClass.getMethod("lookup").invoke(null)).getConstructor(childType);
+        Assert.assertEquals(childType, constructor.get().getClass());
+        // linked with the lambda metafactory, which defines the supplier alongside the lookup class
+        Assert.assertSame(loader, constructor.getClass().getClassLoader());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testNullLookup() {
+        new ConstructorCache(null);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testAbstractKind() {
+        new ConstructorCache().getConstructor(AbstractVertexFrame.class);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testNoDefaultConstructor() {
+        new ConstructorCache().getConstructor(OneArgConstructorVertex.class);
+    }
+}
@@ -16,24 +16,40 @@
 package com.syncleus.ferma.framefactories.annotation;
 
 import com.syncleus.ferma.DelegatingFramedGraph;
+import com.syncleus.ferma.EdgeFrame;
+import com.syncleus.ferma.FramedGraph;
+import com.syncleus.ferma.Person;
 import com.syncleus.ferma.ReflectionCache;
 import com.syncleus.ferma.TEdge;
 import com.syncleus.ferma.TVertex;
 import com.syncleus.ferma.annotations.Adjacency;
 import com.syncleus.ferma.annotations.Friend;
 import com.syncleus.ferma.annotations.God;
+import com.syncleus.ferma.annotations.GodAlternative;
+import com.syncleus.ferma.graphtypes.filesystem.FileVertex;
 import com.syncleus.ferma.graphtypes.javaclass.invalid.InvalidFrame;
 import com.syncleus.ferma.graphtypes.javaclass.invalid.OneArgConstructorVertex;
 import com.syncleus.ferma.typeresolvers.PolymorphicTypeResolver;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import net.bytebuddy.dynamic.DynamicType;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.example.frames.Moon;
 import org.junit.After;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -93,6 +109,139 @@ public class AnnotationFrameFactoryTest {
         Mockito.verify(custom, Mockito.atLeastOnce()).processMethod(Mockito.any(), Mockito.any(), Mockito.any());
     }
     
+    @Test
+    public void testGeneratedInterfaceFrame() {
+        God frame = frameFactory.create(fg.addFramedVertex().getElement(), God.class);
+        Assert.assertEquals(AbstractAnnotationFrameFactory.getImplementationName(God.class), frame.getClass().getName());
+        Assert.assertSame(frameFactory.create(fg.addFramedVertex().getElement(), God.class).getClass(), frame.getClass());
+    }
+
+    @Test
+    public void testGeneratedAbstractClassFrame() {
+        FileVertex frame = frameFactory.create(fg.addFramedVertex().getElement(), FileVertex.class);
+        Assert.assertEquals(FileVertex.class.getName() + "Impl", frame.getClass().getName());
+        Assert.assertTrue(frame instanceof CachesReflection);
+    }
+
+    @Test
+    public void testUngeneratedFrameFallsBack() {
+        Friend frame = frameFactory.create(fg.addFramedVertex().getElement(), Friend.class);
+        Assert.assertNotEquals(AbstractAnnotationFrameFactory.getImplementationName(Friend.class), frame.getClass().getName());
+        Assert.assertTrue(frame instanceof CachesReflection);
+    }
+
+    @Test
+    public void testGeneratedFrameBindsAnnotationValues() {
+        FramedGraph framedGraph = new DelegatingFramedGraph<>(fg.getBaseGraph(), frameFactory, new PolymorphicTypeResolver());
+        God frame = framedGraph.addFramedVertex(God.class);
+        ((CachesReflection) frame).setReflectionCache(null);
+        frame.setName("jupiter");
+        Assert.assertEquals("jupiter", frame.getName());
+    }
+
+    @Test
+    public void testRuntimeFrameBindsAnnotationValues() {
+        FramedGraph framedGraph = new DelegatingFramedGraph<>(fg.getBaseGraph(), frameFactory, new PolymorphicTypeResolver());
+        Friend friend = framedGraph.addFramedVertex(Friend.class);
+        Friend other = framedGraph.addFramedVertex(Friend.class);
+        ((CachesReflection) friend).setReflectionCache(null);
+        EdgeFrame knows = friend.addKnows(other);
+        Assert.assertEquals("knows", knows.getLabel());
+        Assert.assertEquals(other.getElement(), knows.getElement().inVertex());
+    }
+
+    @Test
+    public void testConcurrentFramesShareClass() throws Exception {
+        Element vertex = fg.addFramedVertex().getElement();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Class<?>>> results = new ArrayList<>();
+            for (int index = 0; index < 32; index++)
+                results.add(executor.submit(() -> frameFactory.create(vertex, Friend.class).getClass()));
+
+            Set<Class<?>> frameClasses = new HashSet<>();
+            for (Future<Class<?>> result : results)
+                frameClasses.add(result.get());
+            Assert.assertEquals(1, frameClasses.size());
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testPrewarm() {
+        AnnotationFrameFactory factory = new AnnotationFrameFactory(new ReflectionCache(Arrays.asList(God.class, Friend.class, Person.class)));
+        factory.prewarm(ForkJoinPool.commonPool());
+        Assert.assertTrue(factory.prewarm(Friend.class));
+        Assert.assertTrue(factory.prewarm(God.class));
+        Assert.assertFalse(factory.prewarm(Person.class));
+        Assert.assertEquals(AbstractAnnotationFrameFactory.getImplementationName(God.class), factory.create(fg.addFramedVertex().getElement(), God.class).getClass().getName());
+    }
+
+    @Test
+    public void testSharedClassLoading() {
+        Assert.assertEquals(FrameClassLoading.SHARED, frameFactory.getClassLoading());
+        Friend friend = frameFactory.create(fg.addFramedVertex().getElement(), Friend.class);
+        GodAlternative god = frameFactory.create(fg.addFramedVertex().getElement(), GodAlternative.class);
+        Assert.assertSame(friend.getClass().getClassLoader(), god.getClass().getClassLoader());
+        Assert.assertNotSame(Friend.class.getClassLoader(), friend.getClass().getClassLoader());
+        Assert.assertTrue(god.getClass().getName().startsWith(GodAlternative.class.getName() + AbstractAnnotationFrameFactory.FRAME_CLASS_INFIX));
+    }
+
+    @Test
+    public void testWrapperClassLoading() {
+        AnnotationFrameFactory factory = new AnnotationFrameFactory(new ReflectionCache(), FrameClassLoading.WRAPPER);
+        Friend friend = factory.create(fg.addFramedVertex().getElement(), Friend.class);
+        GodAlternative god = factory.create(fg.addFramedVertex().getElement(), GodAlternative.class);
+        Assert.assertNotSame(friend.getClass().getClassLoader(), god.getClass().getClassLoader());
+    }
+
+    @Test
+    public void testInjectionClassLoading() {
+        AnnotationFrameFactory factory = new AnnotationFrameFactory(new ReflectionCache(), FrameClassLoading.INJECTION);
+        GodAlternative god = factory.create(fg.addFramedVertex().getElement(), GodAlternative.class);
+        Assert.assertSame(GodAlternative.class.getClassLoader(), god.getClass().getClassLoader());
+        Assert.assertEquals(GodAlternative.class.getPackage().getName(), god.getClass().getPackage().getName());
+    }
+
+    @Test
+    public void testInjectionOutsideFermaPackage() {
+        AnnotationFrameFactory factory = new AnnotationFrameFactory(new ReflectionCache(), FrameClassLoading.INJECTION);
+        FramedGraph framedGraph = new DelegatingFramedGraph<>(TinkerGraph.open(), factory, new PolymorphicTypeResolver());
+        Moon moon = framedGraph.addFramedVertex(Moon.class);
+        moon.setName("phobos");
+        Moon mars = framedGraph.addFramedVertex(Moon.class);
+        moon.addOrbits(mars);
+        Assert.assertEquals("phobos", moon.getName());
+        Assert.assertEquals(mars.getElement(), moon.getOrbits().get(0).getElement());
+        Assert.assertSame(Moon.class.getClassLoader(), moon.getClass().getClassLoader());
+        Assert.assertEquals(Moon.class.getPackage().getName(), moon.getClass().getPackage().getName());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testNullClassLoading() {
+        new AnnotationFrameFactory(new ReflectionCache(), (FrameClassLoading) null);
+    }
+
+    @Test
+    public void testGeneratedClassMetrics() {
+        Assert.assertEquals(0, frameFactory.getGeneratedClassCount());
+        Assert.assertEquals(0, frameFactory.getGeneratedBytecodeSize());
+        frameFactory.create(fg.addFramedVertex().getElement(), God.class);
+        Assert.assertEquals(0, frameFactory.getGeneratedClassCount());
+        frameFactory.create(fg.addFramedVertex().getElement(), Friend.class);
+        frameFactory.create(fg.addFramedVertex().getElement(), Friend.class);
+        Assert.assertEquals(1, frameFactory.getGeneratedClassCount());
+        Assert.assertTrue(frameFactory.getGeneratedBytecodeSize() > 0);
+    }
+
+    @Test
+    public void testImplementationName() {
+        Assert.assertEquals("com.syncleus.ferma.annotations.GodImpl", AbstractAnnotationFrameFactory.getImplementationName(God.class));
+        Assert.assertEquals("java.util.Map_EntryImpl", AbstractAnnotationFrameFactory.getImplementationName(java.util.Map.Entry.class));
+    }
+
     @Test (expected = IllegalStateException.class)
     public void testBadElementInterfaceFrame() {
         Element badElement = Mockito.mock(Element.class);
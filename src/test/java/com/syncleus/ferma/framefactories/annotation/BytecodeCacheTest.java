@@ -0,0 +1,137 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.framefactories.annotation;
+
+import com.syncleus.ferma.DelegatingFramedGraph;
+import com.syncleus.ferma.EdgeFrame;
+import com.syncleus.ferma.FramedGraph;
+import com.syncleus.ferma.ReflectionCache;
+import com.syncleus.ferma.annotations.Friend;
+import com.syncleus.ferma.typeresolvers.PolymorphicTypeResolver;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BytecodeCacheTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private Path directory;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = folder.newFolder("frames").toPath();
+    }
+
+    @Test
+    public void testWarmStart() throws IOException {
+        AnnotationFrameFactory coldFactory = newFactory(FrameClassLoading.SHARED);
+        Class<?> coldClass = frameFriend(coldFactory);
+        Assert.assertEquals(1, coldFactory.getGeneratedClassCount());
+        Assert.assertEquals(0, coldFactory.getCachedClassCount());
+        Assert.assertEquals(1, classFiles().size());
+        Assert.assertEquals(coldClass.getName() + ".class", classFiles().get(0).getFileName().toString());
+
+        AnnotationFrameFactory warmFactory = newFactory(FrameClassLoading.SHARED);
+        Class<?> warmClass = frameFriend(warmFactory);
+        Assert.assertEquals(0, warmFactory.getGeneratedClassCount());
+        Assert.assertEquals(1, warmFactory.getCachedClassCount());
+        Assert.assertEquals(coldClass.getName(), warmClass.getName());
+        Assert.assertNotSame(coldClass, warmClass);
+    }
+
+    @Test
+    public void testWarmStartWrapper() throws IOException {
+        frameFriend(newFactory(FrameClassLoading.WRAPPER));
+        AnnotationFrameFactory warmFactory = newFactory(FrameClassLoading.WRAPPER);
+        frameFriend(warmFactory);
+        Assert.assertEquals(1, warmFactory.getCachedClassCount());
+    }
+
+    @Test
+    public void testWarmStartInjection() throws IOException {
+        Class<?> coldClass = frameFriend(newFactory(FrameClassLoading.INJECTION));
+        AnnotationFrameFactory warmFactory = newFactory(FrameClassLoading.INJECTION);
+        Assert.assertSame(coldClass, frameFriend(warmFactory));
+        Assert.assertEquals(0, warmFactory.getGeneratedClassCount());
+    }
+
+    @Test
+    public void testCorruptClassFileRegenerated() throws IOException {
+        frameFriend(newFactory(FrameClassLoading.SHARED));
+        Path classFile = classFiles().get(0);
+        Files.write(classFile, new byte[] {1, 2, 3, 4, 5});
+
+        AnnotationFrameFactory factory = newFactory(FrameClassLoading.SHARED);
+        frameFriend(factory);
+        Assert.assertEquals(1, factory.getGeneratedClassCount());
+        Assert.assertEquals(0, factory.getCachedClassCount());
+        Assert.assertEquals(0xCA, Files.readAllBytes(classFile)[0] & 0xFF);
+    }
+
+    @Test
+    public void testStaleClassFileEvicted() throws IOException {
+        Path staleFile = directory.resolve(Friend.class.getName() + AbstractAnnotationFrameFactory.FRAME_CLASS_INFIX + "0000000000000000.class");
+        Files.write(staleFile, new byte[] {1, 2, 3, 4, 5});
+
+        frameFriend(newFactory(FrameClassLoading.SHARED));
+        Assert.assertFalse(Files.exists(staleFile));
+        Assert.assertEquals(1, classFiles().size());
+    }
+
+    @Test
+    public void testFermaVersion() {
+        Assert.assertNotNull(BytecodeCache.getFermaVersion());
+        Assert.assertFalse(BytecodeCache.getFermaVersion().contains("${"));
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testNullDirectory() {
+        new BytecodeCache(null);
+    }
+
+    private AnnotationFrameFactory newFactory(FrameClassLoading classLoading) {
+        return new AnnotationFrameFactory(new ReflectionCache(), classLoading, new BytecodeCache(directory));
+    }
+
+    private static Class<?> frameFriend(AnnotationFrameFactory factory) {
+        FramedGraph framedGraph = new DelegatingFramedGraph<>(TinkerGraph.open(), factory, new PolymorphicTypeResolver());
+        Friend friend = framedGraph.addFramedVertex(Friend.class);
+        Friend other = framedGraph.addFramedVertex(Friend.class);
+        EdgeFrame knows = friend.addKnows(other);
+        Assert.assertEquals("knows", knows.getLabel());
+        Assert.assertEquals(other.getElement(), knows.getElement().inVertex());
+        Assert.assertTrue(knows.getElement().outVertex() instanceof Vertex);
+        return friend.getClass();
+    }
+
+    private List<Path> classFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".class")).collect(Collectors.toList());
+        }
+    }
+}
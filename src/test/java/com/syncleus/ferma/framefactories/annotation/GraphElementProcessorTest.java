@@ -0,0 +1,67 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.framefactories.annotation;
+
+import com.syncleus.ferma.ReflectionCache;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GraphElementProcessorTest {
+
+    private static final String SOURCE = "package model;\n"
+            + "@com.syncleus.ferma.annotations.GraphElement\n"
+            + "public abstract class Planet extends com.syncleus.ferma.AbstractVertexFrame {\n"
+            + "    @com.syncleus.ferma.annotations.Property(\"name\")\n"
+            + "    public abstract String getName();\n"
+            + "}\n";
+
+    private static Path compile(final String... options) throws IOException {
+        final Path directory = Files.createTempDirectory("ferma-processor");
+        final Path source = directory.resolve("Planet.java");
+        Files.write(source, SOURCE.getBytes(StandardCharsets.UTF_8));
+
+        final List<String> arguments = new ArrayList<>(Arrays.asList(options));
+        arguments.addAll(Arrays.asList("-classpath", System.getProperty("java.class.path"), "-processor", GraphElementProcessor.class.getName(), "-d", directory.toString(), source.toString()));
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Assert.assertEquals(0, compiler.run(null, null, null, arguments.toArray(new String[arguments.size()])));
+        return directory;
+    }
+
+    @Test
+    public void testDisabledByDefault() throws IOException {
+        final Path output = compile();
+        Assert.assertTrue(Files.exists(output.resolve("model" + File.separator + "Planet.class")));
+        Assert.assertFalse(Files.exists(output.resolve("model" + File.separator + "Planet" + AbstractAnnotationFrameFactory.IMPLEMENTATION_SUFFIX + ".class")));
+        Assert.assertFalse(Files.exists(output.resolve(ReflectionCache.MODEL_INDEX)));
+    }
+
+    @Test
+    public void testEnabledByOption() throws IOException {
+        final Path output = compile("-A" + GraphElementProcessor.GENERATE_OPTION + "=true");
+        Assert.assertTrue(Files.exists(output.resolve("model" + File.separator + "Planet" + AbstractAnnotationFrameFactory.IMPLEMENTATION_SUFFIX + ".class")));
+        Assert.assertTrue(Files.exists(output.resolve(ReflectionCache.MODEL_INDEX)));
+    }
+}
@@ -17,10 +17,14 @@ package com.syncleus.ferma.graphtypes.network;
 
 import com.syncleus.ferma.ClassInitializer;
 import com.syncleus.ferma.DefaultClassInitializer;
+import com.syncleus.ferma.EdgeFrame;
 import com.syncleus.ferma.VertexFrame;
 import com.syncleus.ferma.annotations.Adjacency;
+import com.syncleus.ferma.annotations.Incidence;
 import com.syncleus.ferma.annotations.Property;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 
 /**
@@ -104,4 +108,25 @@ public interface ComputerVertex extends NetworkDeviceVertex {
     @Adjacency(label = "connects", direction = Direction.OUT, operation = Adjacency.Operation.REMOVE)
     <T extends NetworkDeviceVertex> void removeOutConnections();
     
+
+    @Adjacency(label = "connects", direction = Direction.OUT)
+    long countOutConnections();
+
+    @Adjacency(label = "connects", direction = Direction.IN)
+    boolean hasInConnections();
+
+    @Adjacency(label = "connects", direction = Direction.OUT)
+    List<? extends VertexFrame> getOutConnections(int limit);
+
+    @Adjacency(label = "connects", direction = Direction.OUT)
+    <T extends NetworkDeviceVertex> Set<? extends T> getOutConnections(Class<? extends T> type, int limit);
+
+    @Incidence(label = "connects", direction = Direction.OUT)
+    int countOutConnectionEdges();
+
+    @Incidence(label = "connects", direction = Direction.OUT)
+    boolean hasOutConnectionEdges();
+
+    @Incidence(label = "connects", direction = Direction.OUT)
+    Iterator<? extends EdgeFrame> getOutConnectionEdges(int limit);
 }
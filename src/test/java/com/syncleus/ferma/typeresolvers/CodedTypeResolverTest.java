@@ -0,0 +1,273 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.typeresolvers;
+
+import com.syncleus.ferma.DelegatingFramedGraph;
+import com.syncleus.ferma.FramedGraph;
+import com.syncleus.ferma.Person;
+import com.syncleus.ferma.Programmer;
+import com.syncleus.ferma.ReflectionCache;
+import com.syncleus.ferma.framefactories.DefaultFrameFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Transaction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.AbstractThreadLocalTransaction;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CodedTypeResolverTest {
+
+    private Graph graph;
+    private ReflectionCache reflectionCache;
+    private CodedTypeResolver resolver;
+
+    @Before
+    public void setUp() {
+        graph = TinkerGraph.open();
+        reflectionCache = new ReflectionCache(Arrays.asList(Person.class, Programmer.class));
+        resolver = new CodedTypeResolver(graph, reflectionCache);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        graph.close();
+    }
+
+    @Test
+    public void testInitStoresCode() {
+        Vertex vertex = graph.addVertex();
+        resolver.init(vertex, Programmer.class);
+        Object typeValue = vertex.value(CodedTypeResolver.TYPE_RESOLUTION_KEY);
+        Assert.assertEquals(Integer.toString(resolver.getCode(Programmer.class)), typeValue);
+        Assert.assertEquals(Programmer.class, resolver.resolve(vertex));
+        Assert.assertEquals(Programmer.class, resolver.resolve(vertex, Person.class));
+        resolver.deinit(vertex);
+        Assert.assertNull(resolver.resolve(vertex));
+    }
+
+    @Test
+    public void testCodesPersisted() {
+        int personCode = resolver.getCode(Person.class);
+        int programmerCode = resolver.getCode(Programmer.class);
+        Assert.assertNotEquals(personCode, programmerCode);
+        Assert.assertEquals(personCode, resolver.getCode(Person.class));
+
+        CodedTypeResolver reopened = new CodedTypeResolver(graph, reflectionCache);
+        Assert.assertEquals(personCode, reopened.getCode(Person.class));
+        Assert.assertEquals(programmerCode, reopened.getCode(Programmer.class));
+        Assert.assertEquals(Programmer.class, reopened.getType(programmerCode));
+        Assert.assertNotEquals(programmerCode, reopened.getCode(List.class));
+    }
+
+    @Test (expected = IllegalStateException.class)
+    public void testUnknownCode() {
+        resolver.getType(42);
+    }
+
+    @Test
+    public void testReadsClassNames() {
+        Vertex vertex = graph.addVertex();
+        vertex.property(CodedTypeResolver.TYPE_RESOLUTION_KEY, Programmer.class.getName());
+        Assert.assertEquals(Programmer.class, resolver.resolve(vertex));
+    }
+
+    @Test
+    public void testHasType() {
+        FramedGraph framedGraph = new DelegatingFramedGraph<>(graph, new DefaultFrameFactory(), resolver);
+        framedGraph.addFramedVertex(Programmer.class);
+        framedGraph.addFramedVertex(Person.class);
+        graph.addVertex().property(CodedTypeResolver.TYPE_RESOLUTION_KEY, Programmer.class.getName());
+        graph.addVertex();
+
+        Assert.assertEquals(3, framedGraph.traverse(input -> resolver.hasType(input.V(), Person.class)).toList(Person.class).size());
+        Assert.assertEquals(2, framedGraph.traverse(input -> resolver.hasType(input.V(), Programmer.class)).toList(Programmer.class).size());
+        Assert.assertEquals(2, framedGraph.traverse(input -> resolver.hasNotType(input.V(), Programmer.class)).toList(Person.class).size());
+        Assert.assertTrue(framedGraph.traverse(input -> resolver.hasType(input.V(), Person.class)).next(Person.class) instanceof Person);
+    }
+
+    @Test
+    public void testHasNotTypeWithoutLambda() {
+        Assert.assertFalse(TraversalHelper.hasStepOfAssignableClassRecursively(LambdaHolder.class, resolver.hasNotType(graph.traversal().V(), Person.class).asAdmin()));
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testNullGraph() {
+        new CodedTypeResolver(null, reflectionCache);
+    }
+
+    @Test
+    public void testTypeValuesAreStrings() {
+        graph.addVertex().property(CodedTypeResolver.TYPE_RESOLUTION_KEY, Programmer.class.getName());
+        resolver.init(graph.addVertex(), Programmer.class);
+        HasContainerHolder hasType = (HasContainerHolder) TraversalHelper.getLastStepOfAssignableClass(HasContainerHolder.class, resolver.hasType(graph.traversal().V(), Programmer.class).asAdmin()).get();
+        Collection<?> typeValues = (Collection<?>) hasType.getHasContainers().get(0).getValue();
+        Assert.assertTrue(typeValues.contains(Programmer.class.getName()));
+        Assert.assertTrue(typeValues.contains(Integer.toString(resolver.getCode(Programmer.class))));
+        Assert.assertTrue(typeValues.stream().allMatch(String.class::isInstance));
+        Assert.assertEquals(2L, (long) resolver.hasType(graph.traversal().V(), Programmer.class).count().next());
+    }
+
+    @Test
+    public void testRegistryKeptOutOfElements() {
+        int programmerCode = resolver.getCode(Programmer.class);
+        Assert.assertEquals(Programmer.class.getName(), graph.variables().get(CodedTypeResolver.REGISTRY_KEY_PREFIX + programmerCode).get());
+        Assert.assertEquals(0L, (long) graph.traversal().V().count().next());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testGraphWithoutVariables() {
+        new CodedTypeResolver(withFeatures(graph, false, false, false), reflectionCache);
+    }
+
+    @Test
+    public void testCodeForgottenOnRollback() {
+        Graph transactional = withFeatures(graph, true, true, false);
+        CodedTypeResolver transactionalResolver = new CodedTypeResolver(transactional, reflectionCache);
+
+        int rolledBack = transactionalResolver.getCode(Person.class);
+        Assert.assertEquals(rolledBack, transactionalResolver.getCode(Person.class));
+        Assert.assertEquals(Person.class, transactionalResolver.getType(rolledBack));
+        transactional.tx().rollback();
+
+        int committed = transactionalResolver.getCode(Person.class);
+        Assert.assertNotEquals(rolledBack, committed);
+        transactional.tx().commit();
+        Assert.assertEquals(committed, transactionalResolver.getCode(Person.class));
+        Assert.assertEquals(Person.class, transactionalResolver.getType(committed));
+    }
+
+    @Test
+    public void testTransactionListenerRemoved() {
+        Graph transactional = withFeatures(graph, true, true, false);
+        CodedTypeResolver transactionalResolver = new CodedTypeResolver(transactional, reflectionCache);
+        List<Consumer<Transaction.Status>> listeners = new ArrayList<>();
+        Transaction transaction = (Transaction) Proxy.newProxyInstance(Transaction.class.getClassLoader(), new Class<?>[] {Transaction.class}, (proxy, method, args) -> {
+            if (method.getName().equals("addTransactionListener"))
+                listeners.add((Consumer<Transaction.Status>) args[0]);
+            else if (method.getName().equals("removeTransactionListener"))
+                listeners.remove(args[0]);
+            return method.invoke(transactional.tx(), args);
+        });
+        Graph observed = (Graph) Proxy.newProxyInstance(Graph.class.getClassLoader(), new Class<?>[] {Graph.class}, (proxy, method, args) ->
+                method.getName().equals("tx") ? transaction : method.invoke(transactional, args));
+        CodedTypeResolver observedResolver = new CodedTypeResolver(observed, reflectionCache);
+
+        observedResolver.getCode(Person.class);
+        observedResolver.getCode(Programmer.class);
+        Assert.assertEquals(1, listeners.size());
+        transactional.tx().commit();
+
+        observedResolver.getCode(List.class);
+        Assert.assertEquals(1, listeners.size());
+        transactional.tx().rollback();
+        Assert.assertEquals(Person.class, observedResolver.getType(observedResolver.getCode(Person.class)));
+    }
+
+    @Test
+    public void testCodeCommittedInThreadedTransaction() {
+        Graph threaded = withFeatures(graph, true, true, true);
+        CodedTypeResolver threadedResolver = new CodedTypeResolver(threaded, reflectionCache);
+
+        int code = threadedResolver.getCode(Person.class);
+        threaded.tx().rollback();
+        Assert.assertEquals(code, threadedResolver.getCode(Person.class));
+    }
+
+    /**
+     * Wraps a graph, reporting the given features. Transactions are not backed by the wrapped graph, committing and
+     * rolling back only notify the transaction listeners.
+     */
+    private static Graph withFeatures(final Graph graph, final boolean variables, final boolean transactions, final boolean threadedTransactions) {
+        final Graph.Features.VariableFeatures variableFeatures = new Graph.Features.VariableFeatures() {
+            @Override
+            public boolean supportsVariables() {
+                return variables;
+            }
+        };
+        final Graph.Features.GraphFeatures graphFeatures = new Graph.Features.GraphFeatures() {
+            @Override
+            public boolean supportsTransactions() {
+                return transactions;
+            }
+
+            @Override
+            public boolean supportsThreadedTransactions() {
+                return threadedTransactions;
+            }
+
+            @Override
+            public Graph.Features.VariableFeatures variables() {
+                return variableFeatures;
+            }
+        };
+        final Graph.Features features = new Graph.Features() {
+            @Override
+            public Graph.Features.GraphFeatures graph() {
+                return graphFeatures;
+            }
+        };
+        final Transaction[] transaction = new Transaction[1];
+        final Graph wrapped = (Graph) Proxy.newProxyInstance(Graph.class.getClassLoader(), new Class<?>[] {Graph.class}, (proxy, method, args) -> {
+            if (method.getName().equals("features"))
+                return features;
+            if (method.getName().equals("tx"))
+                return transaction[0];
+            try {
+                return method.invoke(graph, args);
+            }
+            catch (final InvocationTargetException caught) {
+                throw caught.getCause();
+            }
+        });
+        transaction[0] = new AbstractThreadLocalTransaction(wrapped) {
+            @Override
+            protected void doOpen() {
+            }
+
+            @Override
+            protected void doCommit() {
+            }
+
+            @Override
+            protected void doRollback() {
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public <G extends Graph> G createThreadedTx() {
+                return (G) wrapped;
+            }
+        };
+        return wrapped;
+    }
+}
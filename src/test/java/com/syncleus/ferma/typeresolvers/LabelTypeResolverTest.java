@@ -0,0 +1,99 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.typeresolvers;
+
+import com.syncleus.ferma.DelegatingFramedGraph;
+import com.syncleus.ferma.FramedGraph;
+import com.syncleus.ferma.Person;
+import com.syncleus.ferma.Programmer;
+import com.syncleus.ferma.ReflectionCache;
+import com.syncleus.ferma.framefactories.DefaultFrameFactory;
+import java.util.Arrays;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LabelTypeResolverTest {
+
+    private Graph graph;
+    private LabelTypeResolver resolver;
+    private FramedGraph framedGraph;
+
+    @Before
+    public void setUp() {
+        graph = TinkerGraph.open();
+        resolver = new LabelTypeResolver(new ReflectionCache(Arrays.asList(Person.class, Programmer.class)));
+        framedGraph = new DelegatingFramedGraph<>(graph, new DefaultFrameFactory(), resolver);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        graph.close();
+    }
+
+    @Test
+    public void testCreatedWithLabel() {
+        Programmer programmer = framedGraph.addFramedVertex(Programmer.class);
+        Assert.assertEquals(Programmer.class.getName(), programmer.getElement().label());
+        Assert.assertFalse(programmer.getElement().properties().hasNext());
+        Assert.assertEquals(Programmer.class, resolver.resolve(programmer.getElement()));
+        Assert.assertEquals(Programmer.class, resolver.resolve(programmer.getElement(), Person.class));
+        Assert.assertTrue(framedGraph.getFramedVertex(Person.class, programmer.getId()) instanceof Programmer);
+    }
+
+    @Test
+    public void testCreatedWithLabelAndProperties() {
+        Person person = framedGraph.addFramedVertex(Person.DEFAULT_INITIALIZER, "name", "Julia");
+        Assert.assertEquals(Person.class.getName(), person.getElement().label());
+        Assert.assertEquals("Julia", person.getElement().value("name"));
+    }
+
+    @Test
+    public void testUntypedLabel() {
+        Vertex vertex = graph.addVertex();
+        Assert.assertNull(resolver.resolve(vertex));
+        Assert.assertEquals(Person.class, resolver.resolve(vertex, Person.class));
+        Assert.assertNull(resolver.resolve(vertex));
+    }
+
+    @Test
+    public void testHasType() {
+        framedGraph.addFramedVertex(Programmer.class);
+        framedGraph.addFramedVertex(Person.class);
+        graph.addVertex();
+
+        Assert.assertEquals(2, framedGraph.traverse(input -> resolver.hasType(input.V(), Person.class)).toList(Person.class).size());
+        Assert.assertEquals(1, framedGraph.traverse(input -> resolver.hasType(input.V(), Programmer.class)).toList(Programmer.class).size());
+        Assert.assertEquals(2, framedGraph.traverse(input -> resolver.hasNotType(input.V(), Programmer.class)).toList(Person.class).size());
+        Assert.assertTrue(framedGraph.traverse(input -> resolver.hasType(input.V(), Programmer.class)).next(Person.class) instanceof Programmer);
+    }
+
+    @Test
+    public void testHasNotTypeWithoutLambda() {
+        Assert.assertFalse(TraversalHelper.hasStepOfAssignableClassRecursively(LambdaHolder.class, resolver.hasNotType(graph.traversal().V(), Person.class).asAdmin()));
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testNullReflectionCache() {
+        new LabelTypeResolver(null);
+    }
+}
@@ -15,7 +15,14 @@
  */
 package com.syncleus.ferma.typeresolvers;
 
+import com.syncleus.ferma.Person;
+import com.syncleus.ferma.Programmer;
+import com.syncleus.ferma.ReflectionCache;
+import java.util.Arrays;
 import java.util.List;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
@@ -64,4 +71,20 @@ public class PolymorphicTypeResolverTest {
         resolver.deinit(emptyVertex);
         Assert.assertNull(resolver.resolve(emptyVertex));
     }
+
+    @Test
+    public void testHasNotType() {
+        PolymorphicTypeResolver typedResolver = new PolymorphicTypeResolver(new ReflectionCache(Arrays.asList(Person.class, Programmer.class)), TYPE_RESOLUTION_KEY);
+        graph.addVertex(TYPE_RESOLUTION_KEY, Person.class.getName());
+        graph.addVertex(TYPE_RESOLUTION_KEY, Programmer.class.getName());
+
+        Assert.assertEquals(2L, (long) typedResolver.hasNotType(graph.traversal().V(), Programmer.class).count().next());
+        Assert.assertEquals(1L, (long) typedResolver.hasNotType(graph.traversal().V(), Person.class).count().next());
+    }
+
+    @Test
+    public void testHasNotTypeWithoutLambda() {
+        GraphTraversal<Vertex, Vertex> traversal = resolver.hasNotType(graph.traversal().V(), Person.class);
+        Assert.assertFalse(TraversalHelper.hasStepOfAssignableClassRecursively(LambdaHolder.class, traversal.asAdmin()));
+    }
 }
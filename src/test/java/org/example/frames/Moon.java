@@ -0,0 +1,39 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.example.frames;
+
+import com.syncleus.ferma.VertexFrame;
+import com.syncleus.ferma.annotations.Adjacency;
+import com.syncleus.ferma.annotations.Property;
+
+import java.util.List;
+
+/**
+ * A frame type outside of Ferma's packages, standing in for the frames of an application.
+ */
+public interface Moon extends VertexFrame {
+    @Property("name")
+    String getName();
+
+    @Property("name")
+    void setName(String name);
+
+    @Adjacency(label = "orbits")
+    List<? extends Moon> getOrbits();
+
+    @Adjacency(label = "orbits")
+    Moon addOrbits(Moon moon);
+}